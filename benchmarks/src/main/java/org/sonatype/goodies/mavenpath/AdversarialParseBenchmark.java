@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Worst-case parse latency on crafted paths.
+ *
+ * Compare {@code parse} (no limits) and {@code parseLimited} ({@link MavenPathLimits#DEFAULT}) against
+ * {@code legacyRegex}, the artifact pattern the Maven-2 parser used before it was replaced by a scanner.
+ * Limited parsing should stay flat as {@code size} grows.
+ *
+ * @since ???
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdversarialParseBenchmark
+{
+  private static final Pattern LEGACY_ARTIFACT = Pattern.compile(
+      "^(?<group>.+)/(?<artifact>[^/]+)/(?<version>[^/]+)/(?<filename>\\k<artifact>-\\k<version>(-(?<classifier>[^.]+))?\\.(?<extension>.+))$"
+  );
+
+  private static final Pattern LEGACY_MAVEN1 = Pattern.compile(
+      "^(?<group>[^/]+)/(?<types>[^/]+s)/(?<filename>(?<artifact>\\D+|[a-z0-9-_]+)-(?<version>\\d.+)\\.(?<extension>\\D+(\\.md5|\\.sha1)?))$"
+  );
+
+  /**
+   * {@code slashes}: many short segments; {@code dashes}: long file name of dash-separated tokens;
+   * {@code backrefs}: repeated segments which partially match the artifact and version back-references.
+   */
+  @Param({"slashes", "dashes", "backrefs"})
+  public String shape;
+
+  @Param({"64", "512", "4096"})
+  public int size;
+
+  private String path;
+
+  @Setup
+  public void setup() {
+    StringBuilder buff = new StringBuilder();
+    switch (shape) {
+      case "slashes":
+        for (int i = 0; i < size; i++) {
+          buff.append("a/");
+        }
+        buff.append("a-a.jar.");
+        break;
+      case "dashes":
+        buff.append("g/jars/");
+        for (int i = 0; i < size; i++) {
+          buff.append("a-1");
+        }
+        buff.append('x');
+        break;
+      case "backrefs":
+        for (int i = 0; i < size / 8; i++) {
+          buff.append("a-a/");
+        }
+        for (int i = 0; i < size; i++) {
+          buff.append("a-a-");
+        }
+        buff.append('x');
+        break;
+      default:
+        throw new IllegalArgumentException(shape);
+    }
+    path = buff.toString();
+  }
+
+  @Benchmark
+  public MavenPath parse() {
+    return Maven2PathParser.parse(path);
+  }
+
+  @Benchmark
+  public MavenPath parseLimited() {
+    try {
+      return Maven2PathParser.parse(path, MavenPathLimits.DEFAULT);
+    }
+    catch (MavenPathRejectedException e) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public MavenPath parseMaven1() {
+    return Maven1PathParser.parse(path);
+  }
+
+  @Benchmark
+  public boolean legacyRegex() {
+    return LEGACY_ARTIFACT.matcher(path).matches();
+  }
+
+  @Benchmark
+  public boolean legacyMaven1Regex() {
+    return LEGACY_MAVEN1.matcher(path).matches();
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static org.sonatype.goodies.mavenpath.PathCorpus.MIXED;
+
+/**
+ * {@link Maven2PathBulkParser} scaling benchmarks; compare {@code parallelism} values for 1 to N cores.
+ *
+ * @since ???
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkParseBenchmark
+{
+  @Param({"1", "2", "4", "8"})
+  public int parallelism;
+
+  @Param({"1000000"})
+  public int size;
+
+  private List<String> paths;
+
+  private ForkJoinPool pool;
+
+  @Setup
+  public void setup() {
+    List<String> corpus = PathCorpus.get(MIXED);
+    paths = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      // vary group so paths are distinct
+      paths.add(i + "/" + corpus.get(i % corpus.size()));
+    }
+    pool = new ForkJoinPool(parallelism);
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public Maven2PathTable parseAll() {
+    return Maven2PathBulkParser.parseAll(paths, pool);
+  }
+
+  /**
+   * Baseline; single-threaded loop creating one object per path.
+   */
+  @Benchmark
+  public void parseLoop(final Blackhole blackhole) {
+    for (String path : paths) {
+      blackhole.consume(Maven2PathParser.parse(path));
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link ChecksumCalculator} single-pass versus one read per algorithm.
+ *
+ * @since ???
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChecksumBenchmark
+{
+  private static final Set<ChecksumType> TYPES = EnumSet.allOf(ChecksumType.class);
+
+  @Param({"65536", "67108864"})
+  public int size;
+
+  private Path file;
+
+  @Setup
+  public void setup() throws IOException {
+    byte[] bytes = new byte[size];
+    new Random(42).nextBytes(bytes);
+    file = Files.createTempFile("checksum", ".jar");
+    Files.write(file, bytes);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public Map<ChecksumType, String> singlePass() throws IOException {
+    return ChecksumCalculator.calculate(file, TYPES);
+  }
+
+  /**
+   * Baseline; reads the file once per algorithm with a fresh digest and buffer.
+   */
+  @Benchmark
+  public void readPerAlgorithm(final Blackhole blackhole) throws Exception {
+    for (ChecksumType type : TYPES) {
+      MessageDigest digest = MessageDigest.getInstance(type.algorithm);
+      byte[] buffer = new byte[8192];
+      try (InputStream input = Files.newInputStream(file)) {
+        int length;
+        while ((length = input.read(buffer)) != -1) {
+          digest.update(buffer, 0, length);
+        }
+      }
+      blackhole.consume(digest.digest());
+    }
+  }
+}
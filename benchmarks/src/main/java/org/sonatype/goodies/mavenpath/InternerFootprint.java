@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Compares retained heap of parsed paths with and without {@link MavenPathInterner}, and of
+ * {@link Maven2PathParser#parseCompact compact} paths.
+ *
+ * Run with: {@code java -cp benchmarks/target/benchmarks.jar org.sonatype.goodies.mavenpath.InternerFootprint}
+ *
+ * @since ???
+ */
+public final class InternerFootprint
+{
+  private static final String[] FILES = {
+      ".jar", ".jar.sha1", ".jar.md5", ".jar.asc", ".pom", ".pom.sha1", ".pom.md5", ".pom.asc", "-sources.jar"
+  };
+
+  private InternerFootprint() {
+    // empty
+  }
+
+  public static void main(final String[] args) {
+    int groups = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+    List<String> paths = corpus(groups);
+    System.out.printf("paths: %,d%n", paths.size());
+
+    long plain = retained(paths, Maven2PathParser::parse);
+    MavenPathInterner interner = new BoundedMavenPathInterner();
+    long interned = retained(paths, path -> Maven2PathParser.parse(path, interner));
+    long compact = retained(paths, Maven2PathParser::parseCompact);
+
+    System.out.printf("retained without interner: %,d bytes%n", plain);
+    System.out.printf("retained with interner:    %,d bytes%n", interned);
+    System.out.printf("savings:                   %.1f%%%n", 100.0 * (plain - interned) / plain);
+    System.out.printf("retained compact:          %,d bytes%n", compact);
+    System.out.printf("savings:                   %.1f%%%n", 100.0 * (plain - compact) / plain);
+  }
+
+  /**
+   * groups x 10 artifacts x 10 versions x files; so every coordinate repeats across sidecars.
+   */
+  private static List<String> corpus(final int groups) {
+    List<String> result = new ArrayList<>();
+    for (int g = 0; g < groups; g++) {
+      String group = "org/example/group" + g;
+      for (int a = 0; a < 10; a++) {
+        String artifact = "artifact-" + a;
+        for (int v = 0; v < 10; v++) {
+          String version = "1." + v + ".0";
+          for (String file : FILES) {
+            result.add(group + '/' + artifact + '/' + version + '/' + artifact + '-' + version + file);
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Approximate retained size of parsed paths, excluding the source path strings.
+   */
+  private static long retained(final List<String> paths, final Function<String, MavenPath> parser) {
+    long before = usedHeap();
+    MavenPath[] parsed = new MavenPath[paths.size()];
+    for (int i = 0; i < parsed.length; i++) {
+      parsed[i] = parser.apply(paths.get(i));
+    }
+    long after = usedHeap();
+    if (parsed[parsed.length - 1] == null) {
+      throw new IllegalStateException();
+    }
+    return after - before;
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 5; i++) {
+      System.gc();
+      try {
+        Thread.sleep(50);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
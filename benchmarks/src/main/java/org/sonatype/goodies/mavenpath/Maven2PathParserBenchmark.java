@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.sonatype.goodies.mavenpath.PathCorpus.CLASSIFIER;
+import static org.sonatype.goodies.mavenpath.PathCorpus.DEEP;
+import static org.sonatype.goodies.mavenpath.PathCorpus.INVALID;
+import static org.sonatype.goodies.mavenpath.PathCorpus.METADATA;
+import static org.sonatype.goodies.mavenpath.PathCorpus.MIXED;
+import static org.sonatype.goodies.mavenpath.PathCorpus.RELEASE;
+import static org.sonatype.goodies.mavenpath.PathCorpus.SIDECAR;
+import static org.sonatype.goodies.mavenpath.PathCorpus.SNAPSHOT;
+
+/**
+ * {@link Maven2PathParser} benchmarks.
+ *
+ * @since ???
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Maven2PathParserBenchmark
+{
+  @Param({RELEASE, SNAPSHOT, CLASSIFIER, SIDECAR, METADATA, DEEP, INVALID, MIXED})
+  public String corpus;
+
+  private String[] paths;
+
+  private byte[][] encoded;
+
+  private final MavenPathInterner interner = new BoundedMavenPathInterner();
+
+  private int index;
+
+  @Setup
+  public void setup() {
+    paths = PathCorpus.cycle(corpus);
+    encoded = new byte[paths.length][];
+    for (int i = 0; i < paths.length; i++) {
+      encoded[i] = paths[i].getBytes(StandardCharsets.UTF_8);
+    }
+  }
+
+  @Benchmark
+  public MavenPath parse() {
+    return Maven2PathParser.parse(paths[index++ & (paths.length - 1)]);
+  }
+
+  @Benchmark
+  public MavenPath parseInterned() {
+    return Maven2PathParser.parse(paths[index++ & (paths.length - 1)], interner);
+  }
+
+  /**
+   * Parse lazy view from bytes; only the artifactId is materialized.
+   */
+  @Benchmark
+  public String parseBytes() {
+    byte[] bytes = encoded[index++ & (encoded.length - 1)];
+    MavenPath path = Maven2PathParser.parse(bytes, 0, bytes.length);
+    return path instanceof ArtifactPath ? ((ArtifactPath) path).getArtifactId() : null;
+  }
+}
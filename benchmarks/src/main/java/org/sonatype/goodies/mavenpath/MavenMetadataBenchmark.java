@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * {@link MavenMetadataReader} and {@link MavenMetadataWriter} versus DOM on {@literal GA} metadata with many versions.
+ *
+ * Run with {@code -prof gc} to compare allocation.
+ *
+ * @since ???
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MavenMetadataBenchmark
+{
+  @Param({"100", "10000", "100000"})
+  public int versions;
+
+  private byte[] document;
+
+  private MavenMetadata update;
+
+  private DocumentBuilderFactory documentBuilderFactory;
+
+  private TransformerFactory transformerFactory;
+
+  @Setup
+  public void setup() throws IOException {
+    MavenMetadata metadata = new MavenMetadata();
+    metadata.setGroupId("org.example");
+    metadata.setArtifactId("example");
+    for (int i = 0; i < versions; i++) {
+      metadata.getVersions().add("1." + (i / 100) + "." + (i % 100));
+    }
+    metadata.setLatest(metadata.getVersions().get(versions - 1));
+    metadata.setRelease(metadata.getLatest());
+    metadata.setLastUpdated("20200101120000");
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    MavenMetadataWriter.write(metadata, output);
+    document = output.toByteArray();
+
+    update = new MavenMetadata();
+    update.getVersions().add("2.0.0");
+    update.setLatest("2.0.0");
+    update.setRelease("2.0.0");
+    update.setLastUpdated("20200102120000");
+
+    documentBuilderFactory = DocumentBuilderFactory.newInstance();
+    transformerFactory = TransformerFactory.newInstance();
+  }
+
+  @Benchmark
+  public List<String> streamingRead() throws IOException {
+    return MavenMetadataReader.read(new ByteArrayInputStream(document)).getVersions();
+  }
+
+  @Benchmark
+  public byte[] streamingMerge() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream(document.length + 128);
+    MavenMetadataWriter.merge(new ByteArrayInputStream(document), output, update);
+    return output.toByteArray();
+  }
+
+  /**
+   * Baseline; loads the whole document and collects version text.
+   */
+  @Benchmark
+  public List<String> domRead() throws Exception {
+    Document dom = parse();
+    NodeList nodes = dom.getElementsByTagName("version");
+    List<String> result = new ArrayList<>(nodes.getLength());
+    for (int i = 0; i < nodes.getLength(); i++) {
+      result.add(nodes.item(i).getTextContent().trim());
+    }
+    return result;
+  }
+
+  /**
+   * Baseline; loads the whole document, appends the version if missing, updates fields and serializes.
+   */
+  @Benchmark
+  public byte[] domMerge() throws Exception {
+    Document dom = parse();
+    Element versioning = (Element) dom.getElementsByTagName("versioning").item(0);
+    Element versionsElement = (Element) versioning.getElementsByTagName("versions").item(0);
+    NodeList nodes = versionsElement.getElementsByTagName("version");
+    boolean present = false;
+    for (int i = 0; i < nodes.getLength() && !present; i++) {
+      present = "2.0.0".equals(nodes.item(i).getTextContent().trim());
+    }
+    if (!present) {
+      Element version = dom.createElement("version");
+      version.setTextContent("2.0.0");
+      versionsElement.appendChild(version);
+    }
+    setText(versioning, "latest", "2.0.0");
+    setText(versioning, "release", "2.0.0");
+    setText(versioning, "lastUpdated", "20200102120000");
+
+    Transformer transformer = transformerFactory.newTransformer();
+    transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+    ByteArrayOutputStream output = new ByteArrayOutputStream(document.length + 128);
+    transformer.transform(new DOMSource(dom), new StreamResult(output));
+    return output.toByteArray();
+  }
+
+  private Document parse() throws Exception {
+    DocumentBuilder builder = documentBuilderFactory.newDocumentBuilder();
+    return builder.parse(new ByteArrayInputStream(document));
+  }
+
+  private static void setText(final Element parent, final String name, final String value) {
+    Node node = parent.getElementsByTagName(name).item(0);
+    if (node != null) {
+      node.setTextContent(value);
+    }
+  }
+}
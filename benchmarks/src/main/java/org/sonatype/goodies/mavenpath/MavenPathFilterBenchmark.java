@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link MavenPathFilter} answering probes for paths which never existed, versus looking them up in a
+ * {@link MavenPathIndexFile}, standing in for a storage round-trip.
+ *
+ * @since ???
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MavenPathFilterBenchmark
+{
+  @Param({"1000000"})
+  public int count;
+
+  private String[] present;
+
+  /**
+   * Typo traffic; same layout as {@link #present} but never added.
+   */
+  private String[] absent;
+
+  private MavenPathFilter filter;
+
+  private MavenPathIndexFile index;
+
+  private Path file;
+
+  private int next;
+
+  @Setup
+  public void setup() throws IOException {
+    Random random = new Random(42);
+    List<MavenPath> paths = new ArrayList<>(count);
+    present = new String[1 << 16];
+    absent = new String[1 << 16];
+    for (int i = 0; i < count; i++) {
+      String path = Maven2PathHelper.artifactPath("org.example.group" + random.nextInt(100), "artifact" + i,
+          "1." + random.nextInt(50), null, "jar");
+      paths.add(Maven2PathParser.parse(path));
+      present[i & (present.length - 1)] = path;
+    }
+    for (int i = 0; i < absent.length; i++) {
+      absent[i] = Maven2PathHelper.artifactPath("org.example.group" + random.nextInt(100), "artifakt" + i,
+          "1." + random.nextInt(50), null, "jar");
+    }
+
+    filter = MavenPathFilter.create(count, 0.01);
+    paths.forEach(filter::add);
+    file = Files.createTempFile("paths", ".idx");
+    MavenPathIndexFile.write(file, paths);
+    index = MavenPathIndexFile.open(file);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public boolean filterAbsent() {
+    return filter.mightContain(absent[next++ & (absent.length - 1)]);
+  }
+
+  @Benchmark
+  public boolean filterPresent() {
+    return filter.mightContain(present[next++ & (present.length - 1)]);
+  }
+
+  /**
+   * Filter consulted right after parsing, as request handlers do.
+   */
+  @Benchmark
+  public boolean parseAndFilterAbsent() {
+    MavenPath path = Maven2PathParser.parse(absent[next++ & (absent.length - 1)]);
+    return path != null && filter.mightContain(path);
+  }
+
+  @Benchmark
+  public boolean indexAbsent() {
+    return index.contains(absent[next++ & (absent.length - 1)]);
+  }
+
+  @Benchmark
+  public boolean addFingerprint() {
+    return filter.addFingerprint(MavenPath.fingerprint(present[next++ & (present.length - 1)]));
+  }
+}
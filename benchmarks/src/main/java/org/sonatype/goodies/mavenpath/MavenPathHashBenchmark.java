@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Map-heavy workloads keyed by {@link MavenPath}: populating maps and probing them with equal but distinct instances,
+ * as repository indexes and de-duplication passes do.
+ *
+ * {@code legacy*} methods key by {@link LegacyKey}, which reproduces the previous {@code Objects.hash} and
+ * full-string {@code equals}.
+ *
+ * @since ???
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MavenPathHashBenchmark
+{
+  /**
+   * Previous {@link MavenPath} equality; hash recomputed through a varargs array and no hash check before comparing
+   * paths.
+   */
+  private static final class LegacyKey
+  {
+    private final MavenPath path;
+
+    private LegacyKey(final MavenPath path) {
+      this.path = path;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof LegacyKey)) {
+        return false;
+      }
+      return Objects.equals(path.getPath(), ((LegacyKey) o).path.getPath());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path.getPath());
+    }
+  }
+
+  @Param({"10000", "1000000"})
+  public int count;
+
+  private MavenPath[] keys;
+
+  /**
+   * Equal to {@link #keys} but distinct instances, so lookups exercise {@code equals}.
+   */
+  private MavenPath[] probes;
+
+  private LegacyKey[] legacyKeys;
+
+  private LegacyKey[] legacyProbes;
+
+  private Map<MavenPath, MavenPath> map;
+
+  private Map<LegacyKey, LegacyKey> legacyMap;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    keys = new MavenPath[count];
+    probes = new MavenPath[count];
+    legacyKeys = new LegacyKey[count];
+    legacyProbes = new LegacyKey[count];
+    map = new HashMap<>();
+    legacyMap = new HashMap<>();
+    for (int i = 0; i < count; i++) {
+      // shared group and version prefixes, as in a real repository
+      String path = "org/example/group" + random.nextInt(100) + "/artifact" + i + "/1." + random.nextInt(50) +
+          "/artifact" + i + "-1.0.jar";
+      keys[i] = Maven2PathParser.parse(path);
+      probes[i] = Maven2PathParser.parse(new String(path.toCharArray()));
+      legacyKeys[i] = new LegacyKey(keys[i]);
+      legacyProbes[i] = new LegacyKey(probes[i]);
+      map.put(keys[i], keys[i]);
+      legacyMap.put(legacyKeys[i], legacyKeys[i]);
+    }
+  }
+
+  @Benchmark
+  public Map<MavenPath, MavenPath> putHashMap() {
+    Map<MavenPath, MavenPath> result = new HashMap<>();
+    for (MavenPath key : keys) {
+      result.put(key, key);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public Map<LegacyKey, LegacyKey> legacyPutHashMap() {
+    Map<LegacyKey, LegacyKey> result = new HashMap<>();
+    for (LegacyKey key : legacyKeys) {
+      result.put(key, key);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public Map<MavenPath, MavenPath> putConcurrentHashMap() {
+    Map<MavenPath, MavenPath> result = new ConcurrentHashMap<>();
+    for (MavenPath key : keys) {
+      result.putIfAbsent(key, key);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public Map<LegacyKey, LegacyKey> legacyPutConcurrentHashMap() {
+    Map<LegacyKey, LegacyKey> result = new ConcurrentHashMap<>();
+    for (LegacyKey key : legacyKeys) {
+      result.putIfAbsent(key, key);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public int get() {
+    int found = 0;
+    for (MavenPath probe : probes) {
+      if (map.get(probe) != null) {
+        found++;
+      }
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int legacyGet() {
+    int found = 0;
+    for (LegacyKey probe : legacyProbes) {
+      if (legacyMap.get(probe) != null) {
+        found++;
+      }
+    }
+    return found;
+  }
+
+  @Benchmark
+  public long fingerprint() {
+    long result = 0;
+    for (MavenPath key : keys) {
+      result ^= key.getFingerprint();
+    }
+    return result;
+  }
+}
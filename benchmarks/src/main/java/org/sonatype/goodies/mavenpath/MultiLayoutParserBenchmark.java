@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.sonatype.goodies.mavenpath.PathCorpus.INVALID;
+import static org.sonatype.goodies.mavenpath.PathCorpus.MAVEN1;
+import static org.sonatype.goodies.mavenpath.PathCorpus.MIXED;
+
+/**
+ * {@link MultiLayoutMavenPathParser} routing by detected layout, versus trying the Maven-2 then Maven-1 parser.
+ *
+ * @since ???
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiLayoutParserBenchmark
+{
+  @Param({MIXED, MAVEN1, INVALID})
+  public String corpus;
+
+  private String[] paths;
+
+  private MultiLayoutMavenPathParser parser;
+
+  private int index;
+
+  @Setup
+  public void setup() {
+    paths = PathCorpus.cycle(corpus);
+    parser = MultiLayoutMavenPathParser.create();
+  }
+
+  @Benchmark
+  public MavenPath dispatch() {
+    return parser.parse(paths[index++ & (paths.length - 1)]);
+  }
+
+  @Benchmark
+  public MavenPath legacyChain() {
+    String path = paths[index++ & (paths.length - 1)];
+    MavenPath result = Maven2PathParser.parse(path);
+    return result != null ? result : Maven1PathParser.parse(path);
+  }
+}
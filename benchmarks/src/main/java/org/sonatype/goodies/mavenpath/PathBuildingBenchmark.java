@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.sonatype.goodies.mavenpath.PathCorpus.CLASSIFIER;
+import static org.sonatype.goodies.mavenpath.PathCorpus.DEEP;
+import static org.sonatype.goodies.mavenpath.PathCorpus.RELEASE;
+import static org.sonatype.goodies.mavenpath.PathCorpus.SIDECAR;
+import static org.sonatype.goodies.mavenpath.PathCorpus.SNAPSHOT;
+
+/**
+ * {@link Maven2PathFactory} and {@link Maven2PathHelper} path-building benchmarks.
+ *
+ * {@code legacy*} methods reproduce the previous {@link StringBuilder} based building, with {@code insert(0, ...)}
+ * for factory paths and default-capacity builders for helper paths.
+ *
+ * @since ???
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathBuildingBenchmark
+{
+  private ArtifactPath[] artifacts;
+
+  private SnapshotArtifactPath[] snapshots;
+
+  private int index;
+
+  private final StringBuilder appendable = new StringBuilder(256);
+
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+
+  @Setup
+  public void setup() {
+    List<ArtifactPath> releases = new ArrayList<>();
+    List<SnapshotArtifactPath> timestamped = new ArrayList<>();
+    for (String name : new String[]{RELEASE, CLASSIFIER, SIDECAR, DEEP, SNAPSHOT}) {
+      for (String path : PathCorpus.get(name)) {
+        MavenPath parsed = Maven2PathParser.parse(path);
+        if (parsed instanceof SnapshotArtifactPath) {
+          timestamped.add((SnapshotArtifactPath) parsed);
+        }
+        else if (parsed instanceof ArtifactPath) {
+          releases.add((ArtifactPath) parsed);
+        }
+      }
+    }
+    artifacts = cycle(releases.toArray(new ArtifactPath[0]));
+    snapshots = cycle(timestamped.toArray(new SnapshotArtifactPath[0]));
+  }
+
+  private static <T> T[] cycle(final T[] values) {
+    int size = Integer.highestOneBit(Math.max(1, values.length - 1)) << 1;
+    T[] result = Arrays.copyOf(values, Math.max(size, 16));
+    for (int i = values.length; i < result.length; i++) {
+      result[i] = values[i % values.length];
+    }
+    return result;
+  }
+
+  @Benchmark
+  public ArtifactPath createArtifact() {
+    ArtifactPath path = artifacts[index++ & (artifacts.length - 1)];
+    return Maven2PathFactory.createArtifact(
+        path.getGroupId(),
+        path.getArtifactId(),
+        path.getVersion(),
+        path.getClassifier(),
+        path.getExtension()
+    );
+  }
+
+  @Benchmark
+  public SnapshotArtifactPath createSnapshotArtifact() {
+    SnapshotArtifactPath path = snapshots[index++ & (snapshots.length - 1)];
+    return Maven2PathFactory.createSnapshotArtifact(
+        path.getGroupId(),
+        path.getArtifactId(),
+        path.getBaseVersion(),
+        path.getVersion(),
+        path.getTimestamp(),
+        path.getBuild(),
+        path.getClassifier(),
+        path.getExtension()
+    );
+  }
+
+  @Benchmark
+  public String artifactPath() {
+    ArtifactPath path = artifacts[index++ & (artifacts.length - 1)];
+    return Maven2PathHelper.artifactPath(
+        path.getGroupId(),
+        path.getArtifactId(),
+        path.getVersion(),
+        path.getClassifier(),
+        path.getExtension()
+    );
+  }
+
+  @Benchmark
+  public StringBuilder appendArtifactPath() throws IOException {
+    ArtifactPath path = artifacts[index++ & (artifacts.length - 1)];
+    appendable.setLength(0);
+    Maven2PathHelper.appendArtifactPath(
+        appendable,
+        path.getGroupId(),
+        path.getArtifactId(),
+        path.getVersion(),
+        path.getClassifier(),
+        path.getExtension()
+    );
+    return appendable;
+  }
+
+  @Benchmark
+  public ByteBuffer putArtifactPath() {
+    ArtifactPath path = artifacts[index++ & (artifacts.length - 1)];
+    buffer.clear();
+    Maven2PathHelper.putArtifactPath(
+        buffer,
+        path.getGroupId(),
+        path.getArtifactId(),
+        path.getVersion(),
+        path.getClassifier(),
+        path.getExtension()
+    );
+    return buffer;
+  }
+
+  @Benchmark
+  public ArtifactPath legacyCreateArtifact() {
+    ArtifactPath path = artifacts[index++ & (artifacts.length - 1)];
+    StringBuilder buff = new StringBuilder();
+    buff.append(path.getArtifactId());
+    buff.append('-').append(path.getVersion());
+    if (path.getClassifier() != null) {
+      buff.append('-').append(path.getClassifier());
+    }
+    buff.append('.').append(path.getExtension());
+    String fileName = buff.toString();
+
+    buff.insert(0, '/').insert(0, path.getVersion());
+    buff.insert(0, '/').insert(0, path.getArtifactId());
+    buff.insert(0, '/').insert(0, path.getGroupId().replace('.', '/'));
+
+    return new ArtifactPath(buff.toString(), fileName, path.getGroupId(), path.getArtifactId(), path.getVersion(),
+        path.getClassifier(), path.getExtension());
+  }
+
+  @Benchmark
+  public String legacyArtifactPath() {
+    ArtifactPath path = artifacts[index++ & (artifacts.length - 1)];
+    StringBuilder buff = new StringBuilder();
+    buff.append(path.getGroupId().replace('.', '/'))
+        .append('/')
+        .append(path.getArtifactId())
+        .append('/')
+        .append(path.getVersion())
+        .append('/')
+        .append(path.getArtifactId())
+        .append('-')
+        .append(path.getVersion());
+    if (path.getClassifier() != null) {
+      buff.append('-')
+          .append(path.getClassifier());
+    }
+    buff.append('.')
+        .append(path.getExtension());
+    return buff.toString();
+  }
+}
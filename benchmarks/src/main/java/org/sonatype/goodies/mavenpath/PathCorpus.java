@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Realistic repository path corpora for benchmarks.
+ *
+ * @since ???
+ */
+public final class PathCorpus
+{
+  public static final String RELEASE = "release";
+
+  public static final String SNAPSHOT = "snapshot";
+
+  public static final String CLASSIFIER = "classifier";
+
+  public static final String SIDECAR = "sidecar";
+
+  public static final String METADATA = "metadata";
+
+  public static final String DEEP = "deep";
+
+  public static final String INVALID = "invalid";
+
+  public static final String MIXED = "mixed";
+
+  public static final String MAVEN1 = "maven1";
+
+  private static final List<String> RELEASES = Arrays.asList(
+      "junit/junit/4.13.2/junit-4.13.2.jar",
+      "junit/junit/4.13.2/junit-4.13.2.pom",
+      "commons-io/commons-io/2.11.0/commons-io-2.11.0.jar",
+      "com/google/guava/guava/31.1-jre/guava-31.1-jre.jar",
+      "org/slf4j/slf4j-api/1.7.36/slf4j-api-1.7.36.pom",
+      "com/fasterxml/jackson/core/jackson-databind/2.13.4.2/jackson-databind-2.13.4.2.jar",
+      "org/apache/commons/commons-lang3/3.12.0/commons-lang3-3.12.0.jar",
+      "org/apache/maven/plugins/maven-compiler-plugin/3.8.1/maven-compiler-plugin-3.8.1.pom"
+  );
+
+  private static final List<String> SNAPSHOTS = Arrays.asList(
+      "org/sonatype/goodies/maven-path/1.0.0-SNAPSHOT/maven-path-1.0.0-20210610.231540-3.jar",
+      "org/sonatype/goodies/maven-path/1.0.0-SNAPSHOT/maven-path-1.0.0-20210610.231540-3.pom",
+      "com/example/app/2.1-SNAPSHOT/app-2.1-20191029.053716-17.war",
+      "com/example/app/2.1-SNAPSHOT/app-2.1-20191029.053716-17-tests.jar",
+      "org/apache/maven/maven-core/4.0.0-alpha-1-SNAPSHOT/maven-core-4.0.0-alpha-1-20220101.120000-102.jar",
+      "com/example/app/2.1-SNAPSHOT/app-2.1-SNAPSHOT.jar"
+  );
+
+  private static final List<String> CLASSIFIERS = Arrays.asList(
+      "junit/junit/4.13.2/junit-4.13.2-sources.jar",
+      "junit/junit/4.13.2/junit-4.13.2-javadoc.jar",
+      "io/netty/netty-transport-native-epoll/4.1.86.Final/netty-transport-native-epoll-4.1.86.Final-linux-x86_64.jar",
+      "org/lwjgl/lwjgl/3.3.1/lwjgl-3.3.1-natives-windows.jar",
+      "com/example/dist/1.0/dist-1.0-bin.tar.gz",
+      "org/sonatype/goodies/maven-path/1.0.0-SNAPSHOT/maven-path-1.0.0-20210610.231540-3-sources.jar"
+  );
+
+  private static final List<String> SIDECARS = Arrays.asList(
+      "junit/junit/4.13.2/junit-4.13.2.jar.sha1",
+      "junit/junit/4.13.2/junit-4.13.2.jar.md5",
+      "junit/junit/4.13.2/junit-4.13.2.pom.sha256",
+      "junit/junit/4.13.2/junit-4.13.2.pom.sha512",
+      "junit/junit/4.13.2/junit-4.13.2.jar.asc",
+      "junit/junit/4.13.2/junit-4.13.2.jar.asc.sha1",
+      "com/example/dist/1.0/dist-1.0-bin.tar.gz.md5",
+      "org/sonatype/goodies/maven-path/1.0.0-SNAPSHOT/maven-path-1.0.0-20210610.231540-3.jar.sha1"
+  );
+
+  private static final List<String> METADATAS = Arrays.asList(
+      "org/apache/maven/plugins/maven-metadata.xml",
+      "org/apache/maven/plugins/maven-metadata.xml.sha1",
+      "junit/junit/maven-metadata.xml",
+      "commons-io/commons-io/maven-metadata.xml.md5",
+      "com/google/guava/guava/maven-metadata.xml",
+      "org/sonatype/goodies/maven-path/1.0.0-SNAPSHOT/maven-metadata.xml",
+      "org/sonatype/goodies/maven-path/1.0.0-SNAPSHOT/maven-metadata.xml.sha1"
+  );
+
+  private static final List<String> DEEPS = Arrays.asList(
+      "org/eclipse/jetty/websocket/jetty/websocket/server/internal/websocket-core-server/11.0.13/websocket-core-server-11.0.13.jar",
+      "com/amazonaws/services/aws/java/sdk/dynamodb/streams/kinesis/adapter/1.5.4/adapter-1.5.4.pom",
+      "io/opentelemetry/javaagent/instrumentation/opentelemetry-javaagent-kafka-clients-0.11/1.21.0-alpha-SNAPSHOT/opentelemetry-javaagent-kafka-clients-0.11-1.21.0-alpha-20221215.101010-7.jar",
+      "org/eclipse/jetty/websocket/jetty/websocket/server/internal/websocket-core-server/11.0.13/websocket-core-server-11.0.13.jar.sha1"
+  );
+
+  private static final List<String> INVALIDS = Arrays.asList(
+      "",
+      "/junit/junit/4.13.2/junit-4.13.2.jar",
+      "junit/junit/4.13.2/",
+      "junit/junit/4.13.2/junit-4.13.1.jar",
+      "junit/4.13.2/junit-4.13.2.jar",
+      "robots.txt",
+      "index.html",
+      "archetype-catalog.xml",
+      ".meta/prefixes.txt",
+      "org/apache/maven/plugins/maven-compiler-plugin/3.8.1/maven-compiler-plugin-3.8.jar",
+      "com/example/app/2.1-SNAPSHOT/app-2.1-2019-17.war",
+      "some/stupid/path/more/in/it"
+  );
+
+  private static final List<String> MAVEN1S = Arrays.asList(
+      "activecluster/poms/activecluster-1.0-SNAPSHOT.pom",
+      "org.jruby/javadocs/jruby-1.0RC1-SNAPSHOT-javadoc.jar",
+      "org.jruby/jars/jruby-1.0RC1-SNAPSHOT.jar.md5",
+      "org.jruby/jars/jruby-1.0.jar",
+      "maven/jars/dom4j-1.7-20060614.jar",
+      "maven/java-sources/velocity-1.5-SNAPSHOT-sources.jar",
+      "org.slf4j/poms/slf4j-log4j12-1.4.3.pom",
+      "castor/ejbs/castor-ejb-1.0.7-SNAPSHOT-client.jar.sha1",
+      "some/stupid/path"
+  );
+
+  private PathCorpus() {
+    // empty
+  }
+
+  /**
+   * Returns the named corpus.
+   */
+  public static List<String> get(final String name) {
+    requireNonNull(name);
+    switch (name) {
+      case RELEASE:
+        return RELEASES;
+      case SNAPSHOT:
+        return SNAPSHOTS;
+      case CLASSIFIER:
+        return CLASSIFIERS;
+      case SIDECAR:
+        return SIDECARS;
+      case METADATA:
+        return METADATAS;
+      case DEEP:
+        return DEEPS;
+      case INVALID:
+        return INVALIDS;
+      case MAVEN1:
+        return MAVEN1S;
+      case MIXED: {
+        List<String> result = new ArrayList<>();
+        result.addAll(RELEASES);
+        result.addAll(SNAPSHOTS);
+        result.addAll(CLASSIFIERS);
+        result.addAll(SIDECARS);
+        result.addAll(METADATAS);
+        result.addAll(DEEPS);
+        result.addAll(INVALIDS);
+        return Collections.unmodifiableList(result);
+      }
+      default:
+        throw new IllegalArgumentException("Unknown corpus: " + name);
+    }
+  }
+
+  /**
+   * Returns the named corpus, repeated to a power-of-two length so callers can cycle with a mask.
+   */
+  public static String[] cycle(final String name) {
+    List<String> paths = get(name);
+    int size = Integer.highestOneBit(Math.max(1, paths.size() - 1)) << 1;
+    String[] result = new String[Math.max(size, 16)];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = paths.get(i % paths.size());
+    }
+    return result;
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.sonatype.goodies.mavenpath.PathCorpus.MIXED;
+import static org.sonatype.goodies.mavenpath.PathCorpus.RELEASE;
+import static org.sonatype.goodies.mavenpath.PathCorpus.SIDECAR;
+
+/**
+ * {@link ArtifactPath#isSubordinate(String)}, suffix classification and subordinate expansion benchmarks.
+ *
+ * {@code legacy*} methods reproduce the previous loop over {@code values()} with {@code "." + extension} matching,
+ * chained {@code pathOf} calls and re-parsing of primary paths.
+ *
+ * @since ???
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubordinateBenchmark
+{
+  @Param({RELEASE, SIDECAR, MIXED})
+  public String corpus;
+
+  private String[] fileNames;
+
+  private MavenPath[] parsed;
+
+  private int index;
+
+  @Setup
+  public void setup() {
+    String[] paths = PathCorpus.cycle(corpus);
+    fileNames = new String[paths.length];
+    for (int i = 0; i < paths.length; i++) {
+      fileNames[i] = paths[i].substring(paths[i].lastIndexOf('/') + 1);
+    }
+    List<MavenPath> valid = new ArrayList<>();
+    for (String path : paths) {
+      MavenPath value = Maven2PathParser.parse(path);
+      if (value != null) {
+        valid.add(value);
+      }
+    }
+    parsed = new MavenPath[paths.length];
+    for (int i = 0; i < parsed.length; i++) {
+      parsed[i] = valid.get(i % valid.size());
+    }
+  }
+
+  @Benchmark
+  public boolean isSubordinate() {
+    return ArtifactPath.isSubordinate(fileNames[index++ & (fileNames.length - 1)]);
+  }
+
+  @Benchmark
+  public boolean legacyIsSubordinate() {
+    String fileName = fileNames[index++ & (fileNames.length - 1)];
+    for (ChecksumType checksum : ChecksumType.values()) {
+      if (fileName.endsWith("." + checksum.extension)) {
+        return true;
+      }
+    }
+    for (SignatureType signature : SignatureType.values()) {
+      if (fileName.endsWith("." + signature.extension)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Benchmark
+  public ChecksumType checksumOfPath() {
+    return ChecksumType.ofPath(fileNames[index++ & (fileNames.length - 1)]);
+  }
+
+  @Benchmark
+  public ChecksumType legacyChecksumOfPath() {
+    String fileName = fileNames[index++ & (fileNames.length - 1)];
+    for (ChecksumType value : ChecksumType.values()) {
+      if (fileName.endsWith("." + value.extension)) {
+        return value;
+      }
+    }
+    return null;
+  }
+
+  @Benchmark
+  public int primaryLength() {
+    return Subordinates.primaryLength(fileNames[index++ & (fileNames.length - 1)]);
+  }
+
+  /**
+   * Fingerprints of the primary and all subordinate paths, without creating strings.
+   */
+  @Benchmark
+  public long expandSubordinates() {
+    SubordinatePaths paths = SubordinatePaths.of(parsed[index++ & (parsed.length - 1)].getPath());
+    long result = 0;
+    while (paths.next()) {
+      result ^= paths.getFingerprint();
+    }
+    return result;
+  }
+
+  @Benchmark
+  public long legacyExpandSubordinates() {
+    String path = parsed[index++ & (parsed.length - 1)].getPath();
+    String primary = path.substring(0, Subordinates.primaryLength(path));
+    long result = MavenPath.fingerprint(primary);
+    for (ChecksumType checksum : ChecksumType.values()) {
+      result ^= MavenPath.fingerprint(checksum.pathOf(primary));
+    }
+    for (SignatureType signature : SignatureType.values()) {
+      String signaturePath = signature.pathOf(primary);
+      result ^= MavenPath.fingerprint(signaturePath);
+      for (ChecksumType checksum : ChecksumType.values()) {
+        result ^= MavenPath.fingerprint(checksum.pathOf(signaturePath));
+      }
+    }
+    return result;
+  }
+
+  @Benchmark
+  public MavenPath primaryOf() {
+    return Subordinates.primaryOf(parsed[index++ & (parsed.length - 1)]);
+  }
+
+  @Benchmark
+  public MavenPath legacyPrimaryOf() {
+    String path = parsed[index++ & (parsed.length - 1)].getPath();
+    return Maven2PathParser.parse(path.substring(0, Subordinates.primaryLength(path)));
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sorting artifacts of one {@literal GA} by {@link ArtifactPath#getMavenVersion} versus re-tokenizing on every
+ * comparison.
+ *
+ * @since ???
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VersionSortBenchmark
+{
+  private static final String[] QUALIFIERS = {"", "", "", "-SNAPSHOT", "-alpha-1", "-beta2", "-rc1", ".Final", "-jre"};
+
+  private static final Comparator<ArtifactPath> CACHED = Comparator.comparing(ArtifactPath::getMavenVersion);
+
+  /**
+   * Baseline; tokenizes both versions on every comparison, as consumers with their own comparator do.
+   */
+  private static final Comparator<ArtifactPath> RETOKENIZING =
+      (a, b) -> new MavenVersion(a.getVersion()).compareTo(new MavenVersion(b.getVersion()));
+
+  @Param({"1000", "100000"})
+  public int count;
+
+  private List<ArtifactPath> paths;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    paths = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      String version = random.nextInt(20) + "." + random.nextInt(100) + "." + random.nextInt(1000) +
+          QUALIFIERS[random.nextInt(QUALIFIERS.length)];
+      paths.add(Maven2PathFactory.createArtifact("org.example", "example", version, null, "jar"));
+    }
+    Collections.shuffle(paths, random);
+  }
+
+  @Benchmark
+  public List<ArtifactPath> sortCachedKeys() {
+    List<ArtifactPath> result = new ArrayList<>(paths);
+    result.sort(CACHED);
+    return result;
+  }
+
+  @Benchmark
+  public List<ArtifactPath> legacySortRetokenizing() {
+    List<ArtifactPath> result = new ArrayList<>(paths);
+    result.sort(RETOKENIZING);
+    return result;
+  }
+}
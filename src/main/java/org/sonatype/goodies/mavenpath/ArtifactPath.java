@@ -39,6 +39,12 @@ public class ArtifactPath
 
   protected final String extension;
 
+  /**
+   * Lazily resolved from {@link MavenVersion#parse}; racy but idempotent, as {@link MavenVersion} is immutable.
+   */
+  @Nullable
+  private transient MavenVersion mavenVersion;
+
   public ArtifactPath(final String path,
                       final String fileName,
                       final String groupId,
@@ -55,6 +61,29 @@ public class ArtifactPath
     this.extension = requireNonNull(extension);
   }
 
+  /**
+   * Lazy view constructor; sub-classes must override all getters as fields are left {@code null}.
+   */
+  ArtifactPath() {
+    this.groupId = null;
+    this.artifactId = null;
+    this.version = null;
+    this.classifier = null;
+    this.extension = null;
+  }
+
+  /**
+   * Compact view constructor; sub-classes must override all getters but {@link #getPath()}.
+   */
+  ArtifactPath(final String path) {
+    super(path);
+    this.groupId = null;
+    this.artifactId = null;
+    this.version = null;
+    this.classifier = null;
+    this.extension = null;
+  }
+
   public String getGroupId() {
     return groupId;
   }
@@ -67,6 +96,18 @@ public class ArtifactPath
     return version;
   }
 
+  /**
+   * {@link #getVersion() Version} with its comparison key; shared by all paths of the same version.
+   */
+  public MavenVersion getMavenVersion() {
+    MavenVersion result = mavenVersion;
+    if (result == null) {
+      result = MavenVersion.parse(getVersion());
+      mavenVersion = result;
+    }
+    return result;
+  }
+
   @Nullable
   public String getClassifier() {
     return classifier;
@@ -77,17 +118,24 @@ public class ArtifactPath
   }
 
   public boolean isSubordinate() {
-    return isSubordinate(fileName);
+    return isSubordinate(getFileName());
+  }
+
+  /**
+   * Cursor over the primary path of this artifact and all of its checksum and signature paths.
+   */
+  public SubordinatePaths subordinatePaths() {
+    return new SubordinatePaths(getPath());
   }
 
   @Override
   public String toString() {
     return getClass().getSimpleName() + "{" +
-        "groupId='" + groupId + '\'' +
-        ", artifactId='" + artifactId + '\'' +
-        ", version='" + version + '\'' +
-        ", classifier='" + classifier + '\'' +
-        ", extension='" + extension + '\'' +
+        "groupId='" + getGroupId() + '\'' +
+        ", artifactId='" + getArtifactId() + '\'' +
+        ", version='" + getVersion() + '\'' +
+        ", classifier='" + getClassifier() + '\'' +
+        ", extension='" + getExtension() + '\'' +
         '}';
   }
 
@@ -97,17 +145,7 @@ public class ArtifactPath
 
   public static boolean isSubordinate(final String fileName) {
     requireNonNull(fileName);
-    for (ChecksumType checksum : ChecksumType.values()) {
-      if (checksum.pathMatches(fileName)) {
-        return true;
-      }
-    }
-    for (SignatureType signature : SignatureType.values()) {
-      if (signature.pathMatches(fileName)) {
-        return true;
-      }
-    }
-    return false;
+    return Subordinates.isSubordinate(fileName);
   }
 
   public static boolean isSnapshotVersion(final ArtifactPath path) {
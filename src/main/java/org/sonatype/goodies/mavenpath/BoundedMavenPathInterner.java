@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Bounded, lock-free {@link MavenPathInterner}.
+ *
+ * Well-known extensions and classifiers map to constants; other values are canonicalized through a fixed-size
+ * direct-mapped table where a colliding value replaces the previous one.  Memory use is bounded by the table
+ * capacity and values are never pinned beyond it.
+ *
+ * @since ???
+ */
+@ThreadSafe
+public class BoundedMavenPathInterner
+    implements MavenPathInterner
+{
+  public static final int DEFAULT_CAPACITY = 1 << 16;
+
+  private final AtomicReferenceArray<String> table;
+
+  private final int mask;
+
+  public BoundedMavenPathInterner(final int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    this.table = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+  }
+
+  public BoundedMavenPathInterner() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  @Nullable
+  @Override
+  public String intern(@Nullable final String value) {
+    if (value == null) {
+      return null;
+    }
+
+    String constant = wellKnown(value);
+    if (constant != null) {
+      return constant;
+    }
+
+    int hash = value.hashCode();
+    int index = (hash ^ (hash >>> 16)) & mask;
+    String existing = table.get(index);
+    if (value.equals(existing)) {
+      return existing;
+    }
+    table.lazySet(index, value);
+    return value;
+  }
+
+  /**
+   * Returns constant for well-known extensions and classifiers; or {@code null}.
+   */
+  @Nullable
+  static String wellKnown(final String value) {
+    switch (value) {
+      case "jar":
+        return "jar";
+      case "pom":
+        return "pom";
+      case "war":
+        return "war";
+      case "ear":
+        return "ear";
+      case "aar":
+        return "aar";
+      case "zip":
+        return "zip";
+      case "tar.gz":
+        return "tar.gz";
+      case "module":
+        return "module";
+      case "xml":
+        return "xml";
+      case "sha1":
+        return "sha1";
+      case "sha256":
+        return "sha256";
+      case "sha512":
+        return "sha512";
+      case "md5":
+        return "md5";
+      case "asc":
+        return "asc";
+      case "jar.sha1":
+        return "jar.sha1";
+      case "jar.sha256":
+        return "jar.sha256";
+      case "jar.sha512":
+        return "jar.sha512";
+      case "jar.md5":
+        return "jar.md5";
+      case "jar.asc":
+        return "jar.asc";
+      case "pom.sha1":
+        return "pom.sha1";
+      case "pom.sha256":
+        return "pom.sha256";
+      case "pom.sha512":
+        return "pom.sha512";
+      case "pom.md5":
+        return "pom.md5";
+      case "pom.asc":
+        return "pom.asc";
+      case "module.sha1":
+        return "module.sha1";
+      case "module.md5":
+        return "module.md5";
+      case "sources":
+        return "sources";
+      case "javadoc":
+        return "javadoc";
+      case "tests":
+        return "tests";
+      default:
+        return null;
+    }
+  }
+}
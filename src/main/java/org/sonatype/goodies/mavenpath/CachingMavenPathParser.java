@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Caching {@link MavenPath} parser.
+ *
+ * Wraps a parser with a bounded cache of parse results, including negative ({@code null}) results for invalid
+ * paths.  Lookups are lock-free; insertions are lock-striped and evict with the CLOCK (second-chance) policy.
+ * Sharing cached instances is safe as {@link MavenPath} is immutable.
+ *
+ * @since ???
+ */
+@ThreadSafe
+public class CachingMavenPathParser
+    implements MavenPathParser
+{
+  private static final int MAXIMUM_SEGMENTS = 16;
+
+  private final Function<String, MavenPath> parser;
+
+  private final int maximumSize;
+
+  private final ConcurrentHashMap<String, Entry> entries;
+
+  private final Segment[] segments;
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  private final LongAdder evictions = new LongAdder();
+
+  public CachingMavenPathParser(final Function<String, MavenPath> parser, final int maximumSize) {
+    this.parser = requireNonNull(parser);
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException("Invalid maximum-size: " + maximumSize);
+    }
+    this.maximumSize = maximumSize;
+    this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+
+    int count = Integer.highestOneBit(Math.min(MAXIMUM_SEGMENTS, maximumSize));
+    this.segments = new Segment[count];
+    for (int i = 0; i < count; i++) {
+      // spread remainder so total capacity is exactly maximum-size
+      segments[i] = new Segment(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+    }
+  }
+
+  /**
+   * Caching {@link Maven2PathParser}.
+   */
+  public static CachingMavenPathParser maven2(final int maximumSize) {
+    return new CachingMavenPathParser(Maven2PathParser::parse, maximumSize);
+  }
+
+  /**
+   * Caching {@link Maven1PathParser}.
+   */
+  public static CachingMavenPathParser maven1(final int maximumSize) {
+    return new CachingMavenPathParser(Maven1PathParser::parse, maximumSize);
+  }
+
+  @Override
+  @Nullable
+  public MavenPath parse(final String path) {
+    requireNonNull(path);
+
+    Entry entry = entries.get(path);
+    if (entry != null) {
+      hits.increment();
+      // avoid contended writes for already referenced entries
+      if (!entry.referenced) {
+        entry.referenced = true;
+      }
+      return entry.value;
+    }
+
+    misses.increment();
+    MavenPath value = parser.apply(path);
+    segmentFor(path).add(path, value);
+    return value;
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * Discard all cached entries; counters are retained.
+   */
+  public void invalidateAll() {
+    for (Segment segment : segments) {
+      segment.clear();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{" +
+        "maximumSize=" + maximumSize +
+        ", size=" + size() +
+        ", hits=" + getHitCount() +
+        ", misses=" + getMissCount() +
+        ", evictions=" + getEvictionCount() +
+        '}';
+  }
+
+  private Segment segmentFor(final String path) {
+    int hash = path.hashCode();
+    hash ^= hash >>> 16;
+    return segments[hash & (segments.length - 1)];
+  }
+
+  /**
+   * Cache entry; {@code value} is {@code null} for negative results.
+   */
+  private static final class Entry
+  {
+    private final String key;
+
+    @Nullable
+    private final MavenPath value;
+
+    private volatile boolean referenced;
+
+    private Entry(final String key, @Nullable final MavenPath value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+  /**
+   * CLOCK ring of entries; guarded by its own monitor.
+   */
+  private final class Segment
+  {
+    private final Entry[] ring;
+
+    private int hand;
+
+    private int size;
+
+    private Segment(final int capacity) {
+      this.ring = new Entry[capacity];
+    }
+
+    private synchronized void add(final String key, @Nullable final MavenPath value) {
+      if (entries.containsKey(key)) {
+        // lost race with another thread parsing the same path
+        return;
+      }
+
+      Entry entry = new Entry(key, value);
+      if (size < ring.length) {
+        // fill free slots first
+        while (ring[hand] != null) {
+          hand = (hand + 1) % ring.length;
+        }
+        size++;
+      }
+      else {
+        // give referenced entries a second chance
+        Entry victim;
+        while ((victim = ring[hand]).referenced) {
+          victim.referenced = false;
+          hand = (hand + 1) % ring.length;
+        }
+        entries.remove(victim.key, victim);
+        evictions.increment();
+      }
+
+      ring[hand] = entry;
+      hand = (hand + 1) % ring.length;
+      entries.put(key, entry);
+    }
+
+    private synchronized void clear() {
+      for (int i = 0; i < ring.length; i++) {
+        if (ring[i] != null) {
+          entries.remove(ring[i].key, ring[i]);
+          ring[i] = null;
+        }
+      }
+      size = 0;
+      hand = 0;
+    }
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Computes and verifies {@link ChecksumType} digests.
+ *
+ * All requested digests are updated from a single pass over the content.  Each thread reuses its own buffer and
+ * {@link MessageDigest} instances; files of {@link #MAP_THRESHOLD} bytes or more are read through a memory mapping.
+ * Digests are returned as lower-case hex, the format of Maven checksum files.
+ *
+ * @since ???
+ */
+public final class ChecksumCalculator
+{
+  /**
+   * Files at least this large are memory-mapped instead of read.
+   */
+  public static final long MAP_THRESHOLD = 1 << 20;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * Size of each mapped region; bounded so large files do not need a single huge mapping.
+   */
+  private static final int MAP_REGION_SIZE = 64 * 1024 * 1024;
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private static final ChecksumType[] TYPES = ChecksumType.values();
+
+  private static final ThreadLocal<Context> CONTEXT = ThreadLocal.withInitial(Context::new);
+
+  /**
+   * Per-thread buffer and digests.
+   */
+  private static final class Context
+  {
+    final byte[] bytes = new byte[BUFFER_SIZE];
+
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+    final MessageDigest[] digests = new MessageDigest[TYPES.length];
+
+    /**
+     * Digests selected for the current calculation.
+     */
+    final MessageDigest[] active = new MessageDigest[TYPES.length];
+
+    int activeCount;
+
+    void begin(final Set<ChecksumType> types) {
+      activeCount = 0;
+      for (ChecksumType type : types) {
+        MessageDigest digest = digests[type.ordinal()];
+        if (digest == null) {
+          try {
+            digest = MessageDigest.getInstance(type.algorithm);
+          }
+          catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Missing digest algorithm: " + type.algorithm, e);
+          }
+          digests[type.ordinal()] = digest;
+        }
+        digest.reset();
+        active[activeCount++] = digest;
+      }
+    }
+
+    void update(final int length) {
+      for (int i = 0; i < activeCount; i++) {
+        active[i].update(bytes, 0, length);
+      }
+    }
+
+    Map<ChecksumType, String> finish(final Set<ChecksumType> types) {
+      Map<ChecksumType, String> result = new EnumMap<>(ChecksumType.class);
+      for (ChecksumType type : types) {
+        result.put(type, hex(digests[type.ordinal()].digest()));
+      }
+      return result;
+    }
+  }
+
+  private ChecksumCalculator() {
+    // empty
+  }
+
+  /**
+   * Computes digests of the remaining stream content; the stream is not closed.
+   */
+  public static Map<ChecksumType, String> calculate(final InputStream input, final Set<ChecksumType> types)
+      throws IOException
+  {
+    requireNonNull(input);
+    Context context = begin(types);
+    int length;
+    while ((length = input.read(context.bytes)) != -1) {
+      context.update(length);
+    }
+    return context.finish(types);
+  }
+
+  /**
+   * Computes digests of the remaining channel content; the channel is not closed.
+   */
+  public static Map<ChecksumType, String> calculate(final ReadableByteChannel channel, final Set<ChecksumType> types)
+      throws IOException
+  {
+    requireNonNull(channel);
+    Context context = begin(types);
+    ByteBuffer buffer = context.buffer;
+    buffer.clear();
+    while (channel.read(buffer) != -1) {
+      context.update(buffer.position());
+      buffer.clear();
+    }
+    return context.finish(types);
+  }
+
+  /**
+   * Computes digests of the file.
+   */
+  public static Map<ChecksumType, String> calculate(final Path file, final Set<ChecksumType> types)
+      throws IOException
+  {
+    requireNonNull(file);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < MAP_THRESHOLD) {
+        return calculate(channel, types);
+      }
+      Context context = begin(types);
+      for (long position = 0; position < size; position += MAP_REGION_SIZE) {
+        MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position,
+            Math.min(MAP_REGION_SIZE, size - position));
+        // copy once into the thread buffer; digests consume arrays without further copies
+        while (region.hasRemaining()) {
+          int length = Math.min(region.remaining(), BUFFER_SIZE);
+          region.get(context.bytes, 0, length);
+          context.update(length);
+        }
+      }
+      return context.finish(types);
+    }
+  }
+
+  /**
+   * Verifies the file against each {@link ChecksumType#pathOf sidecar} next to it, reading the file once.
+   *
+   * @return match per checksum type which has a sidecar; empty if there are none.
+   */
+  public static Map<ChecksumType, Boolean> verify(final Path file) throws IOException {
+    requireNonNull(file);
+    String fileName = file.getFileName().toString();
+    Map<ChecksumType, String> expected = new EnumMap<>(ChecksumType.class);
+    for (ChecksumType type : TYPES) {
+      Path sidecar = file.resolveSibling(type.pathOf(fileName));
+      if (Files.isRegularFile(sidecar)) {
+        expected.put(type, new String(Files.readAllBytes(sidecar), StandardCharsets.US_ASCII));
+      }
+    }
+
+    Map<ChecksumType, Boolean> result = new EnumMap<>(ChecksumType.class);
+    if (!expected.isEmpty()) {
+      Map<ChecksumType, String> actual = calculate(file, expected.keySet());
+      expected.forEach((type, content) -> result.put(type, matches(content, actual.get(type))));
+    }
+    return result;
+  }
+
+  /**
+   * Checks checksum file content against a hex digest.
+   *
+   * Content may be upper-case and followed by whitespace and a file name, as written by {@literal sha1sum} and
+   * similar tools.
+   */
+  public static boolean matches(final String content, final String digest) {
+    requireNonNull(content);
+    requireNonNull(digest);
+    String checksum = parse(content);
+    return checksum != null && checksum.equalsIgnoreCase(digest);
+  }
+
+  /**
+   * Returns the leading hex token of checksum file content; or {@code null} if there is none.
+   */
+  @Nullable
+  private static String parse(final String content) {
+    int start = 0;
+    int length = content.length();
+    while (start < length && Character.isWhitespace(content.charAt(start))) {
+      start++;
+    }
+    int end = start;
+    while (end < length && Character.digit(content.charAt(end), 16) != -1) {
+      end++;
+    }
+    if (end == start || (end < length && !Character.isWhitespace(content.charAt(end)))) {
+      return null;
+    }
+    return content.substring(start, end);
+  }
+
+  private static Context begin(final Set<ChecksumType> types) {
+    requireNonNull(types);
+    if (types.isEmpty()) {
+      throw new IllegalArgumentException("No checksum types");
+    }
+    Context context = CONTEXT.get();
+    context.begin(types instanceof EnumSet ? types : EnumSet.copyOf(types));
+    return context;
+  }
+
+  private static String hex(final byte[] bytes) {
+    char[] chars = new char[bytes.length * 2];
+    for (int i = 0; i < bytes.length; i++) {
+      chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+      chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+    }
+    return new String(chars);
+  }
+}
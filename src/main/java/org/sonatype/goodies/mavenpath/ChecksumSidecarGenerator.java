@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.Immutable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Generates {@link ChecksumType} sidecars for every primary file of a local Maven-2 repository.
+ *
+ * The tree is walked with {@link MavenRepositoryWalker}, skipping {@link MavenPath#isSubordinate subordinates}.  Each
+ * primary file is read once for all missing checksums by {@link ChecksumCalculator} on a fixed pool of
+ * {@code concurrency} workers; the walk blocks while that many files are in flight, so the bound is the number of
+ * concurrent reads rather than the number of files found.  Use a small concurrency for spinning disks and a larger
+ * one for SSDs.  The walk runs on its own pool, so blocking never ties up {@link ForkJoinPool#commonPool()} threads.
+ *
+ * Sidecars are written to a temporary sibling and moved into place, so an interrupted run never leaves a truncated
+ * sidecar behind.  In incremental mode sidecars which exist and are not older than their file are kept.
+ *
+ * @since ???
+ */
+public class ChecksumSidecarGenerator
+{
+  private final Path root;
+
+  private final Set<ChecksumType> types;
+
+  private final int concurrency;
+
+  private final boolean incremental;
+
+  public ChecksumSidecarGenerator(final Path root,
+                                  final Set<ChecksumType> types,
+                                  final int concurrency,
+                                  final boolean incremental)
+  {
+    this.root = requireNonNull(root);
+    requireNonNull(types);
+    if (types.isEmpty()) {
+      throw new IllegalArgumentException("No checksum types");
+    }
+    this.types = Collections.unmodifiableSet(EnumSet.copyOf(types));
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("Concurrency must be positive: " + concurrency);
+    }
+    this.concurrency = concurrency;
+    this.incremental = incremental;
+  }
+
+  /**
+   * All checksum types, one worker per processor.
+   */
+  public ChecksumSidecarGenerator(final Path root, final boolean incremental) {
+    this(root, EnumSet.allOf(ChecksumType.class), Runtime.getRuntime().availableProcessors(), incremental);
+  }
+
+  public Path getRoot() {
+    return root;
+  }
+
+  public Set<ChecksumType> getTypes() {
+    return types;
+  }
+
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  public boolean isIncremental() {
+    return incremental;
+  }
+
+  /**
+   * Walks the repository and writes sidecars.
+   *
+   * Failures on individual files are collected in the result; walk failures are thrown.
+   */
+  public Result generate() throws IOException {
+    ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+    // walker threads block on permits; keep them off the common pool
+    ForkJoinPool walkers = new ForkJoinPool(Math.min(concurrency, Runtime.getRuntime().availableProcessors()));
+    Semaphore permits = new Semaphore(concurrency);
+    Counters counters = new Counters();
+    try {
+      new MavenRepositoryWalker(root, walkers).walk(MavenRepositoryWalker.Filter.skipSubordinates(), path -> {
+        permits.acquireUninterruptibly();
+        try {
+          workers.execute(() -> {
+            try {
+              process(path, counters);
+            }
+            finally {
+              permits.release();
+            }
+          });
+        }
+        catch (RuntimeException e) {
+          permits.release();
+          throw e;
+        }
+      });
+    }
+    finally {
+      walkers.shutdown();
+      workers.shutdown();
+      // all work has been submitted; wait for in-flight files
+      permits.acquireUninterruptibly(concurrency);
+    }
+    return counters.result();
+  }
+
+  private void process(final MavenPath path, final Counters counters) {
+    Path file = root.resolve(path.getPath());
+    try {
+      Set<ChecksumType> stale = incremental ? stale(file) : types;
+      if (stale.isEmpty()) {
+        counters.skipped.increment();
+        return;
+      }
+      Map<ChecksumType, String> checksums = ChecksumCalculator.calculate(file, stale);
+      String fileName = file.getFileName().toString();
+      for (Map.Entry<ChecksumType, String> entry : checksums.entrySet()) {
+        write(file.resolveSibling(entry.getKey().pathOf(fileName)), entry.getValue());
+      }
+      counters.generated.increment();
+      counters.sidecars.add(checksums.size());
+    }
+    catch (IOException | RuntimeException e) {
+      counters.failures.add(new SimpleImmutableEntry<>(path.getPath(), e));
+    }
+  }
+
+  /**
+   * Writes sidecar through a temporary sibling; the leading dot keeps it from parsing as an artifact if walked.
+   */
+  private static void write(final Path sidecar, final String checksum) throws IOException {
+    Path temp = Files.createTempFile(sidecar.getParent(), "." + sidecar.getFileName(), ".tmp");
+    try {
+      Files.write(temp, checksum.getBytes(StandardCharsets.US_ASCII));
+      Files.move(temp, sidecar, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * Returns the types whose sidecar is missing or older than file.
+   */
+  private Set<ChecksumType> stale(final Path file) throws IOException {
+    FileTime modified = Files.getLastModifiedTime(file);
+    String fileName = file.getFileName().toString();
+    Set<ChecksumType> result = EnumSet.noneOf(ChecksumType.class);
+    for (ChecksumType type : types) {
+      try {
+        if (Files.getLastModifiedTime(file.resolveSibling(type.pathOf(fileName))).compareTo(modified) < 0) {
+          result.add(type);
+        }
+      }
+      catch (NoSuchFileException e) {
+        result.add(type);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{" +
+        "root=" + root +
+        ", types=" + types +
+        ", concurrency=" + concurrency +
+        ", incremental=" + incremental +
+        '}';
+  }
+
+  private static final class Counters
+  {
+    final LongAdder generated = new LongAdder();
+
+    final LongAdder sidecars = new LongAdder();
+
+    final LongAdder skipped = new LongAdder();
+
+    final Queue<Map.Entry<String, Exception>> failures = new ConcurrentLinkedQueue<>();
+
+    Result result() {
+      Map<String, Exception> causes = new LinkedHashMap<>();
+      for (Map.Entry<String, Exception> failure : failures) {
+        causes.put(failure.getKey(), failure.getValue());
+      }
+      return new Result(generated.sum(), sidecars.sum(), skipped.sum(), causes);
+    }
+  }
+
+  /**
+   * Generation outcome.
+   */
+  @Immutable
+  public static final class Result
+  {
+    private final long generatedCount;
+
+    private final long sidecarCount;
+
+    private final long skippedCount;
+
+    private final Map<String, Exception> failures;
+
+    private Result(final long generatedCount, final long sidecarCount, final long skippedCount,
+                   final Map<String, Exception> failures)
+    {
+      this.generatedCount = generatedCount;
+      this.sidecarCount = sidecarCount;
+      this.skippedCount = skippedCount;
+      this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Number of files checksummed.
+     */
+    public long getGeneratedCount() {
+      return generatedCount;
+    }
+
+    /**
+     * Number of sidecars written.
+     */
+    public long getSidecarCount() {
+      return sidecarCount;
+    }
+
+    /**
+     * Number of files whose sidecars were all up to date.
+     */
+    public long getSkippedCount() {
+      return skippedCount;
+    }
+
+    /**
+     * Relative paths of files which could not be read or whose sidecars could not be written.
+     */
+    public List<String> getFailures() {
+      return Collections.unmodifiableList(new ArrayList<>(failures.keySet()));
+    }
+
+    /**
+     * Failures by relative path, with the exception which caused each.
+     */
+    public Map<String, Exception> getFailureCauses() {
+      return failures;
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getSimpleName() + "{" +
+          "generated=" + generatedCount +
+          ", sidecars=" + sidecarCount +
+          ", skipped=" + skippedCount +
+          ", failures=" + failures.size() +
+          '}';
+    }
+  }
+}
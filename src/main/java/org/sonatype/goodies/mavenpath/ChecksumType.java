@@ -62,7 +62,7 @@ public enum ChecksumType
 
   public boolean pathMatches(final String path) {
     requireNonNull(path);
-    return path.endsWith("." + extension);
+    return Subordinates.endsWith(path, path.length(), extension);
   }
 
   public String pathOf(final String path) {
@@ -86,12 +86,7 @@ public enum ChecksumType
 
   @Nullable
   public static ChecksumType ofPath(final String path) {
-    for (ChecksumType value : values()) {
-      if (value.pathMatches(path)) {
-        return value;
-      }
-    }
-    return null;
+    return Subordinates.checksumType(path);
   }
 
   public static class Constants
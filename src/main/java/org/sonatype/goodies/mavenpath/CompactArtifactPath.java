@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Compact {@link ArtifactPath}; keeps only the path and packed component offsets, deriving components on each call.
+ *
+ * The slashes ending the group, artifact and version directories and the end of the version are packed into a long
+ * of 16-bit fields, with the start of the extension in an int; the start of the version, classifier and file-name
+ * follow from these.  Paths longer than {@link #MAX_LENGTH} are not compacted.
+ *
+ * Serializes as a plain {@link ArtifactPath}.
+ *
+ * @since ???
+ * @see CompactSnapshotArtifactPath
+ */
+@Immutable
+final class CompactArtifactPath
+  extends ArtifactPath
+{
+  private static final long serialVersionUID = 1L;
+
+  static final int MAX_LENGTH = 0xFFFF;
+
+  private final transient long offsets;
+
+  private final transient int extensionStart;
+
+  CompactArtifactPath(final String path, final long offsets, final int extensionStart) {
+    super(path);
+    this.offsets = offsets;
+    this.extensionStart = extensionStart;
+  }
+
+  @Override
+  public String getFileName() {
+    return path.substring(versionDirEnd(offsets) + 1);
+  }
+
+  @Override
+  public String getGroupId() {
+    return groupId(path, offsets);
+  }
+
+  @Override
+  public String getArtifactId() {
+    return artifactId(path, offsets);
+  }
+
+  @Override
+  public String getVersion() {
+    return path.substring(versionStart(offsets), versionEnd(offsets));
+  }
+
+  @Nullable
+  @Override
+  public String getClassifier() {
+    return classifier(path, offsets, extensionStart);
+  }
+
+  @Override
+  public String getExtension() {
+    return path.substring(extensionStart);
+  }
+
+  @Override
+  public boolean isSubordinate() {
+    return Subordinates.isSubordinate(path);
+  }
+
+  private Object writeReplace() {
+    return new ArtifactPath(
+        getPath(),
+        getFileName(),
+        getGroupId(),
+        getArtifactId(),
+        getVersion(),
+        getClassifier(),
+        getExtension()
+    );
+  }
+
+  //
+  // Offsets
+  //
+
+  /**
+   * Packs offsets of a scanned artifact; or {@code -1} if the path is too long.
+   */
+  static long pack(final Maven2PathScanner scanner, final int length) {
+    if (length > MAX_LENGTH) {
+      return -1;
+    }
+    return (long) scanner.groupEnd |
+        (long) scanner.artifactEnd << 16 |
+        (long) scanner.versionDirEnd << 32 |
+        (long) scanner.versionEnd << 48;
+  }
+
+  static int groupEnd(final long offsets) {
+    return (int) offsets & 0xFFFF;
+  }
+
+  static int artifactEnd(final long offsets) {
+    return (int) (offsets >>> 16) & 0xFFFF;
+  }
+
+  static int versionDirEnd(final long offsets) {
+    return (int) (offsets >>> 32) & 0xFFFF;
+  }
+
+  static int versionEnd(final long offsets) {
+    return (int) (offsets >>> 48);
+  }
+
+  /**
+   * The file-name starts with {@code <artifactId>-<version>}.
+   */
+  static int versionStart(final long offsets) {
+    return versionDirEnd(offsets) + artifactEnd(offsets) - groupEnd(offsets) + 1;
+  }
+
+  static String groupId(final String path, final long offsets) {
+    return path.substring(0, groupEnd(offsets)).replace('/', '.');
+  }
+
+  static String artifactId(final String path, final long offsets) {
+    return path.substring(groupEnd(offsets) + 1, artifactEnd(offsets));
+  }
+
+  /**
+   * Between {@code -} after the version and {@code .} before the extension; if any.
+   */
+  @Nullable
+  static String classifier(final String path, final long offsets, final int extensionStart) {
+    int start = versionEnd(offsets) + 1;
+    return extensionStart - start > 1 ? path.substring(start, extensionStart - 1) : null;
+  }
+}
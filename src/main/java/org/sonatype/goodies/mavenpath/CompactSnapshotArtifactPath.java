@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import static org.sonatype.goodies.mavenpath.CompactArtifactPath.versionDirEnd;
+import static org.sonatype.goodies.mavenpath.CompactArtifactPath.versionEnd;
+import static org.sonatype.goodies.mavenpath.CompactArtifactPath.versionStart;
+
+/**
+ * Compact {@link SnapshotArtifactPath}; offsets as {@link CompactArtifactPath}.
+ *
+ * The base version is the version directory; timestamp and build end the version, split at its last {@code -}.
+ *
+ * Serializes as a plain {@link SnapshotArtifactPath}.
+ *
+ * @since ???
+ */
+@Immutable
+final class CompactSnapshotArtifactPath
+  extends SnapshotArtifactPath
+{
+  private static final long serialVersionUID = 1L;
+
+  private final transient long offsets;
+
+  private final transient int extensionStart;
+
+  CompactSnapshotArtifactPath(final String path, final long offsets, final int extensionStart) {
+    super(path);
+    this.offsets = offsets;
+    this.extensionStart = extensionStart;
+  }
+
+  @Override
+  public String getFileName() {
+    return path.substring(versionDirEnd(offsets) + 1);
+  }
+
+  @Override
+  public String getGroupId() {
+    return CompactArtifactPath.groupId(path, offsets);
+  }
+
+  @Override
+  public String getArtifactId() {
+    return CompactArtifactPath.artifactId(path, offsets);
+  }
+
+  @Override
+  public String getVersion() {
+    return path.substring(versionStart(offsets), versionEnd(offsets));
+  }
+
+  @Override
+  public String getBaseVersion() {
+    return path.substring(CompactArtifactPath.artifactEnd(offsets) + 1, versionDirEnd(offsets));
+  }
+
+  @Override
+  public String getTimestamp() {
+    int baseLength = versionDirEnd(offsets) - CompactArtifactPath.artifactEnd(offsets) - 1;
+    int start = versionStart(offsets) + baseLength - SNAPSHOT_SUFFIX.length();
+    return path.substring(start, buildSeparator());
+  }
+
+  @Override
+  public String getBuild() {
+    return path.substring(buildSeparator() + 1, versionEnd(offsets));
+  }
+
+  @Nullable
+  @Override
+  public String getClassifier() {
+    return CompactArtifactPath.classifier(path, offsets, extensionStart);
+  }
+
+  @Override
+  public String getExtension() {
+    return path.substring(extensionStart);
+  }
+
+  @Override
+  public boolean isSubordinate() {
+    return Subordinates.isSubordinate(path);
+  }
+
+  /**
+   * Build numbers are digits, so the last {@code -} of the version precedes it.
+   */
+  private int buildSeparator() {
+    return path.lastIndexOf('-', versionEnd(offsets) - 1);
+  }
+
+  private Object writeReplace() {
+    return new SnapshotArtifactPath(
+        getPath(),
+        getFileName(),
+        getGroupId(),
+        getArtifactId(),
+        getBaseVersion(),
+        getVersion(),
+        getTimestamp(),
+        getBuild(),
+        getClassifier(),
+        getExtension()
+    );
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Lazily materialized {@link MavenMetadataPath}; components are only turned into strings when requested.
+ *
+ * Serializes as a plain {@link MavenMetadataPath}.
+ *
+ * @since ???
+ */
+@Immutable
+final class LazyMavenMetadataPath
+  extends MavenMetadataPath
+{
+  private static final long serialVersionUID = 1L;
+
+  private final transient Maven2PathScanner scanner;
+
+  LazyMavenMetadataPath(final Maven2PathScanner scanner) {
+    this.scanner = requireNonNull(scanner);
+  }
+
+  @Override
+  public String getPath() {
+    return scanner.path();
+  }
+
+  @Override
+  public String getFileName() {
+    return scanner.fileName();
+  }
+
+  @Override
+  public String getPrefix() {
+    return scanner.prefix();
+  }
+
+  @Nullable
+  @Override
+  public String getGroupId() {
+    return scanner.groupId();
+  }
+
+  @Nullable
+  @Override
+  public String getArtifactId() {
+    return scanner.artifactId();
+  }
+
+  @Nullable
+  @Override
+  public String getVersion() {
+    return scanner.version();
+  }
+
+  @Nullable
+  @Override
+  public String getSubordinateType() {
+    return scanner.subtype();
+  }
+
+  private Object writeReplace() {
+    return new MavenMetadataPath(
+        getPath(),
+        getFileName(),
+        getPrefix(),
+        getGroupId(),
+        getArtifactId(),
+        getVersion(),
+        getSubordinateType()
+    );
+  }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Converts Maven-1 layout paths to Maven-2 layout.
+ *
+ * Paths are parsed by {@link Maven1PathParser}, which derives {@code sources}, {@code javadoc} and {@code client}
+ * classifiers from the {@code java-sources}, {@code javadocs} and {@code ejbs} type directories, and are rebuilt by
+ * {@link Maven2PathFactory#createArtifact}.  Checksum sidecars keep their suffix as part of the extension, so
+ * {@code foo/jars/bar-1.0.jar.md5} becomes {@code foo/bar/1.0/bar-1.0.jar.md5}.
+ *
+ * @since ???
+ */
+public class Maven1PathConverter
+{
+  private static final MavenPathInterner IDENTITY = MavenPathInterner.identity();
+
+  private Maven1PathConverter() {
+    // empty
+  }
+
+  /**
+   * Converts a Maven-1 path; or {@code null} if it is not a Maven-1 artifact path.
+   */
+  @Nullable
+  public static ArtifactPath convert(final String path) {
+    return convert(path, IDENTITY);
+  }
+
+  /**
+   * Converts a Maven-1 path with coordinates canonicalized by the interner; or {@code null} if it is not a Maven-1
+   * artifact path.
+   */
+  @Nullable
+  public static ArtifactPath convert(final String path, final MavenPathInterner interner) {
+    MavenPath parsed = Maven1PathParser.parse(path, interner);
+    return parsed instanceof ArtifactPath ? convert((ArtifactPath) parsed, interner) : null;
+  }
+
+  /**
+   * Converts an artifact parsed by {@link Maven1PathParser}.
+   */
+  public static ArtifactPath convert(final ArtifactPath path, final MavenPathInterner interner) {
+    requireNonNull(path);
+    return Maven2PathFactory.createArtifact(path.getGroupId(), path.getArtifactId(), path.getVersion(),
+        path.getClassifier(), path.getExtension(), interner);
+  }
+
+  /**
+   * Converts a listing; conversions follow the stream and are computed in parallel if it is parallel.
+   */
+  public static Stream<Conversion> convertAll(final Stream<String> paths) {
+    requireNonNull(paths);
+    return paths.map(path -> new Conversion(path, convert(path)));
+  }
+
+  /**
+   * Copies or moves a Maven-1 tree into Maven-2 layout on the common pool.
+   *
+   * @see #convertTree(Path, Path, boolean, ForkJoinPool)
+   */
+  public static Result convertTree(final Path source, final Path target, final boolean move) throws IOException {
+    return convertTree(source, target, move, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Copies or moves a Maven-1 tree into Maven-2 layout.
+   *
+   * Each group directory of {@code source} is converted by its own task on the pool.  Files which are not Maven-1
+   * artifacts are left in place and counted as skipped; existing target files are replaced.
+   */
+  public static Result convertTree(final Path source, final Path target, final boolean move, final ForkJoinPool pool)
+      throws IOException
+  {
+    requireNonNull(source);
+    requireNonNull(target);
+    requireNonNull(pool);
+
+    List<Path> groups;
+    try (Stream<Path> stream = Files.list(source)) {
+      groups = stream.filter(Files::isDirectory).collect(Collectors.toList());
+    }
+
+    Counters counters = new Counters();
+    List<ForkJoinTask<?>> tasks = new ArrayList<>(groups.size());
+    for (Path group : groups) {
+      tasks.add(pool.submit(() -> convertGroup(group, target, move, counters)));
+    }
+    IOException failure = null;
+    for (ForkJoinTask<?> task : tasks) {
+      try {
+        task.join();
+      }
+      catch (UncheckedIOException e) {
+        if (failure == null) {
+          failure = e.getCause();
+        }
+        else {
+          failure.addSuppressed(e.getCause());
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    return counters.result();
+  }
+
+  private static void convertGroup(final Path group, final Path target, final boolean move, final Counters counters) {
+    String groupName = group.getFileName().toString();
+    try (Stream<Path> types = Files.list(group)) {
+      for (Path type : (Iterable<Path>) types::iterator) {
+        if (!Files.isDirectory(type)) {
+          counters.skipped.increment();
+          continue;
+        }
+        String prefix = groupName + '/' + type.getFileName() + '/';
+        try (Stream<Path> files = Files.list(type)) {
+          for (Path file : (Iterable<Path>) files::iterator) {
+            ArtifactPath converted = Files.isRegularFile(file) ? convert(prefix + file.getFileName()) : null;
+            if (converted == null) {
+              counters.skipped.increment();
+              continue;
+            }
+            try {
+              Path destination = target.resolve(converted.getPath());
+              Files.createDirectories(destination.getParent());
+              if (move) {
+                Files.move(file, destination, StandardCopyOption.REPLACE_EXISTING);
+              }
+              else {
+                Files.copy(file, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+              }
+              counters.converted.increment();
+            }
+            catch (IOException e) {
+              counters.failures.add(prefix + file.getFileName());
+            }
+          }
+        }
+      }
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Source path and its Maven-2 conversion.
+   */
+  @Immutable
+  public static final class Conversion
+  {
+    private final String source;
+
+    @Nullable
+    private final ArtifactPath target;
+
+    private Conversion(final String source, @Nullable final ArtifactPath target) {
+      this.source = source;
+      this.target = target;
+    }
+
+    public String getSource() {
+      return source;
+    }
+
+    /**
+     * Returns the converted path; or {@code null} if source is not a Maven-1 artifact path.
+     */
+    @Nullable
+    public ArtifactPath getTarget() {
+      return target;
+    }
+
+    @Override
+    public String toString() {
+      return source + " -> " + (target != null ? target.getPath() : null);
+    }
+  }
+
+  private static final class Counters
+  {
+    final LongAdder converted = new LongAdder();
+
+    final LongAdder skipped = new LongAdder();
+
+    final Queue<String> failures = new ConcurrentLinkedQueue<>();
+
+    Result result() {
+      return new Result(converted.sum(), skipped.sum(), new ArrayList<>(failures));
+    }
+  }
+
+  /**
+   * Tree conversion outcome.
+   */
+  @Immutable
+  public static final class Result
+  {
+    private final long convertedCount;
+
+    private final long skippedCount;
+
+    private final List<String> failures;
+
+    private Result(final long convertedCount, final long skippedCount, final List<String> failures) {
+      this.convertedCount = convertedCount;
+      this.skippedCount = skippedCount;
+      this.failures = Collections.unmodifiableList(failures);
+    }
+
+    public long getConvertedCount() {
+      return convertedCount;
+    }
+
+    /**
+     * Number of entries which are not Maven-1 artifacts.
+     */
+    public long getSkippedCount() {
+      return skippedCount;
+    }
+
+    /**
+     * Maven-1 paths which could not be copied or moved.
+     */
+    public List<String> getFailures() {
+      return failures;
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getSimpleName() + "{" +
+          "converted=" + convertedCount +
+          ", skipped=" + skippedCount +
+          ", failures=" + failures.size() +
+          '}';
+    }
+  }
+}
@@ -12,9 +12,6 @@
  */
 package org.sonatype.goodies.mavenpath;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import javax.annotation.Nullable;
 
 import static java.util.Objects.requireNonNull;
@@ -22,6 +19,9 @@ import static java.util.Objects.requireNonNull;
 /**
  * Maven-1 {@link MavenPath} parser.
  *
+ * Paths are matched by {@link Maven1PathScanner} in time linear to their length; {@link #rejectionOf(String)}
+ * explains why a path does not parse.
+ *
  * @since ???
  */
 public class Maven1PathParser
@@ -29,9 +29,7 @@ public class Maven1PathParser
   // SEE: https://github.com/apache/maven-indexer/blob/master/indexer-core/src/main/java/org/apache/maven/index/artifact/M1GavCalculator.java
   // SEE: https://cwiki.apache.org/confluence/display/MAVENOLD/Repository+Layout+-+Final
 
-  private static final Pattern artifactPattern = Pattern.compile(
-      "^(?<group>[^/]+)/(?<types>[^/]+s)/(?<filename>(?<artifact>\\D+|[a-z0-9-_]+)-(?<version>\\d.+)\\.(?<extension>\\D+(\\.md5|\\.sha1)?))$"
-  );
+  private static final MavenPathInterner IDENTITY = MavenPathInterner.identity();
 
   private Maven1PathParser() {
     // empty
@@ -39,41 +37,40 @@ public class Maven1PathParser
 
   @Nullable
   public static MavenPath parse(final String path) {
-    requireNonNull(path);
+    return parse(path, IDENTITY);
+  }
 
-    // skip invalid paths
-    if (path.startsWith("/") || path.endsWith("/")) {
-      return null;
-    }
+  /**
+   * Parse path; coordinates are canonicalized with the given interner.
+   */
+  @Nullable
+  public static MavenPath parse(final String path, final MavenPathInterner interner) {
+    requireNonNull(path);
+    requireNonNull(interner);
 
-    Matcher match = match(artifactPattern, path);
-    if (match != null) {
-      String group = match.group("group");
-      String types = match.group("types");
-      String filename = match.group("filename");
-      String artifact = match.group("artifact");
-      String version = match.group("version");
-      String extension = match.group("extension");
-
-      // special handling for a few types which have classifiers
-      String classifier = null;
-      if (types.equals("java-sources")) {
-        classifier = "sources";
-      }
-      else if (types.equals("javadocs")) {
-        classifier = "javadoc";
-      }
-      else if (types.equals("ejbs") && (filename.endsWith("client.jar") ||
-          filename.endsWith("client.jar.sha1") ||
-          filename.endsWith("client.jar.md5"))) {
-        classifier = "client";
-      }
+    Maven1PathScanner scanner = new Maven1PathScanner(path);
+    if (scanner.scan() == null) {
+      String group = scanner.group();
+      String types = scanner.types();
+      String filename = scanner.fileName();
+      String artifact = scanner.artifact();
+      String version = scanner.version();
+      String extension = scanner.extension();
 
-      // if classifier was detected, strip it off from version
+      // special handling for a few types which have classifiers; strip it off from version
+      String classifier = classifierOf(types, filename);
       if (classifier != null) {
+        if (!hasClassifier(version, classifier)) {
+          return null;
+        }
         version = version.substring(0, version.length() - (classifier.length() + 1));
       }
 
+      group = interner.intern(group);
+      artifact = interner.intern(artifact);
+      version = interner.intern(version);
+      extension = interner.intern(extension);
+
       if (version.endsWith(SnapshotArtifactPath.SNAPSHOT_SUFFIX)) {
         return new SnapshotArtifactPath(
             path,
@@ -100,12 +97,99 @@ public class Maven1PathParser
     return null;
   }
 
+  /**
+   * Parse untrusted path within length and segment limits.
+   *
+   * @return parsed path; or {@code null} if the path is not a Maven-1 artifact path.
+   * @throws MavenPathRejectedException if the path exceeds a limit.
+   */
+  @Nullable
+  public static MavenPath parse(final String path, final MavenPathLimits limits) {
+    requireNonNull(path);
+    requireNonNull(limits);
+    limits.enforce(path);
+    return parse(path, IDENTITY);
+  }
+
+  /**
+   * Returns why path is not a Maven-1 artifact path; or {@code null} if it is.
+   */
+  @Nullable
+  public static Rejection rejectionOf(final String path) {
+    requireNonNull(path);
+    Maven1PathScanner scanner = new Maven1PathScanner(path);
+    Rejection rejection = scanner.scan();
+    if (rejection == null) {
+      String classifier = classifierOf(scanner.types(), scanner.fileName());
+      if (classifier != null && !hasClassifier(scanner.version(), classifier)) {
+        return Rejection.MISSING_CLASSIFIER;
+      }
+    }
+    return rejection;
+  }
+
+  /**
+   * Returns the classifier implied by the types directory; or {@code null}.
+   */
   @Nullable
-  private static Matcher match(final Pattern pattern, final String value) {
-    Matcher matcher = pattern.matcher(value);
-    if (matcher.matches()) {
-      return matcher;
+  private static String classifierOf(final String types, final String filename) {
+    if (types.equals("java-sources")) {
+      return "sources";
+    }
+    else if (types.equals("javadocs")) {
+      return "javadoc";
+    }
+    else if (types.equals("ejbs") && (filename.endsWith("client.jar") ||
+        filename.endsWith("client.jar.sha1") ||
+        filename.endsWith("client.jar.md5"))) {
+      return "client";
     }
     return null;
   }
+
+  /**
+   * True if version ends with {@code -classifier} and leaves a non-empty version when stripped.
+   */
+  private static boolean hasClassifier(final String version, final String classifier) {
+    int dash = version.length() - classifier.length() - 1;
+    return dash > 0 && version.charAt(dash) == '-' && version.endsWith(classifier);
+  }
+
+  /**
+   * Reasons a path is rejected, in the order they are checked.
+   */
+  public enum Rejection
+  {
+    /**
+     * Path is empty, or starts or ends with {@code /}.
+     */
+    INVALID_SLASH,
+
+    /**
+     * Path has no {@code group/types/} directories.
+     */
+    MISSING_DIRECTORIES,
+
+    /**
+     * Types directory is not a plural such as {@code jars}.
+     */
+    INVALID_TYPES,
+
+    /**
+     * File name has no {@code artifact-version} boundary; a dash followed by a digit.
+     */
+    MISSING_VERSION,
+
+    /**
+     * Version is not followed by {@code .extension}; extensions may only contain digits in a {@code .md5} or
+     * {@code .sha1} suffix.
+     */
+    INVALID_EXTENSION,
+
+    /**
+     * Version does not end with the {@code -classifier} implied by the types directory, such as {@code -sources}
+     * in {@code java-sources}.
+     */
+    MISSING_CLASSIFIER
+  }
 }
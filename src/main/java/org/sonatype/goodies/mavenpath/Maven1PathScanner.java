@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import javax.annotation.Nullable;
+
+import org.sonatype.goodies.mavenpath.Maven1PathParser.Rejection;
+
+/**
+ * Regex-free Maven-1 path scanner.
+ *
+ * Finds the same boundaries as the pattern previously used by {@link Maven1PathParser}:
+ *
+ * <pre>
+ * ^(?&lt;group&gt;[^/]+)/(?&lt;types&gt;[^/]+s)/(?&lt;filename&gt;(?&lt;artifact&gt;\D+|[a-z0-9-_]+)-(?&lt;version&gt;\d.+)\.(?&lt;extension&gt;\D+(\.md5|\.sha1)?))$
+ * </pre>
+ *
+ * Instead of backtracking, the scanner uses that the first alternative can only end right before the first digit,
+ * and that for both alternatives the greedy version ends at the last {@code .} which starts a valid extension.
+ * Every step is a bounded pass over the path, so scanning is linear in its length.
+ *
+ * @since ???
+ */
+final class Maven1PathScanner
+{
+  private static final String DOT_MD5 = ".md5";
+
+  private static final String DOT_SHA1 = ".sha1";
+
+  private final String source;
+
+  private final int length;
+
+  int groupEnd;
+
+  int typesEnd;
+
+  int artifactEnd;
+
+  int versionEnd;
+
+  /**
+   * Last digit before the plain, {@code .md5} and {@code .sha1} extension ends; extensions may not contain digits.
+   */
+  private int lastDigit;
+
+  private int lastDigitMd5 = Integer.MAX_VALUE;
+
+  private int lastDigitSha1 = Integer.MAX_VALUE;
+
+  Maven1PathScanner(final String source) {
+    this.source = source;
+    this.length = source.length();
+  }
+
+  /**
+   * Scans the path; returns {@code null} if it matches, else why not.
+   */
+  @Nullable
+  Rejection scan() {
+    if (length == 0 || source.charAt(0) == '/' || source.charAt(length - 1) == '/') {
+      return Rejection.INVALID_SLASH;
+    }
+    groupEnd = source.indexOf('/');
+    if (groupEnd == -1) {
+      return Rejection.MISSING_DIRECTORIES;
+    }
+    typesEnd = source.indexOf('/', groupEnd + 1);
+    if (typesEnd == -1) {
+      return Rejection.MISSING_DIRECTORIES;
+    }
+    if (typesEnd - groupEnd - 1 < 2 || source.charAt(typesEnd - 1) != 's') {
+      return Rejection.INVALID_TYPES;
+    }
+
+    int start = typesEnd + 1;
+    lastDigit = lastDigit(start, length);
+    if (source.endsWith(DOT_MD5)) {
+      lastDigitMd5 = lastDigit(start, length - DOT_MD5.length());
+    }
+    if (source.endsWith(DOT_SHA1)) {
+      lastDigitSha1 = lastDigit(start, length - DOT_SHA1.length());
+    }
+
+    boolean boundary = false;
+
+    // artifact as \D+ can only end right before the first digit
+    int firstDigit = start;
+    while (firstDigit < length && !isDigit(source.charAt(firstDigit))) {
+      firstDigit++;
+    }
+    if (firstDigit < length && firstDigit - 1 > start && source.charAt(firstDigit - 1) == '-') {
+      boundary = true;
+      int end = versionEnd(firstDigit, firstTerminator(firstDigit + 1));
+      if (end != -1) {
+        artifactEnd = firstDigit - 1;
+        versionEnd = end;
+        return null;
+      }
+    }
+
+    // artifact as [a-z0-9-_]+; the version can only run to the same greedy end for every candidate
+    int classEnd = start;
+    while (classEnd < length && isArtifactChar(source.charAt(classEnd))) {
+      classEnd++;
+    }
+    int end = versionEnd(start, firstTerminator(classEnd));
+    for (int dash = classEnd - 2; dash > start; dash--) {
+      if (source.charAt(dash) == '-' && isDigit(source.charAt(dash + 1))) {
+        boundary = true;
+        if (end >= dash + 3) {
+          artifactEnd = dash;
+          versionEnd = end;
+          return null;
+        }
+      }
+    }
+
+    return boundary ? Rejection.INVALID_EXTENSION : Rejection.MISSING_VERSION;
+  }
+
+  /**
+   * Returns the greedy end of a version starting at or after {@code from}, as the last {@code .} before the
+   * terminator which starts a valid extension; or -1.
+   */
+  private int versionEnd(final int from, final int terminator) {
+    for (int p = Math.min(terminator, length - 2); p >= from + 2; p--) {
+      if (source.charAt(p) == '.' && isExtensionStart(p + 1)) {
+        return p;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * True if {@code \D+(\.md5|\.sha1)?} matches from start to the end.
+   */
+  private boolean isExtensionStart(final int start) {
+    return (start < length && lastDigit < start) ||
+        (start < length - DOT_MD5.length() && lastDigitMd5 < start) ||
+        (start < length - DOT_SHA1.length() && lastDigitSha1 < start);
+  }
+
+  private int lastDigit(final int from, final int to) {
+    int p = to - 1;
+    while (p >= from && !isDigit(source.charAt(p))) {
+      p--;
+    }
+    return p;
+  }
+
+  /**
+   * Returns index of the first line terminator at or after from; or length.
+   */
+  private int firstTerminator(final int from) {
+    int p = from;
+    while (p < length && !isLineTerminator(source.charAt(p))) {
+      p++;
+    }
+    return p;
+  }
+
+  String group() {
+    return source.substring(0, groupEnd);
+  }
+
+  String types() {
+    return source.substring(groupEnd + 1, typesEnd);
+  }
+
+  String fileName() {
+    return source.substring(typesEnd + 1);
+  }
+
+  String artifact() {
+    return source.substring(typesEnd + 1, artifactEnd);
+  }
+
+  String version() {
+    return source.substring(artifactEnd + 1, versionEnd);
+  }
+
+  String extension() {
+    return source.substring(versionEnd + 1);
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isArtifactChar(final char c) {
+    return (c >= 'a' && c <= 'z') || isDigit(c) || c == '-' || c == '_';
+  }
+
+  /**
+   * Characters not matched by {@code .} without {@code DOTALL}.
+   */
+  private static boolean isLineTerminator(final char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+}
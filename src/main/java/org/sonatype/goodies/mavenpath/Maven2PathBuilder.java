@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nullable;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.sonatype.goodies.mavenpath.MavenMetadataPath.MAVEN_METADATA_FILENAME;
+
+/**
+ * Maven-2 path building engine.
+ *
+ * Lengths are computed up front and paths are filled left to right into one exactly sized {@code char[]}, or written
+ * straight to an {@link Appendable} or {@link ByteBuffer}; {@code groupId} dots are replaced while copying, without
+ * intermediate strings.
+ *
+ * Artifact paths are {@code groupId/artifactId/directoryVersion/artifactId-version[-classifier][.extension]}, where
+ * {@code directoryVersion} is the base version of {@literal SNAPSHOT} artifacts and the version otherwise.
+ *
+ * @since ???
+ * @see Maven2PathHelper
+ * @see Maven2PathFactory
+ */
+final class Maven2PathBuilder
+{
+  private Maven2PathBuilder() {
+    // empty
+  }
+
+  //
+  // Lengths
+  //
+
+  static int artifactDirectoryLength(final String groupId, final String artifactId, final String directoryVersion) {
+    return groupId.length() + 1 + artifactId.length() + 1 + directoryVersion.length();
+  }
+
+  static int artifactFileNameLength(final String artifactId,
+                                    final String version,
+                                    @Nullable final String classifier,
+                                    @Nullable final String extension)
+  {
+    int length = artifactId.length() + 1 + version.length();
+    if (classifier != null) {
+      length += 1 + classifier.length();
+    }
+    if (extension != null) {
+      length += 1 + extension.length();
+    }
+    return length;
+  }
+
+  static int artifactPathLength(final String groupId,
+                                final String artifactId,
+                                final String directoryVersion,
+                                final String version,
+                                @Nullable final String classifier,
+                                @Nullable final String extension)
+  {
+    return artifactDirectoryLength(groupId, artifactId, directoryVersion) + 1 +
+        artifactFileNameLength(artifactId, version, classifier, extension);
+  }
+
+  static int metadataPathLength(final String groupId,
+                                @Nullable final String artifactId,
+                                @Nullable final String subordinateType)
+  {
+    int length = groupId.length() + 1 + MAVEN_METADATA_FILENAME.length();
+    if (artifactId != null) {
+      length += artifactId.length() + 1;
+    }
+    if (subordinateType != null) {
+      length += 1 + subordinateType.length();
+    }
+    return length;
+  }
+
+  //
+  // char[]
+  //
+
+  static char[] artifactPathChars(final String groupId,
+                                  final String artifactId,
+                                  final String directoryVersion,
+                                  final String version,
+                                  @Nullable final String classifier,
+                                  @Nullable final String extension)
+  {
+    char[] buff = new char[artifactPathLength(groupId, artifactId, directoryVersion, version, classifier, extension)];
+    int pos = putArtifactDirectory(buff, 0, groupId, artifactId, directoryVersion);
+    buff[pos++] = '/';
+    putArtifactFileName(buff, pos, artifactId, version, classifier, extension);
+    return buff;
+  }
+
+  static String artifactPath(final String groupId,
+                             final String artifactId,
+                             final String directoryVersion,
+                             final String version,
+                             @Nullable final String classifier,
+                             @Nullable final String extension)
+  {
+    return new String(artifactPathChars(groupId, artifactId, directoryVersion, version, classifier, extension));
+  }
+
+  static String artifactDirectory(final String groupId, final String artifactId, final String directoryVersion) {
+    char[] buff = new char[artifactDirectoryLength(groupId, artifactId, directoryVersion)];
+    putArtifactDirectory(buff, 0, groupId, artifactId, directoryVersion);
+    return new String(buff);
+  }
+
+  static String artifactFileName(final String artifactId,
+                                 final String version,
+                                 @Nullable final String classifier,
+                                 @Nullable final String extension)
+  {
+    char[] buff = new char[artifactFileNameLength(artifactId, version, classifier, extension)];
+    putArtifactFileName(buff, 0, artifactId, version, classifier, extension);
+    return new String(buff);
+  }
+
+  static String metadataPath(final String groupId,
+                             @Nullable final String artifactId,
+                             @Nullable final String subordinateType)
+  {
+    char[] buff = new char[metadataPathLength(groupId, artifactId, subordinateType)];
+    int pos = putGroup(buff, 0, groupId);
+    buff[pos++] = '/';
+    if (artifactId != null) {
+      pos = put(buff, pos, artifactId);
+      buff[pos++] = '/';
+    }
+    pos = put(buff, pos, MAVEN_METADATA_FILENAME);
+    if (subordinateType != null) {
+      buff[pos++] = '.';
+      put(buff, pos, subordinateType);
+    }
+    return new String(buff);
+  }
+
+  /**
+   * Returns {@code first + separator + second}.
+   */
+  static String join(final String first, final char separator, final String second) {
+    char[] buff = new char[first.length() + 1 + second.length()];
+    int pos = put(buff, 0, first);
+    buff[pos++] = separator;
+    put(buff, pos, second);
+    return new String(buff);
+  }
+
+  private static int putArtifactDirectory(final char[] buff,
+                                          int pos,
+                                          final String groupId,
+                                          final String artifactId,
+                                          final String directoryVersion)
+  {
+    pos = putGroup(buff, pos, groupId);
+    buff[pos++] = '/';
+    pos = put(buff, pos, artifactId);
+    buff[pos++] = '/';
+    return put(buff, pos, directoryVersion);
+  }
+
+  private static int putArtifactFileName(final char[] buff,
+                                         int pos,
+                                         final String artifactId,
+                                         final String version,
+                                         @Nullable final String classifier,
+                                         @Nullable final String extension)
+  {
+    pos = put(buff, pos, artifactId);
+    buff[pos++] = '-';
+    pos = put(buff, pos, version);
+    if (classifier != null) {
+      buff[pos++] = '-';
+      pos = put(buff, pos, classifier);
+    }
+    if (extension != null) {
+      buff[pos++] = '.';
+      pos = put(buff, pos, extension);
+    }
+    return pos;
+  }
+
+  private static int put(final char[] buff, final int pos, final String value) {
+    value.getChars(0, value.length(), buff, pos);
+    return pos + value.length();
+  }
+
+  private static int putGroup(final char[] buff, final int pos, final String groupId) {
+    int end = put(buff, pos, groupId);
+    for (int i = pos; i < end; i++) {
+      if (buff[i] == '.') {
+        buff[i] = '/';
+      }
+    }
+    return end;
+  }
+
+  //
+  // Appendable
+  //
+
+  static void appendArtifactPath(final Appendable out,
+                                 final String groupId,
+                                 final String artifactId,
+                                 final String directoryVersion,
+                                 final String version,
+                                 @Nullable final String classifier,
+                                 @Nullable final String extension) throws IOException
+  {
+    appendGroup(out, groupId);
+    out.append('/').append(artifactId)
+        .append('/').append(directoryVersion)
+        .append('/').append(artifactId)
+        .append('-').append(version);
+    if (classifier != null) {
+      out.append('-').append(classifier);
+    }
+    if (extension != null) {
+      out.append('.').append(extension);
+    }
+  }
+
+  static void appendMetadataPath(final Appendable out,
+                                 final String groupId,
+                                 @Nullable final String artifactId,
+                                 @Nullable final String subordinateType) throws IOException
+  {
+    appendGroup(out, groupId);
+    out.append('/');
+    if (artifactId != null) {
+      out.append(artifactId).append('/');
+    }
+    out.append(MAVEN_METADATA_FILENAME);
+    if (subordinateType != null) {
+      out.append('.').append(subordinateType);
+    }
+  }
+
+  private static void appendGroup(final Appendable out, final String groupId) throws IOException {
+    int start = 0;
+    for (int i = 0, length = groupId.length(); i < length; i++) {
+      if (groupId.charAt(i) == '.') {
+        out.append(groupId, start, i).append('/');
+        start = i + 1;
+      }
+    }
+    out.append(groupId, start, groupId.length());
+  }
+
+  //
+  // ByteBuffer
+  //
+
+  /**
+   * Writes UTF-8 encoded artifact path; nothing is written if the buffer has not enough room.
+   *
+   * @throws BufferOverflowException Buffer has not enough remaining bytes.
+   */
+  static void putArtifactPath(final ByteBuffer out,
+                              final String groupId,
+                              final String artifactId,
+                              final String directoryVersion,
+                              final String version,
+                              @Nullable final String classifier,
+                              @Nullable final String extension)
+  {
+    // 3 '/' and 1 '-' separators
+    int length = 4 + utf8Length(groupId) + 2 * utf8Length(artifactId) + utf8Length(directoryVersion) +
+        utf8Length(version);
+    if (classifier != null) {
+      length += 1 + utf8Length(classifier);
+    }
+    if (extension != null) {
+      length += 1 + utf8Length(extension);
+    }
+    if (out.remaining() < length) {
+      throw new BufferOverflowException();
+    }
+
+    int pos = put(out, out.position(), groupId, true);
+    out.put(pos++, (byte) '/');
+    pos = put(out, pos, artifactId, false);
+    out.put(pos++, (byte) '/');
+    pos = put(out, pos, directoryVersion, false);
+    out.put(pos++, (byte) '/');
+    pos = put(out, pos, artifactId, false);
+    out.put(pos++, (byte) '-');
+    pos = put(out, pos, version, false);
+    if (classifier != null) {
+      out.put(pos++, (byte) '-');
+      pos = put(out, pos, classifier, false);
+    }
+    if (extension != null) {
+      out.put(pos++, (byte) '.');
+      pos = put(out, pos, extension, false);
+    }
+    out.position(pos);
+  }
+
+  /**
+   * Writes UTF-8 encoded {@code maven-metadata.xml} path; nothing is written if the buffer has not enough room.
+   *
+   * @throws BufferOverflowException Buffer has not enough remaining bytes.
+   */
+  static void putMetadataPath(final ByteBuffer out,
+                              final String groupId,
+                              @Nullable final String artifactId,
+                              @Nullable final String subordinateType)
+  {
+    int length = utf8Length(groupId) + 1 + MAVEN_METADATA_FILENAME.length();
+    if (artifactId != null) {
+      length += utf8Length(artifactId) + 1;
+    }
+    if (subordinateType != null) {
+      length += 1 + utf8Length(subordinateType);
+    }
+    if (out.remaining() < length) {
+      throw new BufferOverflowException();
+    }
+
+    int pos = put(out, out.position(), groupId, true);
+    out.put(pos++, (byte) '/');
+    if (artifactId != null) {
+      pos = put(out, pos, artifactId, false);
+      out.put(pos++, (byte) '/');
+    }
+    pos = put(out, pos, MAVEN_METADATA_FILENAME, false);
+    if (subordinateType != null) {
+      out.put(pos++, (byte) '.');
+      pos = put(out, pos, subordinateType, false);
+    }
+    out.position(pos);
+  }
+
+  /**
+   * Number of bytes of given value encoded as UTF-8; unpaired surrogates encode as one {@code '?'} byte, as with
+   * {@link String#getBytes}.
+   */
+  static int utf8Length(final String value) {
+    int length = value.length();
+    int result = length;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c >= 0x80) {
+        if (c < 0x800) {
+          result += 1;
+        }
+        else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+          // 4 bytes for 2 chars
+          result += 2;
+          i++;
+        }
+        else if (!Character.isSurrogate(c)) {
+          result += 2;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Puts UTF-8 encoded value at given index, without moving the buffer position; returns index after the value.
+   *
+   * Heap buffers are filled through their backing array, avoiding per-byte bounds checks.
+   */
+  private static int put(final ByteBuffer out, final int pos, final String value, final boolean group) {
+    if (out.hasArray()) {
+      int offset = out.arrayOffset();
+      return put(out.array(), offset + pos, value, group) - offset;
+    }
+    int index = pos;
+    for (int i = 0, length = value.length(); i < length; i++) {
+      char c = value.charAt(i);
+      if (c >= 0x80) {
+        // rare; encode the remainder in one go
+        for (byte b : value.substring(i).getBytes(UTF_8)) {
+          out.put(index++, group && b == '.' ? (byte) '/' : b);
+        }
+        break;
+      }
+      out.put(index++, group && c == '.' ? (byte) '/' : (byte) c);
+    }
+    return index;
+  }
+
+  private static int put(final byte[] out, int pos, final String value, final boolean group) {
+    for (int i = 0, length = value.length(); i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        out[pos++] = group && c == '.' ? (byte) '/' : (byte) c;
+      }
+      else if (c < 0x800) {
+        out[pos++] = (byte) (0xC0 | c >> 6);
+        out[pos++] = (byte) (0x80 | c & 0x3F);
+      }
+      else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        out[pos++] = (byte) (0xF0 | codePoint >> 18);
+        out[pos++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+        out[pos++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+        out[pos++] = (byte) (0x80 | codePoint & 0x3F);
+      }
+      else if (Character.isSurrogate(c)) {
+        out[pos++] = (byte) '?';
+      }
+      else {
+        out[pos++] = (byte) (0xE0 | c >> 12);
+        out[pos++] = (byte) (0x80 | c >> 6 & 0x3F);
+        out[pos++] = (byte) (0x80 | c & 0x3F);
+      }
+    }
+    return pos;
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Maven-2 bulk parser.
+ *
+ * Splits input across a {@link ForkJoinPool} (or caller-supplied {@link Executor}) and collects results into a
+ * columnar {@link Maven2PathTable} whose rows keep input order.
+ *
+ * @since ???
+ */
+public class Maven2PathBulkParser
+{
+  /**
+   * Rows parsed per task.
+   */
+  private static final int CHUNK_SIZE = 1024;
+
+  private Maven2PathBulkParser() {
+    // empty
+  }
+
+  /**
+   * Parse all paths on the common pool.
+   */
+  public static Maven2PathTable parseAll(final List<String> paths) {
+    return parseAll(paths, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Parse all paths using the given executor.
+   */
+  public static Maven2PathTable parseAll(final List<String> paths, final Executor executor) {
+    requireNonNull(paths);
+    return parseAll(paths.toArray(new String[0]), executor);
+  }
+
+  /**
+   * Parse all paths on the common pool; rows follow the stream encounter order.
+   */
+  public static Maven2PathTable parseAll(final Stream<String> paths) {
+    return parseAll(paths, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Parse all paths using the given executor; rows follow the stream encounter order.
+   */
+  public static Maven2PathTable parseAll(final Stream<String> paths, final Executor executor) {
+    requireNonNull(paths);
+    return parseAll(paths.toArray(String[]::new), executor);
+  }
+
+  /**
+   * Parse paths as a parallel stream, for consumers which do not need all results at once.
+   *
+   * When {@code ordered} is false the stream is unordered, which avoids buffering in order-sensitive
+   * terminal operations.  Runs on the pool the terminal operation is invoked from.
+   */
+  public static Stream<MavenPath> parse(final Stream<String> paths, final boolean ordered) {
+    requireNonNull(paths);
+    Stream<MavenPath> result = paths.parallel().map(Maven2PathParser::parse);
+    return ordered ? result : result.unordered();
+  }
+
+  private static Maven2PathTable parseAll(final String[] paths, final Executor executor) {
+    requireNonNull(executor);
+    if (paths.length > Integer.MAX_VALUE / Maven2PathScanner.OFFSET_COUNT) {
+      throw new IllegalArgumentException("Too many paths; parse in batches: " + paths.length);
+    }
+    for (String path : paths) {
+      requireNonNull(path);
+    }
+
+    byte[] kinds = new byte[paths.length];
+    int[] offsets = new int[paths.length * Maven2PathScanner.OFFSET_COUNT];
+
+    if (paths.length <= CHUNK_SIZE) {
+      scan(paths, kinds, offsets, 0, paths.length);
+    }
+    else if (executor instanceof ForkJoinPool) {
+      ((ForkJoinPool) executor).invoke(new ScanTask(paths, kinds, offsets, 0, paths.length));
+    }
+    else {
+      int chunks = (paths.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+      CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+      for (int i = 0; i < chunks; i++) {
+        int from = i * CHUNK_SIZE;
+        int to = Math.min(from + CHUNK_SIZE, paths.length);
+        futures[i] = CompletableFuture.runAsync(() -> scan(paths, kinds, offsets, from, to), executor);
+      }
+      CompletableFuture.allOf(futures).join();
+    }
+
+    return new Maven2PathTable(paths, kinds, offsets);
+  }
+
+  /**
+   * Scan rows {@code [from, to)}; tasks write disjoint ranges.
+   */
+  private static void scan(final String[] paths, final byte[] kinds, final int[] offsets, final int from, final int to) {
+    for (int row = from; row < to; row++) {
+      Maven2PathScanner scanner = new Maven2PathScanner(paths[row]);
+      kinds[row] = (byte) scanner.scan();
+      scanner.writeOffsets(offsets, row * Maven2PathScanner.OFFSET_COUNT);
+    }
+  }
+
+  private static class ScanTask
+      extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final String[] paths;
+
+    private final byte[] kinds;
+
+    private final int[] offsets;
+
+    private final int from;
+
+    private final int to;
+
+    private ScanTask(final String[] paths, final byte[] kinds, final int[] offsets, final int from, final int to) {
+      this.paths = paths;
+      this.kinds = kinds;
+      this.offsets = offsets;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= CHUNK_SIZE) {
+        scan(paths, kinds, offsets, from, to);
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(
+          new ScanTask(paths, kinds, offsets, from, middle),
+          new ScanTask(paths, kinds, offsets, middle, to)
+      );
+    }
+  }
+}
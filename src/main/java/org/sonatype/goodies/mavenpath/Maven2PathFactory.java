@@ -24,6 +24,8 @@ import static org.sonatype.goodies.mavenpath.MavenMetadataPath.MAVEN_METADATA_FI
  */
 public class Maven2PathFactory
 {
+  private static final MavenPathInterner IDENTITY = MavenPathInterner.identity();
+
   private Maven2PathFactory() {
     // empty
   }
@@ -31,16 +33,10 @@ public class Maven2PathFactory
   public static MavenMetadataPath createMavenMetadata(final String prefix, @Nullable final String subordinateType) {
     requireNonNull(prefix);
 
-    StringBuilder buff = new StringBuilder();
-    buff.append(MAVEN_METADATA_FILENAME);
-    if (subordinateType != null) {
-      buff.append('.').append(subordinateType);
-    }
-    String fileName = buff.toString();
-
-    buff.insert(0, '/');
-    buff.insert(0, prefix);
-    String path = buff.toString();
+    String fileName = subordinateType == null
+        ? MAVEN_METADATA_FILENAME
+        : Maven2PathBuilder.join(MAVEN_METADATA_FILENAME, '.', subordinateType);
+    String path = Maven2PathBuilder.join(prefix, '/', fileName);
 
     return new MavenMetadataPath(path, fileName, prefix, subordinateType);
   }
@@ -50,27 +46,33 @@ public class Maven2PathFactory
                                             final String version,
                                             @Nullable final String classifier,
                                             final String extension)
+  {
+    return createArtifact(groupId, artifactId, version, classifier, extension, IDENTITY);
+  }
+
+  /**
+   * Create artifact; coordinates are canonicalized with the given interner.
+   */
+  public static ArtifactPath createArtifact(final String groupId,
+                                            final String artifactId,
+                                            final String version,
+                                            @Nullable final String classifier,
+                                            final String extension,
+                                            final MavenPathInterner interner)
   {
     requireNonNull(groupId);
     requireNonNull(artifactId);
     requireNonNull(version);
     requireNonNull(extension);
+    requireNonNull(interner);
 
-    StringBuilder buff = new StringBuilder();
-    buff.append(artifactId);
-    buff.append('-').append(version);
-    if (classifier != null) {
-      buff.append('-').append(classifier);
-    }
-    buff.append('.').append(extension);
-    String fileName = buff.toString();
+    char[] buff = Maven2PathBuilder.artifactPathChars(groupId, artifactId, version, version, classifier, extension);
+    int fileNameLength = Maven2PathBuilder.artifactFileNameLength(artifactId, version, classifier, extension);
+    String path = new String(buff);
+    String fileName = path.substring(buff.length - fileNameLength);
 
-    buff.insert(0, '/').insert(0, version);
-    buff.insert(0, '/').insert(0, artifactId);
-    buff.insert(0, '/').insert(0, groupId.replace('.', '/'));
-    String path = buff.toString();
-
-    return new ArtifactPath(path, fileName, groupId, artifactId, version, classifier, extension);
+    return new ArtifactPath(path, fileName, interner.intern(groupId), interner.intern(artifactId),
+        interner.intern(version), interner.intern(classifier), interner.intern(extension));
   }
 
   public static SnapshotArtifactPath createSnapshotArtifact(final String groupId,
@@ -81,6 +83,23 @@ public class Maven2PathFactory
                                                             final String build,
                                                             @Nullable final String classifier,
                                                             final String extension)
+  {
+    return createSnapshotArtifact(groupId, artifactId, baseVersion, version, timestamp, build, classifier, extension,
+        IDENTITY);
+  }
+
+  /**
+   * Create {@literal SNAPSHOT} artifact; coordinates are canonicalized with the given interner.
+   */
+  public static SnapshotArtifactPath createSnapshotArtifact(final String groupId,
+                                                            final String artifactId,
+                                                            final String baseVersion,
+                                                            final String version,
+                                                            final String timestamp,
+                                                            final String build,
+                                                            @Nullable final String classifier,
+                                                            final String extension,
+                                                            final MavenPathInterner interner)
   {
     requireNonNull(groupId);
     requireNonNull(artifactId);
@@ -89,21 +108,15 @@ public class Maven2PathFactory
     requireNonNull(timestamp);
     requireNonNull(build);
     requireNonNull(extension);
+    requireNonNull(interner);
 
-    StringBuilder buff = new StringBuilder();
-    buff.append(artifactId);
-    buff.append('-').append(version);
-    if (classifier != null) {
-      buff.append('-').append(classifier);
-    }
-    buff.append('.').append(extension);
-    String fileName = buff.toString();
-
-    buff.insert(0, '/').insert(0, baseVersion);
-    buff.insert(0, '/').insert(0, artifactId);
-    buff.insert(0, '/').insert(0, groupId.replace('.', '/'));
-    String path = buff.toString();
+    char[] buff =
+        Maven2PathBuilder.artifactPathChars(groupId, artifactId, baseVersion, version, classifier, extension);
+    int fileNameLength = Maven2PathBuilder.artifactFileNameLength(artifactId, version, classifier, extension);
+    String path = new String(buff);
+    String fileName = path.substring(buff.length - fileNameLength);
 
-    return new SnapshotArtifactPath(path, fileName, groupId, artifactId, baseVersion, version, timestamp, build, classifier, extension);
+    return new SnapshotArtifactPath(path, fileName, interner.intern(groupId), interner.intern(artifactId),
+        interner.intern(baseVersion), version, timestamp, build, interner.intern(classifier), interner.intern(extension));
   }
 }
@@ -12,10 +12,13 @@
  */
 package org.sonatype.goodies.mavenpath;
 
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
 import javax.annotation.Nullable;
 
 import static java.util.Objects.requireNonNull;
-import static org.sonatype.goodies.mavenpath.MavenMetadataPath.MAVEN_METADATA_FILENAME;
 
 /**
  * Maven-2 path helpers.
@@ -47,26 +50,49 @@ public class Maven2PathHelper
     // classifier is nullable
     requireNonNull(extension);
 
-    StringBuilder buff = new StringBuilder();
-    buff.append(groupId.replace('.', '/'))
-        .append('/')
-        .append(artifactId)
-        .append('/')
-        .append(version)
-        .append('/')
-        .append(artifactId)
-        .append('-')
-        .append(version);
-
-    if (classifier != null) {
-      buff.append('-')
-          .append(classifier);
-    }
-
-    buff.append('.')
-        .append(extension);
-
-    return buff.toString();
+    return Maven2PathBuilder.artifactPath(groupId, artifactId, version, version, classifier, extension);
+  }
+
+  /**
+   * Append Maven2 artifact path from coordinates; without building an intermediate {@link String}.
+   */
+  public static void appendArtifactPath(final Appendable out,
+                                        final String groupId,
+                                        final String artifactId,
+                                        final String version,
+                                        @Nullable final String classifier,
+                                        final String extension) throws IOException
+  {
+    requireNonNull(out);
+    requireNonNull(groupId);
+    requireNonNull(artifactId);
+    requireNonNull(version);
+    // classifier is nullable
+    requireNonNull(extension);
+
+    Maven2PathBuilder.appendArtifactPath(out, groupId, artifactId, version, version, classifier, extension);
+  }
+
+  /**
+   * Put UTF-8 encoded Maven2 artifact path from coordinates; nothing is written if the buffer has not enough room.
+   *
+   * @throws BufferOverflowException Buffer has not enough remaining bytes.
+   */
+  public static void putArtifactPath(final ByteBuffer out,
+                                     final String groupId,
+                                     final String artifactId,
+                                     final String version,
+                                     @Nullable final String classifier,
+                                     final String extension)
+  {
+    requireNonNull(out);
+    requireNonNull(groupId);
+    requireNonNull(artifactId);
+    requireNonNull(version);
+    // classifier is nullable
+    requireNonNull(extension);
+
+    Maven2PathBuilder.putArtifactPath(out, groupId, artifactId, version, version, classifier, extension);
   }
 
   /**
@@ -77,18 +103,7 @@ public class Maven2PathHelper
     requireNonNull(artifactId);
     requireNonNull(version);
 
-    StringBuilder buff = new StringBuilder();
-    buff.append(groupId.replace('.', '/'))
-        .append('/')
-        .append(artifactId)
-        .append('/')
-        .append(version)
-        .append('/')
-        .append(artifactId)
-        .append('-')
-        .append(version);
-
-    return buff.toString();
+    return Maven2PathBuilder.artifactPath(groupId, artifactId, version, version, null, null);
   }
 
   /**
@@ -99,14 +114,7 @@ public class Maven2PathHelper
     requireNonNull(artifactId);
     requireNonNull(version);
 
-    StringBuilder buff = new StringBuilder();
-    buff.append(groupId.replace('.', '/'))
-        .append('/')
-        .append(artifactId)
-        .append('/')
-        .append(version);
-
-    return buff.toString();
+    return Maven2PathBuilder.artifactDirectory(groupId, artifactId, version);
   }
 
   /**
@@ -122,20 +130,7 @@ public class Maven2PathHelper
     // classifier is nullable
     requireNonNull(extension);
 
-    StringBuilder buff = new StringBuilder();
-    buff.append(artifactId)
-        .append('-')
-        .append(version);
-
-    if (classifier != null) {
-      buff.append('-')
-          .append(classifier);
-    }
-
-    buff.append('.')
-        .append(extension);
-
-    return buff.toString();
+    return Maven2PathBuilder.artifactFileName(artifactId, version, classifier, extension);
   }
 
   /**
@@ -156,21 +151,41 @@ public class Maven2PathHelper
     // artifactId is nullable
     // subordinateType is nullable
 
-    StringBuilder buff = new StringBuilder();
-    buff.append(groupId.replace('.', '/'))
-        .append('/');
+    return Maven2PathBuilder.metadataPath(groupId, artifactId, subordinateType);
+  }
 
-    if (artifactId != null) {
-      buff.append(artifactId)
-          .append('/');
-    }
+  /**
+   * Append Maven2 maven-metadata path from coordinates; without building an intermediate {@link String}.
+   */
+  public static void appendMetadataPath(final Appendable out,
+                                        final String groupId,
+                                        @Nullable final String artifactId,
+                                        @Nullable final String subordinateType) throws IOException
+  {
+    requireNonNull(out);
+    requireNonNull(groupId);
+    // artifactId is nullable
+    // subordinateType is nullable
 
-    buff.append(MAVEN_METADATA_FILENAME);
+    Maven2PathBuilder.appendMetadataPath(out, groupId, artifactId, subordinateType);
+  }
 
-    if (subordinateType != null) {
-      buff.append('.').append(subordinateType);
-    }
+  /**
+   * Put UTF-8 encoded Maven2 maven-metadata path from coordinates; nothing is written if the buffer has not enough
+   * room.
+   *
+   * @throws BufferOverflowException Buffer has not enough remaining bytes.
+   */
+  public static void putMetadataPath(final ByteBuffer out,
+                                     final String groupId,
+                                     @Nullable final String artifactId,
+                                     @Nullable final String subordinateType)
+  {
+    requireNonNull(out);
+    requireNonNull(groupId);
+    // artifactId is nullable
+    // subordinateType is nullable
 
-    return buff.toString();
+    Maven2PathBuilder.putMetadataPath(out, groupId, artifactId, subordinateType);
   }
 }
@@ -12,134 +12,221 @@
  */
 package org.sonatype.goodies.mavenpath;
 
-import java.util.Arrays;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 import javax.annotation.Nullable;
 
 import static java.util.Objects.requireNonNull;
-import static org.sonatype.goodies.mavenpath.SnapshotArtifactPath.SNAPSHOT_SUFFIX;
 
 /**
  * Maven-2 {@link MavenPath} parser.
  *
+ * Paths are classified in a single scan by {@link Maven2PathScanner}; no regular-expressions are involved.
+ *
  * @since ???
  */
 public class Maven2PathParser
 {
-  /**
-   * Matches {@literal maven-metadata.xml} and subordinates.
-   */
-  private static final Pattern mavenMetadataPattern = Pattern.compile(
-      "^(?<prefix>.+)/(?<filename>maven-metadata\\.xml(\\.(?<subtype>.+))?)$"
-  );
+  private static final MavenPathInterner IDENTITY = MavenPathInterner.identity();
+
+  private Maven2PathParser() {
+    // empty
+  }
+
+  @Nullable
+  public static MavenPath parse(final String path) {
+    return parse(path, IDENTITY);
+  }
 
   /**
-   * Matches artifact and subordinates.
+   * Parse path; coordinates are canonicalized with the given interner.
    */
-  private static final Pattern artifactPattern = Pattern.compile(
-      "^(?<group>.+)/(?<artifact>[^/]+)/(?<version>[^/]+)/(?<filename>\\k<artifact>-\\k<version>(-(?<classifier>[^.]+))?\\.(?<extension>.+))$"
-  );
+  @Nullable
+  public static MavenPath parse(final String path, final MavenPathInterner interner) {
+    requireNonNull(path);
+    requireNonNull(interner);
+
+    Maven2PathScanner scanner = new Maven2PathScanner(path);
+    scanner.scan();
+    return create(path, scanner, interner);
+  }
 
   /**
-   * Matches SNAPSHOT artifact and subordinates.
+   * Parse untrusted path within limits.
+   *
+   * @return parsed path; or {@code null} if the path is not a Maven-2 path.
+   * @throws MavenPathRejectedException if the path exceeds a limit; scanning stops as soon as the work budget is
+   *                                    spent.
    */
-  private static final Pattern snapshotArtifactPattern = Pattern.compile(
-      "^(?<group>.+)/(?<artifact>[^/]+)/(?<bversion>(?<vprefix>[^/]+)-SNAPSHOT)/(?<filename>\\k<artifact>-(?<version>\\k<vprefix>-(?<vsuffix>(?<vtimestamp>\\d+\\.\\d+)-(?<vbuild>\\d+)))(-(?<classifier>[^.]+))?\\.(?<extension>.+))$",
-      Pattern.CASE_INSENSITIVE
-  );
-
-  private Maven2PathParser() {
-    // empty
+  @Nullable
+  public static MavenPath parse(final String path, final MavenPathLimits limits) {
+    requireNonNull(path);
+    requireNonNull(limits);
+    limits.enforce(path);
+
+    Maven2PathScanner scanner = new Maven2PathScanner(path);
+    scanner.budget = limits.getMaxWork();
+    scanner.scan();
+    if (scanner.isExhausted()) {
+      throw new MavenPathRejectedException(MavenPathLimits.Rejection.WORK_EXCEEDED, limits);
+    }
+    return create(path, scanner, IDENTITY);
   }
 
+  /**
+   * Parse path into a compact representation.
+   *
+   * Artifacts keep only the path and packed component offsets, and derive components on every getter call; they
+   * retain far less heap than eagerly parsed paths, at the cost of allocating on access.  Metadata and paths longer
+   * than 65535 characters are parsed eagerly.
+   */
   @Nullable
-  public static MavenPath parse(final String path) {
+  public static MavenPath parseCompact(final String path) {
     requireNonNull(path);
 
-    // skip invalid paths
-    if (path.startsWith("/") || path.endsWith("/")) {
-      return null;
-    }
+    Maven2PathScanner scanner = new Maven2PathScanner(path);
+    scanner.scan();
+    long offsets = CompactArtifactPath.pack(scanner, path.length());
+    if (offsets != -1) {
+      switch (scanner.kind) {
+        case Maven2PathScanner.ARTIFACT:
+          return new CompactArtifactPath(path, offsets, scanner.extensionStart);
 
-    Matcher match = match(mavenMetadataPattern, path);
-    if (match != null) {
-      String prefix = match.group("prefix");
-      String filename = match.group("filename");
-      String subtype = match.group("subtype");
-      String version = null;
-      String artifactId = null;
-      String groupId = null;
-
-      // use the last segment to _guess_ G/GA/GAV variants
-      String[] segments = prefix.split("/");
-      String lastSegment = segments[segments.length - 1];
-      if (segments.length > 2 && lastSegment.endsWith(SNAPSHOT_SUFFIX)) {
-        // if last segment contains SNAPSHOT; most likely a <group>/<artifact>/<version>/maven-metadata.xml path
-        version = lastSegment;
-        artifactId = segments[segments.length - 2];
-        groupId = String.join(".", Arrays.copyOfRange(segments, 0, segments.length - 2));
-      }
-      else if (segments.length > 1 && (lastSegment.contains(".") || lastSegment.contains("-"))) {
-        // if last segment contains tokens which are more likely to be in artifactId; most likely a <group>/<artifact>/maven-metadata.xml path
-        artifactId = lastSegment;
-        groupId = String.join(".", Arrays.copyOfRange(segments, 0, segments.length - 1));
-      }
-      else {
-        // else assume <group>/maven-metadata.xml path
-        groupId = prefix.replace('/', '.');
-      }
+        case Maven2PathScanner.SNAPSHOT_ARTIFACT:
+          return new CompactSnapshotArtifactPath(path, offsets, scanner.extensionStart);
 
-      return new MavenMetadataPath(
-          path,
-          filename,
-          prefix,
-          groupId,
-          artifactId,
-          version,
-          subtype
-      );
+        default:
+      }
     }
+    return create(path, scanner, IDENTITY);
+  }
 
-    match = match(artifactPattern, path);
-    if (match != null) {
-      return new ArtifactPath(
-          path,
-          match.group("filename"),
-          match.group("group").replace('/', '.'),
-          match.group("artifact"),
-          match.group("version"),
-          match.group("classifier"),
-          match.group("extension")
-      );
+  /**
+   * Returns the {@link #parseCompact compact} equivalent of a Maven-2 artifact path; other paths, such as Maven-1
+   * artifacts, are returned as-is.
+   */
+  public static MavenPath compact(final MavenPath path) {
+    requireNonNull(path);
+    if (!(path instanceof ArtifactPath) || path instanceof CompactArtifactPath ||
+        path instanceof CompactSnapshotArtifactPath) {
+      return path;
     }
-
-    match = match(snapshotArtifactPattern, path);
-    if (match != null) {
-      return new SnapshotArtifactPath(
-          path,
-          match.group("filename"),
-          match.group("group").replace('/', '.'),
-          match.group("artifact"),
-          match.group("bversion"),
-          match.group("version"),
-          match.group("vtimestamp"),
-          match.group("vbuild"),
-          match.group("classifier"),
-          match.group("extension")
-      );
+    MavenPath result = parseCompact(path.getPath());
+    if (result instanceof ArtifactPath && sameCoordinates((ArtifactPath) path, (ArtifactPath) result)) {
+      return result;
     }
+    return path;
+  }
 
-    return null;
+  private static boolean sameCoordinates(final ArtifactPath a, final ArtifactPath b) {
+    return (a instanceof SnapshotArtifactPath) == (b instanceof SnapshotArtifactPath) &&
+        a.getGroupId().equals(b.getGroupId()) &&
+        a.getArtifactId().equals(b.getArtifactId()) &&
+        a.getVersion().equals(b.getVersion()) &&
+        Objects.equals(a.getClassifier(), b.getClassifier()) &&
+        a.getExtension().equals(b.getExtension());
+  }
+
+  /**
+   * Parse path from characters without copying.
+   *
+   * Returns a lazy view; components are only materialized as strings when their getters are called.
+   * The source must not be modified while the result is in use.
+   */
+  @Nullable
+  public static MavenPath parse(final CharSequence path) {
+    requireNonNull(path);
+    return view(new Maven2PathScanner(path));
   }
 
+  /**
+   * Parse path from ASCII or UTF-8 encoded bytes without decoding.
+   *
+   * Returns a lazy view; components are only decoded when their getters are called.
+   * The bytes must not be modified while the result is in use.
+   * Only ASCII line-terminators are recognized in encoded paths.
+   */
   @Nullable
-  private static Matcher match(final Pattern pattern, final String value) {
-    Matcher matcher = pattern.matcher(value);
-    if (matcher.matches()) {
-      return matcher;
+  public static MavenPath parse(final byte[] path, final int offset, final int length) {
+    requireNonNull(path);
+    return view(new Maven2PathScanner(new Utf8Sequence(path, offset, length)));
+  }
+
+  /**
+   * Parse path from ASCII or UTF-8 encoded bytes between buffer position and limit without decoding.
+   *
+   * The buffer position and limit are not modified.
+   *
+   * @see #parse(byte[], int, int)
+   */
+  @Nullable
+  public static MavenPath parse(final ByteBuffer path) {
+    requireNonNull(path);
+    return view(new Maven2PathScanner(new Utf8Sequence(path)));
+  }
+
+  /**
+   * Create eager {@link MavenPath} from scanned state.
+   */
+  @Nullable
+  static MavenPath create(final String path, final Maven2PathScanner scanner, final MavenPathInterner interner) {
+    switch (scanner.kind) {
+      case Maven2PathScanner.METADATA:
+        return new MavenMetadataPath(
+            path,
+            scanner.fileName(),
+            scanner.prefix(),
+            interner.intern(scanner.groupId()),
+            interner.intern(scanner.artifactId()),
+            interner.intern(scanner.version()),
+            scanner.subtype()
+        );
+
+      case Maven2PathScanner.ARTIFACT:
+        return new ArtifactPath(
+            path,
+            scanner.fileName(),
+            interner.intern(scanner.groupId()),
+            interner.intern(scanner.artifactId()),
+            interner.intern(scanner.version()),
+            interner.intern(scanner.classifier()),
+            interner.intern(scanner.extension())
+        );
+
+      case Maven2PathScanner.SNAPSHOT_ARTIFACT:
+        return new SnapshotArtifactPath(
+            path,
+            scanner.fileName(),
+            interner.intern(scanner.groupId()),
+            interner.intern(scanner.artifactId()),
+            interner.intern(scanner.baseVersion()),
+            scanner.version(),
+            scanner.timestamp(),
+            scanner.build(),
+            interner.intern(scanner.classifier()),
+            interner.intern(scanner.extension())
+        );
+
+      default:
+        return null;
+    }
+  }
+
+  @Nullable
+  private static MavenPath view(final Maven2PathScanner scanner) {
+    switch (scanner.scan()) {
+      case Maven2PathScanner.METADATA:
+        return new LazyMavenMetadataPath(scanner);
+
+      case Maven2PathScanner.ARTIFACT:
+        return new LazyArtifactPath(scanner);
+
+      case Maven2PathScanner.SNAPSHOT_ARTIFACT:
+        return new LazySnapshotArtifactPath(scanner);
+
+      default:
+        return null;
     }
-    return null;
   }
 }
@@ -0,0 +1,656 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import javax.annotation.Nullable;
+
+import static java.util.Objects.requireNonNull;
+import static org.sonatype.goodies.mavenpath.MavenMetadataPath.MAVEN_METADATA_FILENAME;
+
+/**
+ * Regex-free Maven-2 path scanner.
+ *
+ * Classifies a path as {@literal maven-metadata.xml}, artifact or {@literal SNAPSHOT} artifact and records the
+ * component boundaries as offsets into the source.  Semantics mirror the patterns previously used by
+ * {@link Maven2PathParser} (greedy group, back-referenced artifact and version, case-insensitive
+ * {@literal SNAPSHOT} matching); only the matching is done by hand.
+ *
+ * Components are materialized as strings on demand and memoized; this backs the lazy views returned
+ * when parsing {@link CharSequence} and byte sources.
+ *
+ * Scanning is not thread-safe; once scanned component access is, as memoized values are immutable.
+ *
+ * @since ???
+ */
+final class Maven2PathScanner
+{
+  static final int NONE = 0;
+
+  static final int METADATA = 1;
+
+  static final int ARTIFACT = 2;
+
+  static final int SNAPSHOT_ARTIFACT = 3;
+
+  /**
+   * Number of offsets written by {@link #writeOffsets(int[], int)}.
+   */
+  static final int OFFSET_COUNT = 17;
+
+  private static final String DASH_SNAPSHOT = SnapshotArtifactPath.DASH_SNAPSHOT_SUFFIX;
+
+  private static final String SNAPSHOT_SUFFIX = SnapshotArtifactPath.SNAPSHOT_SUFFIX;
+
+  private final CharSequence source;
+
+  private final int length;
+
+  /**
+   * Index of first and last line-terminator; these are never matched by {@code .} in the original patterns.
+   */
+  private int firstTerminator = -1;
+
+  private int lastTerminator = -1;
+
+  int kind = NONE;
+
+  /**
+   * Maximum characters examined by {@link #scan()}; scanning gives up with {@link #NONE} once exceeded.
+   */
+  long budget = Long.MAX_VALUE;
+
+  /**
+   * Characters examined so far.
+   */
+  long work;
+
+  //
+  // Metadata offsets
+  //
+
+  /**
+   * End of prefix; also the index of the slash before the file-name.
+   */
+  int prefixEnd;
+
+  /**
+   * Start of subordinate-type; or -1.
+   */
+  int subtypeStart = -1;
+
+  //
+  // Artifact offsets; groupId spans [0, groupEnd); also used for guessed metadata coordinates
+  //
+
+  int groupEnd;
+
+  /**
+   * Start of artifactId; or -1.
+   */
+  int artifactStart = -1;
+
+  int artifactEnd = -1;
+
+  int versionDirStart;
+
+  int versionDirEnd;
+
+  int fileNameStart;
+
+  /**
+   * Start of version; or -1.
+   */
+  int versionStart = -1;
+
+  int versionEnd = -1;
+
+  int timestampStart;
+
+  int timestampEnd;
+
+  int buildStart;
+
+  int buildEnd;
+
+  /**
+   * Start of classifier; or -1.
+   */
+  int classifierStart = -1;
+
+  int classifierEnd = -1;
+
+  int extensionStart;
+
+  //
+  // Memoized components
+  //
+
+  private String path;
+
+  private String fileName;
+
+  private String prefix;
+
+  private String subtype;
+
+  private String groupId;
+
+  private String artifactId;
+
+  private String version;
+
+  private String baseVersion;
+
+  private String timestamp;
+
+  private String build;
+
+  private String classifier;
+
+  private String extension;
+
+  Maven2PathScanner(final CharSequence source) {
+    this.source = requireNonNull(source);
+    this.length = source.length();
+  }
+
+  /**
+   * Restore scanned state previously saved with {@link #writeOffsets(int[], int)}.
+   */
+  Maven2PathScanner(final CharSequence source, final int kind, final int[] offsets, final int base) {
+    this(source);
+    this.kind = kind;
+    int i = base;
+    prefixEnd = offsets[i++];
+    subtypeStart = offsets[i++];
+    groupEnd = offsets[i++];
+    artifactStart = offsets[i++];
+    artifactEnd = offsets[i++];
+    versionDirStart = offsets[i++];
+    versionDirEnd = offsets[i++];
+    fileNameStart = offsets[i++];
+    versionStart = offsets[i++];
+    versionEnd = offsets[i++];
+    timestampStart = offsets[i++];
+    timestampEnd = offsets[i++];
+    buildStart = offsets[i++];
+    buildEnd = offsets[i++];
+    classifierStart = offsets[i++];
+    classifierEnd = offsets[i++];
+    extensionStart = offsets[i];
+  }
+
+  /**
+   * Save scanned component offsets into {@code target} starting at {@code base}.
+   */
+  void writeOffsets(final int[] target, final int base) {
+    int i = base;
+    target[i++] = prefixEnd;
+    target[i++] = subtypeStart;
+    target[i++] = groupEnd;
+    target[i++] = artifactStart;
+    target[i++] = artifactEnd;
+    target[i++] = versionDirStart;
+    target[i++] = versionDirEnd;
+    target[i++] = fileNameStart;
+    target[i++] = versionStart;
+    target[i++] = versionEnd;
+    target[i++] = timestampStart;
+    target[i++] = timestampEnd;
+    target[i++] = buildStart;
+    target[i++] = buildEnd;
+    target[i++] = classifierStart;
+    target[i++] = classifierEnd;
+    target[i] = extensionStart;
+  }
+
+  /**
+   * Scan the source; returns the detected kind.
+   */
+  int scan() {
+    // skip invalid paths
+    if (length == 0 || source.charAt(0) == '/' || source.charAt(length - 1) == '/') {
+      return kind = NONE;
+    }
+
+    work += length;
+    for (int i = 0; i < length; i++) {
+      if (isLineTerminator(source.charAt(i))) {
+        if (firstTerminator == -1) {
+          firstTerminator = i;
+        }
+        lastTerminator = i;
+      }
+    }
+
+    if (firstTerminator == -1 && scanMetadata()) {
+      return kind = METADATA;
+    }
+    if (!isExhausted() && scanArtifact(false)) {
+      return kind = ARTIFACT;
+    }
+    if (!isExhausted() && scanArtifact(true)) {
+      return kind = SNAPSHOT_ARTIFACT;
+    }
+    return kind = NONE;
+  }
+
+  /**
+   * Greedy prefix; try the right-most candidate slash first.
+   */
+  private boolean scanMetadata() {
+    int nameLength = MAVEN_METADATA_FILENAME.length();
+    for (int slash = lastIndexOf('/', length - 1); slash > 0; slash = lastIndexOf('/', slash - 1)) {
+      if (isExhausted()) {
+        return false;
+      }
+      int nameEnd = slash + 1 + nameLength;
+      if (nameEnd > length || !regionMatches(slash + 1, MAVEN_METADATA_FILENAME, false)) {
+        continue;
+      }
+      if (nameEnd == length) {
+        subtypeStart = -1;
+      }
+      else if (source.charAt(nameEnd) == '.' && nameEnd + 1 < length) {
+        subtypeStart = nameEnd + 1;
+      }
+      else {
+        continue;
+      }
+      prefixEnd = slash;
+      fileNameStart = slash + 1;
+      guessMetadataCoordinates();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Use the last prefix segment to _guess_ G/GA/GAV variants; trailing empty segments are ignored.
+   */
+  private void guessMetadataCoordinates() {
+    int end = prefixEnd;
+    while (source.charAt(end - 1) == '/') {
+      end--;
+    }
+    int lastSlash = lastIndexOf('/', end - 1);
+    int secondLastSlash = lastSlash > 0 ? lastIndexOf('/', lastSlash - 1) : -1;
+    int lastSegment = lastSlash + 1;
+
+    if (secondLastSlash != -1 && end - lastSegment >= SNAPSHOT_SUFFIX.length() &&
+        regionMatches(end - SNAPSHOT_SUFFIX.length(), SNAPSHOT_SUFFIX, false)) {
+      // if last segment contains SNAPSHOT; most likely a <group>/<artifact>/<version>/maven-metadata.xml path
+      groupEnd = secondLastSlash;
+      artifactStart = secondLastSlash + 1;
+      artifactEnd = lastSlash;
+      versionStart = lastSegment;
+      versionEnd = end;
+    }
+    else if (lastSlash != -1 && (indexOf('.', lastSegment, end) != -1 || indexOf('-', lastSegment, end) != -1)) {
+      // if last segment contains tokens which are more likely to be in artifactId; most likely a <group>/<artifact>/maven-metadata.xml path
+      groupEnd = lastSlash;
+      artifactStart = lastSegment;
+      artifactEnd = end;
+    }
+    else {
+      // else assume <group>/maven-metadata.xml path
+      groupEnd = prefixEnd;
+    }
+  }
+
+  /**
+   * Greedy group; try each run of 3 consecutive slashes from the right.
+   */
+  private boolean scanArtifact(final boolean snapshot) {
+    int s3 = lastIndexOf('/', length - 1);
+    int s2 = s3 > 0 ? lastIndexOf('/', s3 - 1) : -1;
+    int s1 = s2 > 0 ? lastIndexOf('/', s2 - 1) : -1;
+
+    while (s1 > 0) {
+      if (isExhausted()) {
+        return false;
+      }
+      // group may not contain line-terminators
+      boolean groupValid = firstTerminator == -1 || firstTerminator >= s1;
+      if (groupValid && s2 - s1 > 1 && s3 - s2 > 1) {
+        boolean matched = snapshot ? matchSnapshotArtifact(s1, s2, s3) : matchArtifact(s1, s2, s3);
+        if (matched) {
+          groupEnd = s1;
+          artifactStart = s1 + 1;
+          artifactEnd = s2;
+          versionDirStart = s2 + 1;
+          versionDirEnd = s3;
+          fileNameStart = s3 + 1;
+          return true;
+        }
+      }
+      s3 = s2;
+      s2 = s1;
+      s1 = lastIndexOf('/', s1 - 1);
+    }
+    return false;
+  }
+
+  /**
+   * {@code <artifact>-<version>(-<classifier>)?.<extension>}
+   */
+  private boolean matchArtifact(final int s1, final int s2, final int s3) {
+    int p = s3 + 1;
+    int artifactLength = s2 - s1 - 1;
+    if (!regionEquals(p, s1 + 1, artifactLength, false)) {
+      return false;
+    }
+    p += artifactLength;
+    if (p >= length || source.charAt(p) != '-') {
+      return false;
+    }
+    p++;
+    int versionLength = s3 - s2 - 1;
+    if (!regionEquals(p, s2 + 1, versionLength, false)) {
+      return false;
+    }
+    versionStart = p;
+    versionEnd = p + versionLength;
+    timestampStart = timestampEnd = buildStart = buildEnd = -1;
+    return matchTail(versionEnd);
+  }
+
+  /**
+   * {@code <artifact>-<vprefix>-<timestamp>-<build>(-<classifier>)?.<extension>} with case-insensitive matching.
+   */
+  private boolean matchSnapshotArtifact(final int s1, final int s2, final int s3) {
+    int vprefixLength = s3 - s2 - 1 - DASH_SNAPSHOT.length();
+    if (vprefixLength < 1 || !regionMatches(s3 - DASH_SNAPSHOT.length(), DASH_SNAPSHOT, true)) {
+      return false;
+    }
+
+    int p = s3 + 1;
+    int artifactLength = s2 - s1 - 1;
+    if (!regionEquals(p, s1 + 1, artifactLength, true)) {
+      return false;
+    }
+    p += artifactLength;
+    if (p >= length || source.charAt(p) != '-') {
+      return false;
+    }
+    int start = ++p;
+    if (!regionEquals(p, s2 + 1, vprefixLength, true)) {
+      return false;
+    }
+    p += vprefixLength;
+    if (p >= length || source.charAt(p) != '-') {
+      return false;
+    }
+
+    // <digits>.<digits>
+    int tsStart = ++p;
+    p = skipDigits(p);
+    if (p == tsStart || p >= length || source.charAt(p) != '.') {
+      return false;
+    }
+    int fraction = ++p;
+    p = skipDigits(p);
+    if (p == fraction) {
+      return false;
+    }
+    int tsEnd = p;
+
+    // -<digits>
+    if (p >= length || source.charAt(p) != '-') {
+      return false;
+    }
+    int bStart = ++p;
+    p = skipDigits(p);
+    if (p == bStart) {
+      return false;
+    }
+
+    versionStart = start;
+    versionEnd = p;
+    timestampStart = tsStart;
+    timestampEnd = tsEnd;
+    buildStart = bStart;
+    buildEnd = p;
+    return matchTail(p);
+  }
+
+  /**
+   * {@code (-<classifier>)?.<extension>}
+   */
+  private boolean matchTail(final int p) {
+    if (p >= length) {
+      return false;
+    }
+    char c = source.charAt(p);
+    int extStart;
+    if (c == '.') {
+      classifierStart = classifierEnd = -1;
+      extStart = p + 1;
+    }
+    else if (c == '-') {
+      int dot = indexOf('.', p + 1, length);
+      if (dot == -1 || dot == p + 1) {
+        return false;
+      }
+      classifierStart = p + 1;
+      classifierEnd = dot;
+      extStart = dot + 1;
+    }
+    else {
+      return false;
+    }
+
+    // extension may not contain line-terminators
+    if (extStart >= length || lastTerminator >= extStart) {
+      return false;
+    }
+    extensionStart = extStart;
+    return true;
+  }
+
+  //
+  // Components
+  //
+
+  String path() {
+    if (path == null) {
+      path = source.toString();
+    }
+    return path;
+  }
+
+  String fileName() {
+    if (fileName == null) {
+      fileName = substring(fileNameStart, length);
+    }
+    return fileName;
+  }
+
+  String prefix() {
+    if (prefix == null) {
+      prefix = substring(0, prefixEnd);
+    }
+    return prefix;
+  }
+
+  @Nullable
+  String subtype() {
+    if (subtype == null && subtypeStart != -1) {
+      subtype = substring(subtypeStart, length);
+    }
+    return subtype;
+  }
+
+  String groupId() {
+    if (groupId == null) {
+      groupId = substring(0, groupEnd).replace('/', '.');
+    }
+    return groupId;
+  }
+
+  @Nullable
+  String artifactId() {
+    if (artifactId == null && artifactStart != -1) {
+      artifactId = substring(artifactStart, artifactEnd);
+    }
+    return artifactId;
+  }
+
+  @Nullable
+  String version() {
+    if (version == null && versionStart != -1) {
+      version = substring(versionStart, versionEnd);
+    }
+    return version;
+  }
+
+  String baseVersion() {
+    if (baseVersion == null) {
+      baseVersion = substring(versionDirStart, versionDirEnd);
+    }
+    return baseVersion;
+  }
+
+  String timestamp() {
+    if (timestamp == null) {
+      timestamp = substring(timestampStart, timestampEnd);
+    }
+    return timestamp;
+  }
+
+  String build() {
+    if (build == null) {
+      build = substring(buildStart, buildEnd);
+    }
+    return build;
+  }
+
+  @Nullable
+  String classifier() {
+    if (classifier == null && classifierStart != -1) {
+      classifier = substring(classifierStart, classifierEnd);
+    }
+    return classifier;
+  }
+
+  String extension() {
+    if (extension == null) {
+      extension = substring(extensionStart, length);
+    }
+    return extension;
+  }
+
+  private String substring(final int start, final int end) {
+    if (source instanceof String) {
+      return ((String) source).substring(start, end);
+    }
+    if (source instanceof Utf8Sequence) {
+      return ((Utf8Sequence) source).decode(start, end);
+    }
+    return source.subSequence(start, end).toString();
+  }
+
+  //
+  // Helpers
+  //
+
+  /**
+   * True if scanning examined more characters than the budget allows.
+   */
+  boolean isExhausted() {
+    return work > budget;
+  }
+
+  private int skipDigits(int p) {
+    int start = p;
+    while (p < length && isDigit(source.charAt(p))) {
+      p++;
+    }
+    work += p - start;
+    return p;
+  }
+
+  private int indexOf(final char c, final int from, final int to) {
+    for (int i = from; i < to; i++) {
+      if (source.charAt(i) == c) {
+        work += i - from + 1;
+        return i;
+      }
+    }
+    work += Math.max(0, to - from);
+    return -1;
+  }
+
+  private int lastIndexOf(final char c, final int from) {
+    for (int i = from; i >= 0; i--) {
+      if (source.charAt(i) == c) {
+        work += from - i + 1;
+        return i;
+      }
+    }
+    work += from + 1;
+    return -1;
+  }
+
+  private boolean regionMatches(final int offset, final String value, final boolean ignoreCase) {
+    int count = value.length();
+    if (offset + count > length) {
+      return false;
+    }
+    work += count;
+    for (int i = 0; i < count; i++) {
+      if (!charEquals(source.charAt(offset + i), value.charAt(i), ignoreCase)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compare {@code count} chars at {@code offset} with the back-referenced region at {@code reference}.
+   */
+  private boolean regionEquals(final int offset, final int reference, final int count, final boolean ignoreCase) {
+    if (offset + count > length) {
+      return false;
+    }
+    work += count;
+    for (int i = 0; i < count; i++) {
+      if (!charEquals(source.charAt(offset + i), source.charAt(reference + i), ignoreCase)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean charEquals(final char a, final char b, final boolean ignoreCase) {
+    return a == b || ignoreCase && toLowerAscii(a) == toLowerAscii(b);
+  }
+
+  /**
+   * Case-folding as done by {@link java.util.regex.Pattern#CASE_INSENSITIVE} without {@code UNICODE_CASE}.
+   */
+  private static char toLowerAscii(final char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  /**
+   * Line-terminators as defined by {@link java.util.regex.Pattern} (without {@code UNIX_LINES}).
+   */
+  private static boolean isLineTerminator(final char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+}
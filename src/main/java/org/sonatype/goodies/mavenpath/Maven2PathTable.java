@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.Iterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Columnar bulk parse results.
+ *
+ * Each row holds the input path, its kind and the component offsets found by the scanner; no per-row objects are
+ * retained.  Components are materialized on request and {@link #get(int)} creates the {@link MavenPath} for a row.
+ *
+ * @since ???
+ * @see Maven2PathBulkParser
+ */
+@Immutable
+public final class Maven2PathTable
+    implements Iterable<MavenPath>
+{
+  private static final MavenPathInterner IDENTITY = MavenPathInterner.identity();
+
+  private final String[] paths;
+
+  private final byte[] kinds;
+
+  private final int[] offsets;
+
+  Maven2PathTable(final String[] paths, final byte[] kinds, final int[] offsets) {
+    this.paths = requireNonNull(paths);
+    this.kinds = requireNonNull(kinds);
+    this.offsets = requireNonNull(offsets);
+  }
+
+  public int size() {
+    return paths.length;
+  }
+
+  public String getPath(final int row) {
+    return paths[row];
+  }
+
+  /**
+   * True if the row was parsed into a {@link MavenPath}.
+   */
+  public boolean isValid(final int row) {
+    return kinds[row] != Maven2PathScanner.NONE;
+  }
+
+  public boolean isMavenMetadata(final int row) {
+    return kinds[row] == Maven2PathScanner.METADATA;
+  }
+
+  public boolean isArtifact(final int row) {
+    return kinds[row] == Maven2PathScanner.ARTIFACT || kinds[row] == Maven2PathScanner.SNAPSHOT_ARTIFACT;
+  }
+
+  public boolean isSnapshotArtifact(final int row) {
+    return kinds[row] == Maven2PathScanner.SNAPSHOT_ARTIFACT;
+  }
+
+  /**
+   * Returns groupId of valid rows; or {@code null}.
+   */
+  @Nullable
+  public String getGroupId(final int row) {
+    return isValid(row) ? scanner(row).groupId() : null;
+  }
+
+  /**
+   * Returns artifactId of artifact rows or guessed artifactId of metadata rows; or {@code null}.
+   */
+  @Nullable
+  public String getArtifactId(final int row) {
+    return isValid(row) ? scanner(row).artifactId() : null;
+  }
+
+  /**
+   * Returns version of artifact rows or guessed version of metadata rows; or {@code null}.
+   */
+  @Nullable
+  public String getVersion(final int row) {
+    return isValid(row) ? scanner(row).version() : null;
+  }
+
+  /**
+   * Returns classifier of artifact rows; or {@code null}.
+   */
+  @Nullable
+  public String getClassifier(final int row) {
+    return isArtifact(row) ? scanner(row).classifier() : null;
+  }
+
+  /**
+   * Returns extension of artifact rows; or {@code null}.
+   */
+  @Nullable
+  public String getExtension(final int row) {
+    return isArtifact(row) ? scanner(row).extension() : null;
+  }
+
+  /**
+   * Returns the parsed path for the row; or {@code null} if invalid.
+   */
+  @Nullable
+  public MavenPath get(final int row) {
+    return get(row, IDENTITY);
+  }
+
+  /**
+   * Returns the parsed path for the row with coordinates canonicalized; or {@code null} if invalid.
+   */
+  @Nullable
+  public MavenPath get(final int row, final MavenPathInterner interner) {
+    requireNonNull(interner);
+    if (!isValid(row)) {
+      return null;
+    }
+    return Maven2PathParser.create(paths[row], scanner(row), interner);
+  }
+
+  /**
+   * Parsed paths in row order; invalid rows are {@code null}.  The stream splits by row range.
+   */
+  public Stream<MavenPath> stream() {
+    return IntStream.range(0, paths.length).mapToObj(this::get);
+  }
+
+  @Override
+  public Iterator<MavenPath> iterator() {
+    return stream().iterator();
+  }
+
+  private Maven2PathScanner scanner(final int row) {
+    return new Maven2PathScanner(paths[row], kinds[row], offsets, row * Maven2PathScanner.OFFSET_COUNT);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{" +
+        "size=" + paths.length +
+        '}';
+  }
+}
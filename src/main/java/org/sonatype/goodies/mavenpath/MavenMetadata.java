@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Contents of a {@link MavenMetadataPath}; {@literal G} level lists plugins, {@literal GA} level lists versions and
+ * {@literal GAV} level lists {@literal SNAPSHOT} builds.
+ *
+ * @since ???
+ * @see MavenMetadataReader
+ * @see MavenMetadataWriter
+ */
+@NotThreadSafe
+public class MavenMetadata
+{
+  @Nullable
+  private String modelVersion;
+
+  @Nullable
+  private String groupId;
+
+  @Nullable
+  private String artifactId;
+
+  @Nullable
+  private String version;
+
+  @Nullable
+  private String latest;
+
+  @Nullable
+  private String release;
+
+  @Nullable
+  private Snapshot snapshot;
+
+  @Nullable
+  private String lastUpdated;
+
+  private final List<String> versions = new ArrayList<>();
+
+  private final List<SnapshotVersion> snapshotVersions = new ArrayList<>();
+
+  private final List<Plugin> plugins = new ArrayList<>();
+
+  /**
+   * Empty metadata for the coordinates of the given path.
+   */
+  public static MavenMetadata of(final MavenMetadataPath path) {
+    requireNonNull(path);
+    MavenMetadata metadata = new MavenMetadata();
+    if (path.getArtifactId() != null) {
+      metadata.setGroupId(path.getGroupId());
+      metadata.setArtifactId(path.getArtifactId());
+      metadata.setVersion(path.getVersion());
+    }
+    return metadata;
+  }
+
+  @Nullable
+  public String getModelVersion() {
+    return modelVersion;
+  }
+
+  public void setModelVersion(@Nullable final String modelVersion) {
+    this.modelVersion = modelVersion;
+  }
+
+  @Nullable
+  public String getGroupId() {
+    return groupId;
+  }
+
+  public void setGroupId(@Nullable final String groupId) {
+    this.groupId = groupId;
+  }
+
+  @Nullable
+  public String getArtifactId() {
+    return artifactId;
+  }
+
+  public void setArtifactId(@Nullable final String artifactId) {
+    this.artifactId = artifactId;
+  }
+
+  @Nullable
+  public String getVersion() {
+    return version;
+  }
+
+  public void setVersion(@Nullable final String version) {
+    this.version = version;
+  }
+
+  @Nullable
+  public String getLatest() {
+    return latest;
+  }
+
+  public void setLatest(@Nullable final String latest) {
+    this.latest = latest;
+  }
+
+  @Nullable
+  public String getRelease() {
+    return release;
+  }
+
+  public void setRelease(@Nullable final String release) {
+    this.release = release;
+  }
+
+  @Nullable
+  public Snapshot getSnapshot() {
+    return snapshot;
+  }
+
+  public void setSnapshot(@Nullable final Snapshot snapshot) {
+    this.snapshot = snapshot;
+  }
+
+  /**
+   * As {@code yyyyMMddHHmmss}.
+   */
+  @Nullable
+  public String getLastUpdated() {
+    return lastUpdated;
+  }
+
+  public void setLastUpdated(@Nullable final String lastUpdated) {
+    this.lastUpdated = lastUpdated;
+  }
+
+  /**
+   * Mutable list of versions, in document order.
+   */
+  public List<String> getVersions() {
+    return versions;
+  }
+
+  /**
+   * Mutable list of {@literal SNAPSHOT} builds, in document order.
+   */
+  public List<SnapshotVersion> getSnapshotVersions() {
+    return snapshotVersions;
+  }
+
+  /**
+   * Mutable list of plugins, in document order.
+   */
+  public List<Plugin> getPlugins() {
+    return plugins;
+  }
+
+  /**
+   * Whether there is anything for {@literal versioning}.
+   */
+  boolean hasVersioning() {
+    return latest != null || release != null || snapshot != null || lastUpdated != null ||
+        !versions.isEmpty() || !snapshotVersions.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{" +
+        "groupId='" + groupId + '\'' +
+        ", artifactId='" + artifactId + '\'' +
+        ", version='" + version + '\'' +
+        ", latest='" + latest + '\'' +
+        ", release='" + release + '\'' +
+        ", snapshot=" + snapshot +
+        ", lastUpdated='" + lastUpdated + '\'' +
+        ", versions=" + versions.size() +
+        ", snapshotVersions=" + snapshotVersions.size() +
+        ", plugins=" + plugins.size() +
+        '}';
+  }
+
+  //
+  // Snapshot
+  //
+
+  /**
+   * Latest {@literal SNAPSHOT} build of a {@literal GAV}.
+   */
+  @Immutable
+  public static class Snapshot
+  {
+    @Nullable
+    private final String timestamp;
+
+    private final int buildNumber;
+
+    private final boolean localCopy;
+
+    public Snapshot(@Nullable final String timestamp, final int buildNumber, final boolean localCopy) {
+      this.timestamp = timestamp;
+      this.buildNumber = buildNumber;
+      this.localCopy = localCopy;
+    }
+
+    public Snapshot(final String timestamp, final int buildNumber) {
+      this(requireNonNull(timestamp), buildNumber, false);
+    }
+
+    /**
+     * As {@code yyyyMMdd.HHmmss}.
+     */
+    @Nullable
+    public String getTimestamp() {
+      return timestamp;
+    }
+
+    public int getBuildNumber() {
+      return buildNumber;
+    }
+
+    public boolean isLocalCopy() {
+      return localCopy;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Snapshot that = (Snapshot) o;
+      return buildNumber == that.buildNumber &&
+          localCopy == that.localCopy &&
+          Objects.equals(timestamp, that.timestamp);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(timestamp, buildNumber, localCopy);
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getSimpleName() + "{" +
+          "timestamp='" + timestamp + '\'' +
+          ", buildNumber=" + buildNumber +
+          ", localCopy=" + localCopy +
+          '}';
+    }
+  }
+
+  //
+  // SnapshotVersion
+  //
+
+  /**
+   * Timestamped version of one classifier and extension of a {@literal SNAPSHOT}.
+   */
+  @Immutable
+  public static class SnapshotVersion
+  {
+    @Nullable
+    private final String classifier;
+
+    private final String extension;
+
+    private final String value;
+
+    @Nullable
+    private final String updated;
+
+    public SnapshotVersion(@Nullable final String classifier,
+                           final String extension,
+                           final String value,
+                           @Nullable final String updated)
+    {
+      this.classifier = classifier;
+      this.extension = requireNonNull(extension);
+      this.value = requireNonNull(value);
+      this.updated = updated;
+    }
+
+    @Nullable
+    public String getClassifier() {
+      return classifier;
+    }
+
+    public String getExtension() {
+      return extension;
+    }
+
+    public String getValue() {
+      return value;
+    }
+
+    @Nullable
+    public String getUpdated() {
+      return updated;
+    }
+
+    /**
+     * Whether both are for the same classifier and extension.
+     */
+    public boolean sameKind(final SnapshotVersion other) {
+      return Objects.equals(classifier, other.classifier) && extension.equals(other.extension);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      SnapshotVersion that = (SnapshotVersion) o;
+      return sameKind(that) &&
+          value.equals(that.value) &&
+          Objects.equals(updated, that.updated);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(classifier, extension, value, updated);
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getSimpleName() + "{" +
+          "classifier='" + classifier + '\'' +
+          ", extension='" + extension + '\'' +
+          ", value='" + value + '\'' +
+          ", updated='" + updated + '\'' +
+          '}';
+    }
+  }
+
+  //
+  // Plugin
+  //
+
+  /**
+   * Plugin of a {@literal G} level group, resolvable by its prefix.
+   */
+  @Immutable
+  public static class Plugin
+  {
+    @Nullable
+    private final String name;
+
+    private final String prefix;
+
+    private final String artifactId;
+
+    public Plugin(@Nullable final String name, final String prefix, final String artifactId) {
+      this.name = name;
+      this.prefix = requireNonNull(prefix);
+      this.artifactId = requireNonNull(artifactId);
+    }
+
+    @Nullable
+    public String getName() {
+      return name;
+    }
+
+    public String getPrefix() {
+      return prefix;
+    }
+
+    public String getArtifactId() {
+      return artifactId;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Plugin that = (Plugin) o;
+      return Objects.equals(name, that.name) &&
+          prefix.equals(that.prefix) &&
+          artifactId.equals(that.artifactId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, prefix, artifactId);
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getSimpleName() + "{" +
+          "name='" + name + '\'' +
+          ", prefix='" + prefix + '\'' +
+          ", artifactId='" + artifactId + '\'' +
+          '}';
+    }
+  }
+}
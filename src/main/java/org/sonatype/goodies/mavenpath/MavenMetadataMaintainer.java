@@ -0,0 +1,633 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Maintains {@literal GA} level {@literal maven-metadata.xml} from a stream of artifact add and remove events,
+ * without listing version directories.
+ *
+ * Each {@literal GA} keeps a sorted array of versions, each with the kinds ({@literal classifier} and
+ * {@literal extension}) of the primary files deployed for it; {@link MavenPath#isSubordinate subordinates} are
+ * ignored.  {@link SnapshotArtifactPath Timestamped builds} count towards their base version and a kind remembers only
+ * its latest build, so state is bounded by the kinds deployed rather than the deploy history.  Events are idempotent,
+ * so redeploying a file or retrying an event does not keep a version alive.  A version is dropped once the latest
+ * build of its last kind is removed, or by {@link #removeVersion}; a {@literal GA} without versions is forgotten once
+ * written.
+ *
+ * Changes mark the {@literal GA} dirty and schedule a write after {@code debounceMillis}; further changes push the
+ * write back, up to {@code maxDelayMillis} after the first, so a burst of deploys results in a single write.  Writes of
+ * one {@literal GA} never overlap and always carry its latest state.  A failed write is retried on the next change
+ * or {@link #flush}.
+ *
+ * @since ???
+ */
+@ThreadSafe
+public class MavenMetadataMaintainer
+    implements Closeable
+{
+  /**
+   * Receives metadata to persist for the path built by {@link Maven2PathFactory#createMavenMetadata}.
+   */
+  @FunctionalInterface
+  public interface Sink
+  {
+    void write(MavenMetadataPath path, MavenMetadata metadata) throws IOException;
+  }
+
+  private static final DateTimeFormatter LAST_UPDATED =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmmss").withZone(ZoneOffset.UTC);
+
+  private final Sink sink;
+
+  private final Comparator<String> versionOrder;
+
+  private final long debounceMillis;
+
+  private final long maxDelayMillis;
+
+  private final ScheduledExecutorService executor;
+
+  private final boolean ownsExecutor;
+
+  private final Map<String, State> states = new ConcurrentHashMap<>();
+
+  private final LongAdder writeCount = new LongAdder();
+
+  private final LongAdder failureCount = new LongAdder();
+
+  public MavenMetadataMaintainer(final Sink sink,
+                                 final Comparator<String> versionOrder,
+                                 final long debounceMillis,
+                                 final long maxDelayMillis,
+                                 final ScheduledExecutorService executor)
+  {
+    this(sink, versionOrder, debounceMillis, maxDelayMillis, executor, false);
+  }
+
+  /**
+   * Orders versions by {@link MavenVersion}; uses a private scheduler thread, stopped on {@link #close}; writes are
+   * pushed back at most 10 debounce periods.
+   */
+  public MavenMetadataMaintainer(final Sink sink, final long debounceMillis) {
+    this(sink, MavenVersion.STRING_ORDER, debounceMillis, debounceMillis * 10,
+        Executors.newSingleThreadScheduledExecutor(runnable -> {
+          Thread thread = new Thread(runnable, MavenMetadataMaintainer.class.getSimpleName());
+          thread.setDaemon(true);
+          return thread;
+        }), true);
+  }
+
+  private MavenMetadataMaintainer(final Sink sink,
+                                  final Comparator<String> versionOrder,
+                                  final long debounceMillis,
+                                  final long maxDelayMillis,
+                                  final ScheduledExecutorService executor,
+                                  final boolean ownsExecutor)
+  {
+    this.sink = requireNonNull(sink);
+    // distinct directories equal in version order, such as 1.0 and 1.0.0, are kept apart
+    this.versionOrder = requireNonNull(versionOrder).thenComparing(Comparator.naturalOrder());
+    if (debounceMillis < 0 || maxDelayMillis < debounceMillis) {
+      throw new IllegalArgumentException("Invalid delays: " + debounceMillis + ", " + maxDelayMillis);
+    }
+    this.debounceMillis = debounceMillis;
+    this.maxDelayMillis = maxDelayMillis;
+    this.executor = requireNonNull(executor);
+    this.ownsExecutor = ownsExecutor;
+  }
+
+  /**
+   * Sink writing {@literal maven-metadata.xml} files below the given repository root with
+   * {@link MavenMetadataWriter}; files of {@literal GA}s without versions are deleted.
+   */
+  public static Sink fileSink(final Path root) {
+    requireNonNull(root);
+    return (path, metadata) -> {
+      Path file = root.resolve(path.getPath());
+      if (metadata.getVersions().isEmpty()) {
+        Files.deleteIfExists(file);
+      }
+      else {
+        MavenMetadataWriter.write(metadata, file);
+      }
+    };
+  }
+
+  /**
+   * Records a deployed file.
+   *
+   * @return {@code true} if this added a version.
+   */
+  public boolean add(final ArtifactPath path) {
+    requireNonNull(path);
+    if (path.isSubordinate()) {
+      return false;
+    }
+    while (true) {
+      State state = states.computeIfAbsent(prefix(path), key -> new State(path.getGroupId(), path.getArtifactId()));
+      boolean added;
+      synchronized (state) {
+        if (state.evicted) {
+          continue;
+        }
+        added = state.add(baseVersion(path), kind(path), timestamp(path), build(path));
+        state.touch();
+      }
+      schedule(state);
+      return added;
+    }
+  }
+
+  /**
+   * Records a deleted file.
+   *
+   * @return {@code true} if this removed a version.
+   */
+  public boolean remove(final ArtifactPath path) {
+    requireNonNull(path);
+    if (path.isSubordinate()) {
+      return false;
+    }
+    State state = states.get(prefix(path));
+    if (state == null) {
+      return false;
+    }
+    boolean removed;
+    synchronized (state) {
+      int index = state.indexOf(baseVersion(path));
+      if (index < 0 || !state.kinds.get(index).remove(kind(path), timestamp(path), build(path))) {
+        return false;
+      }
+      removed = state.dropIfEmpty(index);
+      state.touch();
+    }
+    schedule(state);
+    return removed;
+  }
+
+  /**
+   * Drops a version regardless of its count, such as when its directory was deleted.
+   */
+  public boolean removeVersion(final String groupId, final String artifactId, final String version) {
+    requireNonNull(version);
+    State state = states.get(prefix(groupId, artifactId));
+    if (state == null) {
+      return false;
+    }
+    synchronized (state) {
+      int index = state.indexOf(version);
+      if (index < 0) {
+        return false;
+      }
+      state.delete(index);
+      state.touch();
+    }
+    schedule(state);
+    return true;
+  }
+
+  /**
+   * Seeds a {@literal GA} with existing metadata, typically read once from storage before events are applied.
+   *
+   * Seeded versions have no known files, so they are only dropped by {@link #removeVersion}, or once files added
+   * later are removed again.  Nothing is written.
+   */
+  public void seed(final MavenMetadata metadata) {
+    requireNonNull(metadata);
+    String groupId = requireNonNull(metadata.getGroupId());
+    String artifactId = requireNonNull(metadata.getArtifactId());
+    while (true) {
+      State state = states.computeIfAbsent(prefix(groupId, artifactId), key -> new State(groupId, artifactId));
+      synchronized (state) {
+        if (state.evicted) {
+          continue;
+        }
+        for (String version : metadata.getVersions()) {
+          int index = state.indexOf(version);
+          if (index < 0) {
+            state.insert(-index - 1, version);
+          }
+        }
+        if (state.lastUpdated == null) {
+          state.lastUpdated = metadata.getLastUpdated();
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * Current metadata of a {@literal GA}, or {@code null} if unknown.
+   */
+  @Nullable
+  public MavenMetadata get(final String groupId, final String artifactId) {
+    State state = states.get(prefix(groupId, artifactId));
+    if (state == null) {
+      return null;
+    }
+    synchronized (state) {
+      return state.evicted ? null : state.toMetadata();
+    }
+  }
+
+  /**
+   * Writes all pending changes now, on the calling thread.
+   *
+   * @throws IOException the first write failure; remaining changes are still written.
+   */
+  public void flush() throws IOException {
+    IOException failure = null;
+    for (State state : states.values()) {
+      try {
+        write(state, true);
+      }
+      catch (IOException e) {
+        if (failure == null) {
+          failure = e;
+        }
+        else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Flushes pending changes and stops the private scheduler, if any.
+   */
+  @Override
+  public void close() throws IOException {
+    if (ownsExecutor) {
+      executor.shutdown();
+    }
+    flush();
+  }
+
+  /**
+   * Number of metadata writes.
+   */
+  public long getWriteCount() {
+    return writeCount.sum();
+  }
+
+  /**
+   * Number of failed metadata writes.
+   */
+  public long getFailureCount() {
+    return failureCount.sum();
+  }
+
+  //
+  // Scheduling
+  //
+
+  private void schedule(final State state) {
+    synchronized (state) {
+      if (state.scheduled || executor.isShutdown()) {
+        return;
+      }
+      state.scheduled = true;
+    }
+    submit(state, debounceMillis);
+  }
+
+  private void submit(final State state, final long delayMillis) {
+    executor.schedule(() -> {
+      try {
+        write(state, false);
+      }
+      catch (IOException e) {
+        // counted; retried on the next change or flush
+      }
+    }, delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Writes the state if dirty; unless forced, pushes the write back while changes keep arriving.
+   */
+  private void write(final State state, final boolean force) throws IOException {
+    synchronized (state.writeLock) {
+      MavenMetadata metadata;
+      synchronized (state) {
+        if (!force) {
+          long now = System.currentTimeMillis();
+          long due = Math.min(state.changedAt + debounceMillis, state.dirtyAt + maxDelayMillis);
+          if (due > now && !executor.isShutdown()) {
+            submit(state, due - now);
+            return;
+          }
+          state.scheduled = false;
+        }
+        if (!state.dirty) {
+          return;
+        }
+        state.dirty = false;
+        metadata = state.toMetadata();
+      }
+      try {
+        sink.write(Maven2PathFactory.createMavenMetadata(state.prefix, null), metadata);
+        writeCount.increment();
+        evictIfEmpty(state);
+      }
+      catch (IOException | RuntimeException e) {
+        failureCount.increment();
+        synchronized (state) {
+          state.dirty = true;
+        }
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Forgets a written {@literal GA} without versions; callers holding the evicted state retry with a new one.
+   */
+  private void evictIfEmpty(final State state) {
+    synchronized (state) {
+      if (!state.dirty && state.size == 0) {
+        state.evicted = true;
+        states.remove(state.prefix, state);
+      }
+    }
+  }
+
+  //
+  // Helpers
+  //
+
+  private static String prefix(final ArtifactPath path) {
+    return prefix(path.getGroupId(), path.getArtifactId());
+  }
+
+  private static String prefix(final String groupId, final String artifactId) {
+    return groupId.replace('.', '/') + '/' + requireNonNull(artifactId);
+  }
+
+  private static String baseVersion(final ArtifactPath path) {
+    return path instanceof SnapshotArtifactPath ? ((SnapshotArtifactPath) path).getBaseVersion() : path.getVersion();
+  }
+
+  private static String kind(final ArtifactPath path) {
+    String classifier = path.getClassifier();
+    return classifier == null ? ":" + path.getExtension() : classifier + ':' + path.getExtension();
+  }
+
+  /**
+   * Timestamp of a build as {@code yyyyMMddHHmmss}; 0 for files which are not timestamped builds.
+   */
+  private static long timestamp(final ArtifactPath path) {
+    if (path instanceof SnapshotArtifactPath && ((SnapshotArtifactPath) path).getTimestamp() != null) {
+      return Math.max(0, SnapshotVersionResolver.parseTimestamp(((SnapshotArtifactPath) path).getTimestamp()));
+    }
+    return 0;
+  }
+
+  private static long build(final ArtifactPath path) {
+    if (path instanceof SnapshotArtifactPath && ((SnapshotArtifactPath) path).getBuild() != null) {
+      return Math.max(0, SnapshotVersionResolver.parseBuildNumber(((SnapshotArtifactPath) path).getBuild()));
+    }
+    return 0;
+  }
+
+  private static boolean isSnapshot(final String version) {
+    return version.endsWith("SNAPSHOT");
+  }
+
+  //
+  // State
+  //
+
+  /**
+   * Per {@literal GA} state; guarded by its own monitor, writes serialized by {@link #writeLock}.
+   */
+  private final class State
+  {
+    final String groupId;
+
+    final String artifactId;
+
+    final String prefix;
+
+    final Object writeLock = new Object();
+
+    @GuardedBy("this")
+    String[] versions = new String[4];
+
+    /**
+     * Kinds of each version, parallel to {@link #versions}.
+     */
+    @GuardedBy("this")
+    final List<Kinds> kinds = new ArrayList<>();
+
+    @GuardedBy("this")
+    int size;
+
+    @GuardedBy("this")
+    String lastUpdated;
+
+    @GuardedBy("this")
+    boolean dirty;
+
+    @GuardedBy("this")
+    boolean scheduled;
+
+    @GuardedBy("this")
+    long dirtyAt;
+
+    @GuardedBy("this")
+    long changedAt;
+
+    /**
+     * Set once removed from the maintainer; no longer updated.
+     */
+    @GuardedBy("this")
+    boolean evicted;
+
+    State(final String groupId, final String artifactId) {
+      this.groupId = groupId;
+      this.artifactId = artifactId;
+      this.prefix = prefix(groupId, artifactId);
+    }
+
+    int indexOf(final String version) {
+      return Arrays.binarySearch(versions, 0, size, version, versionOrder);
+    }
+
+    /**
+     * Records a build of a kind of version; returns {@code true} if this added the version.
+     */
+    boolean add(final String version, final String kind, final long timestamp, final long build) {
+      int index = indexOf(version);
+      boolean added = index < 0;
+      if (added) {
+        index = -index - 1;
+        insert(index, version);
+      }
+      kinds.get(index).add(kind, timestamp, build);
+      return added;
+    }
+
+    /**
+     * Deletes version if it has no kinds left; returns {@code true} if deleted.
+     */
+    boolean dropIfEmpty(final int index) {
+      if (!kinds.get(index).isEmpty()) {
+        return false;
+      }
+      delete(index);
+      return true;
+    }
+
+    void insert(final int index, final String version) {
+      if (size == versions.length) {
+        versions = Arrays.copyOf(versions, size * 2);
+      }
+      System.arraycopy(versions, index, versions, index + 1, size - index);
+      versions[index] = version;
+      kinds.add(index, new Kinds());
+      size++;
+    }
+
+    void delete(final int index) {
+      System.arraycopy(versions, index + 1, versions, index, size - index - 1);
+      versions[--size] = null;
+      kinds.remove(index);
+    }
+
+    void touch() {
+      long now = System.currentTimeMillis();
+      if (!dirty) {
+        dirty = true;
+        dirtyAt = now;
+      }
+      changedAt = now;
+      lastUpdated = LAST_UPDATED.format(Instant.ofEpochMilli(now));
+    }
+
+    MavenMetadata toMetadata() {
+      MavenMetadata metadata = new MavenMetadata();
+      metadata.setGroupId(groupId);
+      metadata.setArtifactId(artifactId);
+      metadata.getVersions().addAll(Arrays.asList(versions).subList(0, size));
+      if (size > 0) {
+        metadata.setLatest(versions[size - 1]);
+      }
+      for (int i = size - 1; i >= 0; i--) {
+        if (!isSnapshot(versions[i])) {
+          metadata.setRelease(versions[i]);
+          break;
+        }
+      }
+      metadata.setLastUpdated(lastUpdated);
+      return metadata;
+    }
+  }
+
+  /**
+   * Kinds of the primary files of one version, each with its latest build; a version rarely has more than a few, so
+   * they are searched linearly.  Guarded by the owning {@link State}.
+   */
+  private static final class Kinds
+  {
+    private String[] kinds = new String[2];
+
+    /**
+     * Latest build of each kind as timestamp and build number; both 0 for files which are not timestamped builds.
+     */
+    private long[] timestamps = new long[2];
+
+    private long[] builds = new long[2];
+
+    private int size;
+
+    void add(final String kind, final long timestamp, final long build) {
+      int index = indexOf(kind);
+      if (index < 0) {
+        if (size == kinds.length) {
+          kinds = Arrays.copyOf(kinds, size * 2);
+          timestamps = Arrays.copyOf(timestamps, size * 2);
+          builds = Arrays.copyOf(builds, size * 2);
+        }
+        index = size++;
+        kinds[index] = kind;
+      }
+      else if (compare(timestamp, build, index) <= 0) {
+        return;
+      }
+      timestamps[index] = timestamp;
+      builds[index] = build;
+    }
+
+    /**
+     * Removes the kind if the build is its latest; returns {@code true} if removed.  Older builds are ignored, as the
+     * latest is still deployed.
+     */
+    boolean remove(final String kind, final long timestamp, final long build) {
+      int index = indexOf(kind);
+      if (index < 0 || compare(timestamp, build, index) != 0) {
+        return false;
+      }
+      size--;
+      kinds[index] = kinds[size];
+      timestamps[index] = timestamps[size];
+      builds[index] = builds[size];
+      kinds[size] = null;
+      return true;
+    }
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    private int indexOf(final String kind) {
+      for (int i = 0; i < size; i++) {
+        if (kinds[i].equals(kind)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private int compare(final long timestamp, final long build, final int index) {
+      int result = Long.compare(timestamp, timestamps[index]);
+      return result != 0 ? result : Long.compare(build, builds[index]);
+    }
+  }
+}
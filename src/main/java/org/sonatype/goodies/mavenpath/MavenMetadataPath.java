@@ -70,6 +70,17 @@ public class MavenMetadataPath
     this(path, fileName, prefix, null, null, null, subordinateType);
   }
 
+  /**
+   * Lazy view constructor; sub-classes must override all getters as fields are left {@code null}.
+   */
+  MavenMetadataPath() {
+    this.prefix = null;
+    this.groupId = null;
+    this.artifactId = null;
+    this.version = null;
+    this.subordinateType = null;
+  }
+
   public String getPrefix() {
     return prefix;
   }
@@ -94,14 +105,21 @@ public class MavenMetadataPath
     return subordinateType;
   }
 
+  /**
+   * Cursor over the primary {@literal maven-metadata.xml} path and all of its checksum and signature paths.
+   */
+  public SubordinatePaths subordinatePaths() {
+    return new SubordinatePaths(getPath());
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + "{" +
-        "prefix='" + prefix + '\'' +
-        ", groupId='" + groupId + '\'' +
-        ", artifactId='" + artifactId + '\'' +
-        ", version='" + version + '\'' +
-        ", subordinateType='" + subordinateType + '\'' +
+        "prefix='" + getPrefix() + '\'' +
+        ", groupId='" + getGroupId() + '\'' +
+        ", artifactId='" + getArtifactId() + '\'' +
+        ", version='" + getVersion() + '\'' +
+        ", subordinateType='" + getSubordinateType() + '\'' +
         '}';
   }
 }
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.annotation.Nullable;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.sonatype.goodies.mavenpath.MavenMetadata.Plugin;
+import org.sonatype.goodies.mavenpath.MavenMetadata.Snapshot;
+import org.sonatype.goodies.mavenpath.MavenMetadata.SnapshotVersion;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Streaming {@literal maven-metadata.xml} reader.
+ *
+ * Uses the JDK StAX parser with DTDs and external entities disabled.  Unknown elements are skipped; entries missing
+ * required values, such as a {@literal snapshotVersion} without {@literal extension}, are dropped.
+ *
+ * @since ???
+ */
+public final class MavenMetadataReader
+{
+  private static final XMLInputFactory FACTORY = createFactory();
+
+  private MavenMetadataReader() {
+    // empty
+  }
+
+  private static XMLInputFactory createFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    return factory;
+  }
+
+  public static MavenMetadata read(final Path file) throws IOException {
+    requireNonNull(file);
+    try (InputStream input = new BufferedInputStream(Files.newInputStream(file))) {
+      return read(input);
+    }
+  }
+
+  /**
+   * Reads metadata; the stream is left open.
+   */
+  public static MavenMetadata read(final InputStream input) throws IOException {
+    requireNonNull(input);
+    try {
+      XMLStreamReader reader = open(input);
+      try {
+        return readMetadata(reader);
+      }
+      finally {
+        reader.close();
+      }
+    }
+    catch (XMLStreamException e) {
+      throw new IOException("Invalid " + MavenMetadataPath.MAVEN_METADATA_FILENAME, e);
+    }
+  }
+
+  private static MavenMetadata readMetadata(final XMLStreamReader reader) throws XMLStreamException {
+    MavenMetadata metadata = new MavenMetadata();
+    metadata.setModelVersion(reader.getAttributeValue(null, "modelVersion"));
+    while (nextChild(reader)) {
+      switch (reader.getLocalName()) {
+        case "groupId":
+          metadata.setGroupId(text(reader));
+          break;
+        case "artifactId":
+          metadata.setArtifactId(text(reader));
+          break;
+        case "version":
+          metadata.setVersion(text(reader));
+          break;
+        case "versioning":
+          readVersioning(reader, metadata);
+          break;
+        case "plugins":
+          while (nextChild(reader)) {
+            Plugin plugin = "plugin".equals(reader.getLocalName()) ? readPlugin(reader) : skip(reader);
+            if (plugin != null) {
+              metadata.getPlugins().add(plugin);
+            }
+          }
+          break;
+        default:
+          skip(reader);
+      }
+    }
+    return metadata;
+  }
+
+  private static void readVersioning(final XMLStreamReader reader, final MavenMetadata metadata)
+      throws XMLStreamException
+  {
+    while (nextChild(reader)) {
+      switch (reader.getLocalName()) {
+        case "latest":
+          metadata.setLatest(text(reader));
+          break;
+        case "release":
+          metadata.setRelease(text(reader));
+          break;
+        case "lastUpdated":
+          metadata.setLastUpdated(text(reader));
+          break;
+        case "snapshot":
+          metadata.setSnapshot(readSnapshot(reader));
+          break;
+        case "versions":
+          while (nextChild(reader)) {
+            String version = "version".equals(reader.getLocalName()) ? text(reader) : skip(reader);
+            if (version != null && !version.isEmpty()) {
+              metadata.getVersions().add(version);
+            }
+          }
+          break;
+        case "snapshotVersions":
+          while (nextChild(reader)) {
+            SnapshotVersion version =
+                "snapshotVersion".equals(reader.getLocalName()) ? readSnapshotVersion(reader) : skip(reader);
+            if (version != null) {
+              metadata.getSnapshotVersions().add(version);
+            }
+          }
+          break;
+        default:
+          skip(reader);
+      }
+    }
+  }
+
+  //
+  // Helpers; shared with MavenMetadataWriter
+  //
+
+  /**
+   * Opens a reader positioned on the {@literal metadata} root element.
+   */
+  static XMLStreamReader open(final InputStream input) throws XMLStreamException {
+    XMLStreamReader reader = FACTORY.createXMLStreamReader(input);
+    if (reader.nextTag() != XMLStreamConstants.START_ELEMENT || !"metadata".equals(reader.getLocalName())) {
+      reader.close();
+      throw new XMLStreamException("Expected metadata root element", reader.getLocation());
+    }
+    return reader;
+  }
+
+  /**
+   * Advances to the next child element of the current element.
+   *
+   * @return {@code false} once positioned on the end of the current element instead.
+   */
+  static boolean nextChild(final XMLStreamReader reader) throws XMLStreamException {
+    while (true) {
+      switch (reader.next()) {
+        case XMLStreamConstants.START_ELEMENT:
+          return true;
+        case XMLStreamConstants.END_ELEMENT:
+          return false;
+        case XMLStreamConstants.END_DOCUMENT:
+          throw new XMLStreamException("Unexpected end of document", reader.getLocation());
+        default:
+          // whitespace, comments and processing instructions
+      }
+    }
+  }
+
+  /**
+   * Trimmed text of the current element; positioned on its end.
+   */
+  static String text(final XMLStreamReader reader) throws XMLStreamException {
+    return reader.getElementText().trim();
+  }
+
+  /**
+   * Skips the current element; positioned on its end.
+   *
+   * @return {@code null} for convenience.
+   */
+  @Nullable
+  static <T> T skip(final XMLStreamReader reader) throws XMLStreamException {
+    int depth = 1;
+    while (depth > 0) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      }
+      else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+    return null;
+  }
+
+  static Snapshot readSnapshot(final XMLStreamReader reader) throws XMLStreamException {
+    String timestamp = null;
+    int buildNumber = 0;
+    boolean localCopy = false;
+    while (nextChild(reader)) {
+      switch (reader.getLocalName()) {
+        case "timestamp":
+          timestamp = text(reader);
+          break;
+        case "buildNumber":
+          buildNumber = parseInt(text(reader));
+          break;
+        case "localCopy":
+          localCopy = Boolean.parseBoolean(text(reader));
+          break;
+        default:
+          skip(reader);
+      }
+    }
+    return new Snapshot(timestamp, buildNumber, localCopy);
+  }
+
+  @Nullable
+  static SnapshotVersion readSnapshotVersion(final XMLStreamReader reader) throws XMLStreamException {
+    String classifier = null;
+    String extension = null;
+    String value = null;
+    String updated = null;
+    while (nextChild(reader)) {
+      switch (reader.getLocalName()) {
+        case "classifier":
+          classifier = text(reader);
+          break;
+        case "extension":
+          extension = text(reader);
+          break;
+        case "value":
+          value = text(reader);
+          break;
+        case "updated":
+          updated = text(reader);
+          break;
+        default:
+          skip(reader);
+      }
+    }
+    if (extension == null || value == null) {
+      return null;
+    }
+    return new SnapshotVersion(classifier == null || classifier.isEmpty() ? null : classifier, extension, value,
+        updated);
+  }
+
+  @Nullable
+  static Plugin readPlugin(final XMLStreamReader reader) throws XMLStreamException {
+    String name = null;
+    String prefix = null;
+    String artifactId = null;
+    while (nextChild(reader)) {
+      switch (reader.getLocalName()) {
+        case "name":
+          name = text(reader);
+          break;
+        case "prefix":
+          prefix = text(reader);
+          break;
+        case "artifactId":
+          artifactId = text(reader);
+          break;
+        default:
+          skip(reader);
+      }
+    }
+    if (prefix == null || artifactId == null) {
+      return null;
+    }
+    return new Plugin(name, prefix, artifactId);
+  }
+
+  /**
+   * Lenient int; malformed values read as {@code 0}.
+   */
+  private static int parseInt(final String value) {
+    try {
+      return Integer.parseInt(value);
+    }
+    catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+}
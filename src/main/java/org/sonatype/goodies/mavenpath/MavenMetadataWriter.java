@@ -0,0 +1,719 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.sonatype.goodies.mavenpath.MavenMetadata.Plugin;
+import org.sonatype.goodies.mavenpath.MavenMetadata.Snapshot;
+import org.sonatype.goodies.mavenpath.MavenMetadata.SnapshotVersion;
+
+import static java.util.Objects.requireNonNull;
+import static org.sonatype.goodies.mavenpath.MavenMetadataReader.nextChild;
+import static org.sonatype.goodies.mavenpath.MavenMetadataReader.skip;
+import static org.sonatype.goodies.mavenpath.MavenMetadataReader.text;
+
+/**
+ * Streaming {@literal maven-metadata.xml} writer and merger.
+ *
+ * {@link #merge(InputStream, OutputStream, MavenMetadata)} copies the existing document element by element while
+ * folding in an update, so only the update and one entry of the existing document are held in memory no matter how
+ * many versions it lists.  Output is UTF-8, indented by two spaces.
+ *
+ * @since ???
+ */
+public final class MavenMetadataWriter
+{
+  private static final XMLOutputFactory FACTORY = XMLOutputFactory.newInstance();
+
+  private static final String ENCODING = "UTF-8";
+
+  /**
+   * Indexes of {@literal versioning} children seen while merging.
+   */
+  private static final int LATEST = 0;
+
+  private static final int RELEASE = 1;
+
+  private static final int SNAPSHOT = 2;
+
+  private static final int VERSIONS = 3;
+
+  private static final int LAST_UPDATED = 4;
+
+  private static final int SNAPSHOT_VERSIONS = 5;
+
+  private static final int VERSIONING_FIELDS = 6;
+
+  private MavenMetadataWriter() {
+    // empty
+  }
+
+  /**
+   * Writes metadata to a file, replacing it atomically.
+   */
+  public static void write(final MavenMetadata metadata, final Path file) throws IOException {
+    requireNonNull(metadata);
+    requireNonNull(file);
+    Path temp = createTemp(file);
+    try {
+      try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(temp))) {
+        write(metadata, output);
+      }
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * Writes metadata; the stream is flushed but left open.
+   */
+  public static void write(final MavenMetadata metadata, final OutputStream output) throws IOException {
+    requireNonNull(metadata);
+    requireNonNull(output);
+    try {
+      Output out = new Output(output);
+      out.startDocument();
+      out.start("metadata");
+      if (metadata.getModelVersion() != null) {
+        out.writer.writeAttribute("modelVersion", metadata.getModelVersion());
+      }
+      out.element("groupId", metadata.getGroupId());
+      out.element("artifactId", metadata.getArtifactId());
+      out.element("version", metadata.getVersion());
+      if (metadata.hasVersioning()) {
+        out.start("versioning");
+        out.element("latest", metadata.getLatest());
+        out.element("release", metadata.getRelease());
+        writeSnapshot(out, metadata.getSnapshot());
+        writeVersions(out, metadata.getVersions());
+        out.element("lastUpdated", metadata.getLastUpdated());
+        writeSnapshotVersions(out, metadata.getSnapshotVersions());
+        out.end();
+      }
+      writePlugins(out, metadata.getPlugins());
+      out.end();
+      out.endDocument();
+    }
+    catch (XMLStreamException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * Merges an update into a file, replacing it atomically; writes the update if the file does not exist.
+   *
+   * @see #merge(InputStream, OutputStream, MavenMetadata)
+   */
+  public static void merge(final Path file, final MavenMetadata update) throws IOException {
+    requireNonNull(file);
+    requireNonNull(update);
+    if (!Files.exists(file)) {
+      write(update, file);
+      return;
+    }
+    Path temp = createTemp(file);
+    try {
+      try (InputStream input = new BufferedInputStream(Files.newInputStream(file));
+           OutputStream output = new BufferedOutputStream(Files.newOutputStream(temp))) {
+        merge(input, output, update);
+      }
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * Streams existing metadata to the output with an update folded in.
+   *
+   * Versions and plugins (by prefix) of the update not already listed are appended; its snapshot versions replace
+   * those of the same classifier and extension.  Its {@literal latest}, {@literal release}, {@literal snapshot} and
+   * {@literal lastUpdated} replace the existing values when set.  Coordinates, entries not replaced by the update and
+   * unknown elements are copied as-is, with their prefixes, namespace declarations and attributes.  Streams are left
+   * open.
+   */
+  public static void merge(final InputStream input, final OutputStream output, final MavenMetadata update)
+      throws IOException
+  {
+    requireNonNull(input);
+    requireNonNull(output);
+    requireNonNull(update);
+    try {
+      XMLStreamReader reader = MavenMetadataReader.open(input);
+      try {
+        Output out = new Output(output);
+        out.startDocument();
+        out.startCopy(reader);
+        boolean versioning = false;
+        boolean plugins = false;
+        while (nextChild(reader)) {
+          switch (reader.getLocalName()) {
+            case "versioning":
+              mergeVersioning(reader, out, update);
+              versioning = true;
+              break;
+            case "plugins":
+              mergePlugins(reader, out, update.getPlugins());
+              plugins = true;
+              break;
+            default:
+              out.copy(reader);
+          }
+        }
+        if (!versioning && update.hasVersioning()) {
+          out.start("versioning");
+          appendVersioning(out, update, new LinkedHashSet<>(update.getVersions()), update.getSnapshotVersions(),
+              new boolean[VERSIONING_FIELDS]);
+          out.end();
+        }
+        if (!plugins) {
+          writePlugins(out, update.getPlugins());
+        }
+        out.end();
+        out.endDocument();
+      }
+      finally {
+        reader.close();
+      }
+    }
+    catch (XMLStreamException e) {
+      throw new IOException("Invalid " + MavenMetadataPath.MAVEN_METADATA_FILENAME, e);
+    }
+  }
+
+  //
+  // Merge
+  //
+
+  private static void mergeVersioning(final XMLStreamReader reader, final Output out, final MavenMetadata update)
+      throws XMLStreamException
+  {
+    Set<String> versions = new LinkedHashSet<>(update.getVersions());
+    List<SnapshotVersion> snapshotVersions = new ArrayList<>(update.getSnapshotVersions());
+    boolean[] seen = new boolean[VERSIONING_FIELDS];
+
+    out.startCopy(reader);
+    while (nextChild(reader)) {
+      switch (reader.getLocalName()) {
+        case "latest":
+          seen[LATEST] = true;
+          out.element("latest", orElse(update.getLatest(), text(reader)));
+          break;
+        case "release":
+          seen[RELEASE] = true;
+          out.element("release", orElse(update.getRelease(), text(reader)));
+          break;
+        case "lastUpdated":
+          seen[LAST_UPDATED] = true;
+          out.element("lastUpdated", orElse(update.getLastUpdated(), text(reader)));
+          break;
+        case "snapshot":
+          seen[SNAPSHOT] = true;
+          if (update.getSnapshot() != null) {
+            skip(reader);
+            writeSnapshot(out, update.getSnapshot());
+          }
+          else {
+            out.copy(reader);
+          }
+          break;
+        case "versions":
+          seen[VERSIONS] = true;
+          out.startCopy(reader);
+          while (nextChild(reader)) {
+            if ("version".equals(reader.getLocalName())) {
+              String version = text(reader);
+              versions.remove(version);
+              out.element("version", version);
+            }
+            else {
+              out.copy(reader);
+            }
+          }
+          for (String version : versions) {
+            out.element("version", version);
+          }
+          out.end();
+          break;
+        case "snapshotVersions":
+          seen[SNAPSHOT_VERSIONS] = true;
+          out.startCopy(reader);
+          while (nextChild(reader)) {
+            if ("snapshotVersion".equals(reader.getLocalName())) {
+              Element existing = Element.capture(reader);
+              SnapshotVersion replacement = removeSameKind(snapshotVersions, existing.childText("classifier"),
+                  existing.childText("extension"));
+              if (replacement != null) {
+                writeSnapshotVersion(out, replacement);
+              }
+              else {
+                out.write(existing);
+              }
+            }
+            else {
+              out.copy(reader);
+            }
+          }
+          for (SnapshotVersion version : snapshotVersions) {
+            writeSnapshotVersion(out, version);
+          }
+          out.end();
+          break;
+        default:
+          out.copy(reader);
+      }
+    }
+    appendVersioning(out, update, versions, snapshotVersions, seen);
+    out.end();
+  }
+
+  /**
+   * Writes the parts of the update whose elements were not seen in the existing document.
+   */
+  private static void appendVersioning(final Output out,
+                                       final MavenMetadata update,
+                                       final Set<String> versions,
+                                       final List<SnapshotVersion> snapshotVersions,
+                                       final boolean[] seen)
+      throws XMLStreamException
+  {
+    if (!seen[LATEST]) {
+      out.element("latest", update.getLatest());
+    }
+    if (!seen[RELEASE]) {
+      out.element("release", update.getRelease());
+    }
+    if (!seen[SNAPSHOT]) {
+      writeSnapshot(out, update.getSnapshot());
+    }
+    if (!seen[VERSIONS]) {
+      writeVersions(out, versions);
+    }
+    if (!seen[LAST_UPDATED]) {
+      out.element("lastUpdated", update.getLastUpdated());
+    }
+    if (!seen[SNAPSHOT_VERSIONS]) {
+      writeSnapshotVersions(out, snapshotVersions);
+    }
+  }
+
+  private static void mergePlugins(final XMLStreamReader reader, final Output out, final List<Plugin> update)
+      throws XMLStreamException
+  {
+    List<Plugin> plugins = new ArrayList<>(update);
+    out.startCopy(reader);
+    while (nextChild(reader)) {
+      if ("plugin".equals(reader.getLocalName())) {
+        Element existing = Element.capture(reader);
+        String prefix = existing.childText("prefix");
+        plugins.removeIf(plugin -> plugin.getPrefix().equals(prefix));
+        out.write(existing);
+      }
+      else {
+        out.copy(reader);
+      }
+    }
+    for (Plugin plugin : plugins) {
+      writePlugin(out, plugin);
+    }
+    out.end();
+  }
+
+  /**
+   * Removes and returns the snapshot version of the given classifier and extension; empty classifiers match none.
+   */
+  @Nullable
+  private static SnapshotVersion removeSameKind(final List<SnapshotVersion> versions,
+                                                @Nullable final String classifier,
+                                                @Nullable final String extension)
+  {
+    if (extension == null) {
+      return null;
+    }
+    String kind = classifier == null || classifier.isEmpty() ? null : classifier;
+    Iterator<SnapshotVersion> iter = versions.iterator();
+    while (iter.hasNext()) {
+      SnapshotVersion candidate = iter.next();
+      if (Objects.equals(candidate.getClassifier(), kind) && candidate.getExtension().equals(extension)) {
+        iter.remove();
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  private static <T> T orElse(@Nullable final T value, final T fallback) {
+    return value != null ? value : fallback;
+  }
+
+  //
+  // Elements
+  //
+
+  private static void writeSnapshot(final Output out, @Nullable final Snapshot snapshot) throws XMLStreamException {
+    if (snapshot == null) {
+      return;
+    }
+    out.start("snapshot");
+    out.element("timestamp", snapshot.getTimestamp());
+    out.element("buildNumber", String.valueOf(snapshot.getBuildNumber()));
+    if (snapshot.isLocalCopy()) {
+      out.element("localCopy", "true");
+    }
+    out.end();
+  }
+
+  private static void writeVersions(final Output out, final Iterable<String> versions) throws XMLStreamException {
+    Iterator<String> iter = versions.iterator();
+    if (!iter.hasNext()) {
+      return;
+    }
+    out.start("versions");
+    while (iter.hasNext()) {
+      out.element("version", iter.next());
+    }
+    out.end();
+  }
+
+  private static void writeSnapshotVersions(final Output out, final List<SnapshotVersion> versions)
+      throws XMLStreamException
+  {
+    if (versions.isEmpty()) {
+      return;
+    }
+    out.start("snapshotVersions");
+    for (SnapshotVersion version : versions) {
+      writeSnapshotVersion(out, version);
+    }
+    out.end();
+  }
+
+  private static void writeSnapshotVersion(final Output out, final SnapshotVersion version)
+      throws XMLStreamException
+  {
+    out.start("snapshotVersion");
+    out.element("classifier", version.getClassifier());
+    out.element("extension", version.getExtension());
+    out.element("value", version.getValue());
+    out.element("updated", version.getUpdated());
+    out.end();
+  }
+
+  private static void writePlugins(final Output out, final List<Plugin> plugins) throws XMLStreamException {
+    if (plugins.isEmpty()) {
+      return;
+    }
+    out.start("plugins");
+    for (Plugin plugin : plugins) {
+      writePlugin(out, plugin);
+    }
+    out.end();
+  }
+
+  private static void writePlugin(final Output out, final Plugin plugin) throws XMLStreamException {
+    out.start("plugin");
+    out.element("name", plugin.getName());
+    out.element("prefix", plugin.getPrefix());
+    out.element("artifactId", plugin.getArtifactId());
+    out.end();
+  }
+
+  private static Path createTemp(final Path file) throws IOException {
+    Path parent = file.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    return Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+  }
+
+  //
+  // Output
+  //
+
+  /**
+   * Indenting wrapper; containers put each child on its own line, leaves keep their text inline.
+   */
+  private static class Output
+  {
+    private static final String[] NEWLINES = new String[16];
+
+    static {
+      String newline = "\n";
+      for (int i = 0; i < NEWLINES.length; i++) {
+        NEWLINES[i] = newline;
+        newline += "  ";
+      }
+    }
+
+    private final Writer stream;
+
+    private final XMLStreamWriter writer;
+
+    private int depth;
+
+    Output(final OutputStream output) throws XMLStreamException {
+      this.stream = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+      this.writer = FACTORY.createXMLStreamWriter(stream);
+    }
+
+    void startDocument() throws XMLStreamException {
+      writer.writeStartDocument(ENCODING, "1.0");
+    }
+
+    void endDocument() throws XMLStreamException {
+      writer.writeCharacters("\n");
+      writer.writeEndDocument();
+      writer.flush();
+      try {
+        stream.flush();
+      }
+      catch (IOException e) {
+        throw new XMLStreamException(e);
+      }
+    }
+
+    void start(final String name) throws XMLStreamException {
+      newline();
+      writer.writeStartElement(name);
+      depth++;
+    }
+
+    void end() throws XMLStreamException {
+      depth--;
+      newline();
+      writer.writeEndElement();
+    }
+
+    void element(final String name, @Nullable final String value) throws XMLStreamException {
+      if (value == null) {
+        return;
+      }
+      newline();
+      writer.writeStartElement(name);
+      writer.writeCharacters(value);
+      writer.writeEndElement();
+    }
+
+    /**
+     * Starts a copy of the current element, including its prefix, namespace declarations and attributes.
+     */
+    void startCopy(final XMLStreamReader reader) throws XMLStreamException {
+      startCopy(new Element(reader));
+    }
+
+    private void startCopy(final Element element) throws XMLStreamException {
+      newline();
+      if (element.prefix.isEmpty()) {
+        writer.writeStartElement(element.localName);
+      }
+      else {
+        writer.writeStartElement(element.prefix, element.localName, element.namespaceURI);
+      }
+      depth++;
+      for (String[] namespace : element.namespaces) {
+        if (namespace[0].isEmpty()) {
+          writer.writeDefaultNamespace(namespace[1]);
+        }
+        else {
+          writer.writeNamespace(namespace[0], namespace[1]);
+        }
+      }
+      for (String[] attribute : element.attributes) {
+        if (attribute[0].isEmpty()) {
+          writer.writeAttribute(attribute[2], attribute[3]);
+        }
+        else {
+          writer.writeAttribute(attribute[0], attribute[1], attribute[2], attribute[3]);
+        }
+      }
+    }
+
+    private void endCopy(final boolean nested) throws XMLStreamException {
+      depth--;
+      if (nested) {
+        newline();
+      }
+      writer.writeEndElement();
+    }
+
+    /**
+     * Writes a captured element and its content.
+     */
+    void write(final Element element) throws XMLStreamException {
+      startCopy(element);
+      boolean nested = false;
+      for (Object child : element.content) {
+        if (child instanceof Element) {
+          write((Element) child);
+          nested = true;
+        }
+        else {
+          writer.writeCharacters((String) child);
+        }
+      }
+      endCopy(nested);
+    }
+
+    /**
+     * Copies the current element and its content; whitespace-only text is dropped and re-indented.
+     */
+    void copy(final XMLStreamReader reader) throws XMLStreamException {
+      startCopy(reader);
+      boolean nested = false;
+      while (true) {
+        switch (reader.next()) {
+          case XMLStreamConstants.START_ELEMENT:
+            copy(reader);
+            nested = true;
+            break;
+          case XMLStreamConstants.CHARACTERS:
+          case XMLStreamConstants.CDATA:
+            if (!reader.isWhiteSpace()) {
+              writer.writeCharacters(reader.getText());
+            }
+            break;
+          case XMLStreamConstants.END_ELEMENT:
+            endCopy(nested);
+            return;
+          default:
+            // comments and processing instructions
+        }
+      }
+    }
+
+    private void newline() throws XMLStreamException {
+      writer.writeCharacters(NEWLINES[Math.min(depth, NEWLINES.length - 1)]);
+    }
+  }
+
+  /**
+   * Element held in memory so its content can be inspected before it is copied; used for single entries only.
+   */
+  private static final class Element
+  {
+    private final String prefix;
+
+    private final String localName;
+
+    @Nullable
+    private final String namespaceURI;
+
+    /**
+     * Prefix and URI of each namespace declaration.
+     */
+    private final List<String[]> namespaces = new ArrayList<>();
+
+    /**
+     * Prefix, namespace, local name and value of each attribute.
+     */
+    private final List<String[]> attributes = new ArrayList<>();
+
+    /**
+     * Text and child elements in document order; whitespace-only text is dropped.
+     */
+    private final List<Object> content = new ArrayList<>();
+
+    /**
+     * Captures the start tag of the current element.
+     */
+    Element(final XMLStreamReader reader) {
+      this.prefix = emptyIfNull(reader.getPrefix());
+      this.localName = reader.getLocalName();
+      this.namespaceURI = reader.getNamespaceURI();
+      for (int i = 0; i < reader.getNamespaceCount(); i++) {
+        namespaces.add(new String[]{emptyIfNull(reader.getNamespacePrefix(i)), reader.getNamespaceURI(i)});
+      }
+      for (int i = 0; i < reader.getAttributeCount(); i++) {
+        attributes.add(new String[]{
+            emptyIfNull(reader.getAttributePrefix(i)),
+            reader.getAttributeNamespace(i),
+            reader.getAttributeLocalName(i),
+            reader.getAttributeValue(i)
+        });
+      }
+    }
+
+    /**
+     * Captures the current element and its content; positioned on its end.
+     */
+    static Element capture(final XMLStreamReader reader) throws XMLStreamException {
+      Element element = new Element(reader);
+      while (true) {
+        switch (reader.next()) {
+          case XMLStreamConstants.START_ELEMENT:
+            element.content.add(capture(reader));
+            break;
+          case XMLStreamConstants.CHARACTERS:
+          case XMLStreamConstants.CDATA:
+            if (!reader.isWhiteSpace()) {
+              element.content.add(reader.getText());
+            }
+            break;
+          case XMLStreamConstants.END_ELEMENT:
+            return element;
+          default:
+            // comments and processing instructions
+        }
+      }
+    }
+
+    /**
+     * Returns the trimmed text of the first child of the given local name, or {@code null}.
+     */
+    @Nullable
+    String childText(final String name) {
+      for (Object child : content) {
+        if (child instanceof Element && ((Element) child).localName.equals(name)) {
+          StringBuilder text = new StringBuilder();
+          for (Object part : ((Element) child).content) {
+            if (part instanceof String) {
+              text.append(part);
+            }
+          }
+          return text.toString().trim();
+        }
+      }
+      return null;
+    }
+
+    private static String emptyIfNull(@Nullable final String value) {
+      return value != null ? value : "";
+    }
+  }
+}
@@ -13,7 +13,6 @@
 package org.sonatype.goodies.mavenpath;
 
 import java.io.Serializable;
-import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -37,9 +36,32 @@ public class MavenPath
 
   protected final String fileName;
 
+  /**
+   * Cached {@link #getPath()} hash; {@code 0} until computed for lazy views and after deserialization.
+   */
+  private transient int hash;
+
   protected MavenPath(final String path, final String fileName) {
     this.path = requireNonNull(path);
     this.fileName = requireNonNull(fileName);
+    this.hash = path.hashCode();
+  }
+
+  /**
+   * Lazy view constructor; sub-classes must override all getters as fields are left {@code null}.
+   */
+  MavenPath() {
+    this.path = null;
+    this.fileName = null;
+  }
+
+  /**
+   * Compact view constructor; sub-classes must override all getters but {@link #getPath()}.
+   */
+  MavenPath(final String path) {
+    this.path = requireNonNull(path);
+    this.fileName = null;
+    this.hash = path.hashCode();
   }
 
   public String getPath() {
@@ -50,6 +72,13 @@ public class MavenPath
     return fileName;
   }
 
+  /**
+   * 64-bit fingerprint of {@link #getPath()}; see {@link #fingerprint(CharSequence)}.
+   */
+  public long getFingerprint() {
+    return fingerprint(getPath());
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -59,19 +88,27 @@ public class MavenPath
       return false;
     }
     MavenPath mavenPath = (MavenPath) o;
-    return Objects.equals(path, mavenPath.path);
+    return hashCode() == mavenPath.hashCode() && getPath().equals(mavenPath.getPath());
   }
 
+  /**
+   * Returns {@code getPath().hashCode()}, computed once; lazy views compute it on first use.
+   */
   @Override
   public int hashCode() {
-    return Objects.hash(path);
+    int h = hash;
+    if (h == 0) {
+      h = getPath().hashCode();
+      hash = h;
+    }
+    return h;
   }
 
   @Override
   public String toString() {
     return getClass().getSimpleName() + "{" +
-        "path='" + path + '\'' +
-        ", fileName='" + fileName + '\'' +
+        "path='" + getPath() + '\'' +
+        ", fileName='" + getFileName() + '\'' +
         '}';
   }
 
@@ -89,4 +126,71 @@ public class MavenPath
     }
     return subordinate;
   }
+
+  /**
+   * Initial {@link #fingerprintBlocks} state.
+   */
+  static final long FINGERPRINT_SEED = 0x9e3779b97f4a7c15L;
+
+  private static final long C1 = 0x87c37b91114253d5L;
+
+  private static final long C2 = 0x4cf5ad432745937fL;
+
+  /**
+   * 64-bit fingerprint of given path characters, for off-heap hash sets and Bloom filters where the 32-bit
+   * {@link #hashCode()} collides too often.
+   *
+   * Mixes four {@code char}s per 64-bit block with the MurmurHash3 x64 block and finalization steps; stable across
+   * JVMs and releases, so fingerprints may be persisted.  Equal paths always have equal fingerprints, also across
+   * {@link String} and other {@link CharSequence} implementations.
+   */
+  public static long fingerprint(final CharSequence path) {
+    int length = path.length();
+    int blocks = length & ~3;
+    return fingerprintTail(fingerprintBlocks(FINGERPRINT_SEED, path, 0, blocks), path, blocks, length);
+  }
+
+  /**
+   * Mixes the 4-char blocks of {@code path[start, end)} into given state; {@code start} and {@code end} must be
+   * multiples of 4.  Lets paths sharing a prefix reuse the state of the prefix blocks.
+   */
+  static long fingerprintBlocks(long h, final CharSequence path, final int start, final int end) {
+    for (int i = start; i < end; i += 4) {
+      long k = path.charAt(i) |
+          (long) path.charAt(i + 1) << 16 |
+          (long) path.charAt(i + 2) << 32 |
+          (long) path.charAt(i + 3) << 48;
+      h ^= mixBlock(k);
+      h = Long.rotateLeft(h, 27) * 5 + 0x52dce729;
+    }
+    return h;
+  }
+
+  /**
+   * Mixes the remaining chars of {@code path[start, length)}, fewer than 4, and finalizes.
+   */
+  static long fingerprintTail(long h, final CharSequence path, final int start, final int length) {
+    if (start < length) {
+      long k = 0;
+      for (int i = start, shift = 0; i < length; i++, shift += 16) {
+        k |= (long) path.charAt(i) << shift;
+      }
+      h ^= mixBlock(k);
+    }
+    return mixFinal(h ^ length);
+  }
+
+  private static long mixBlock(long k) {
+    k *= C1;
+    k = Long.rotateLeft(k, 31);
+    return k * C2;
+  }
+
+  private static long mixFinal(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    return h ^ (h >>> 33);
+  }
 }
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Probabilistic set of paths; answers "definitely not present" or "possibly present".
+ *
+ * A blocked Bloom filter keyed on {@link MavenPath#fingerprint(CharSequence) path fingerprints}: the upper half of
+ * the fingerprint selects a 512-bit block, one cache line, and a multiplicative stream seeded by the fingerprint places
+ * all bits of a path within that block; so each lookup touches a single cache line.  Paths are never reported absent
+ * once added; the false positive rate grows as more paths than expected are added.
+ *
+ * Lookups are plain reads and inserts set bits with compare-and-set; neither blocks.  Paths may be added
+ * concurrently with lookups, as artifacts are deployed.  Paths can not be removed.
+ *
+ * Layout, big-endian:
+ *
+ * <pre>
+ * int magic, int version, int hashCount, int blockCount, long insertCount
+ * long[blockCount * 8]     bits
+ * </pre>
+ *
+ * @since ???
+ */
+@ThreadSafe
+public final class MavenPathFilter
+{
+  private static final int MAGIC = 0x4D564E46; // MVNF
+
+  private static final int VERSION = 1;
+
+  private static final int HEADER_SIZE = 24;
+
+  private static final int BLOCK_WORDS = 8;
+
+  private static final int BLOCK_BITS = BLOCK_WORDS * 64;
+
+  /**
+   * Shift of the 64-bit bit-position stream to a bit index within a block.
+   */
+  private static final int BIT_SHIFT = 64 - 9;
+
+  private static final long LCG_MULTIPLIER = 0x5851f42d4c957f2dL;
+
+  private static final long LCG_INCREMENT = 0x14057b7ef767814fL;
+
+  private static final int MAX_HASH_COUNT = 16;
+
+  private static final int MAX_BLOCKS = Integer.MAX_VALUE / BLOCK_WORDS;
+
+  /**
+   * Words mapped at once by {@link #read}; 1 GiB.
+   */
+  private static final int MAP_WORDS = 1 << 27;
+
+  private static final double LN_2 = Math.log(2);
+
+  /**
+   * Extra bits compensating uneven block loads; keeps the measured false positive rate below the requested rate.
+   */
+  private static final double BLOCK_OVERHEAD = 1.1;
+
+  private final AtomicLongArray bits;
+
+  private final int hashCount;
+
+  private final int blockCount;
+
+  /**
+   * Count of {@link #add} calls which set at least one bit; approximates distinct paths.
+   */
+  private final AtomicLong insertCount;
+
+  private MavenPathFilter(final AtomicLongArray bits, final int hashCount, final int blockCount, final long inserts) {
+    this.bits = bits;
+    this.hashCount = hashCount;
+    this.blockCount = blockCount;
+    this.insertCount = new AtomicLong(inserts);
+  }
+
+  /**
+   * Create empty filter sized for the expected number of paths at the given false positive rate.
+   */
+  public static MavenPathFilter create(final long expectedPaths, final double falsePositiveRate) {
+    if (expectedPaths < 1) {
+      throw new IllegalArgumentException("Expected paths must be positive");
+    }
+    if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+      throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+    }
+    double bitsPerPath = -Math.log(falsePositiveRate) / (LN_2 * LN_2);
+    long blocks = (long) Math.ceil(expectedPaths * bitsPerPath * BLOCK_OVERHEAD / BLOCK_BITS);
+    if (blocks > MAX_BLOCKS) {
+      throw new IllegalArgumentException("Filter too large: " + expectedPaths + " paths");
+    }
+    int hashCount = (int) Math.max(1, Math.min(MAX_HASH_COUNT, Math.round(bitsPerPath * LN_2)));
+    int blockCount = (int) Math.max(1, blocks);
+    return new MavenPathFilter(new AtomicLongArray(blockCount * BLOCK_WORDS), hashCount, blockCount, 0);
+  }
+
+  /**
+   * Create filter of all paths of the index file.
+   */
+  public static MavenPathFilter of(final MavenPathIndexFile index, final double falsePositiveRate) {
+    requireNonNull(index);
+    MavenPathFilter filter = create(Math.max(1, index.size()), falsePositiveRate);
+    for (int i = 0; i < index.size(); i++) {
+      filter.add(index.getPath(i));
+    }
+    return filter;
+  }
+
+  //
+  // Inserts
+  //
+
+  /**
+   * Add path.
+   *
+   * @return {@code true} if the path was definitely not present before.
+   */
+  public boolean add(final MavenPath path) {
+    return addFingerprint(path.getFingerprint());
+  }
+
+  /**
+   * Add path; as {@link #add(MavenPath)} for the path string, without parsing.
+   */
+  public boolean add(final CharSequence path) {
+    return addFingerprint(MavenPath.fingerprint(path));
+  }
+
+  /**
+   * Add path by its {@link MavenPath#fingerprint(CharSequence) fingerprint}.
+   */
+  public boolean addFingerprint(final long fingerprint) {
+    int base = block(fingerprint);
+    long h = fingerprint;
+    boolean changed = false;
+    for (int i = 0; i < hashCount; i++) {
+      h = h * LCG_MULTIPLIER + LCG_INCREMENT;
+      int bit = (int) (h >>> BIT_SHIFT);
+      int word = base + (bit >>> 6);
+      long mask = 1L << bit;
+      long value = bits.get(word);
+      while ((value & mask) == 0) {
+        if (bits.compareAndSet(word, value, value | mask)) {
+          changed = true;
+          break;
+        }
+        value = bits.get(word);
+      }
+    }
+    if (changed) {
+      insertCount.incrementAndGet();
+    }
+    return changed;
+  }
+
+  //
+  // Lookups
+  //
+
+  /**
+   * False if the path was definitely never added.
+   */
+  public boolean mightContain(final MavenPath path) {
+    return mightContainFingerprint(path.getFingerprint());
+  }
+
+  /**
+   * As {@link #mightContain(MavenPath)} for the path string, without parsing.
+   */
+  public boolean mightContain(final CharSequence path) {
+    return mightContainFingerprint(MavenPath.fingerprint(path));
+  }
+
+  public boolean mightContainFingerprint(final long fingerprint) {
+    int base = block(fingerprint);
+    long h = fingerprint;
+    for (int i = 0; i < hashCount; i++) {
+      h = h * LCG_MULTIPLIER + LCG_INCREMENT;
+      int bit = (int) (h >>> BIT_SHIFT);
+      if ((bits.get(base + (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * First word of the block of the fingerprint; reduces the upper 32 bits to the block range by multiplication.
+   */
+  private int block(final long fingerprint) {
+    return (int) (((fingerprint >>> 32) * blockCount) >>> 32) * BLOCK_WORDS;
+  }
+
+  //
+  // Statistics
+  //
+
+  public int getHashCount() {
+    return hashCount;
+  }
+
+  /**
+   * Size of the bit set in bytes.
+   */
+  public long getSize() {
+    return (long) bits.length() * 8;
+  }
+
+  /**
+   * Approximate number of distinct paths added.
+   */
+  public long getInsertCount() {
+    return insertCount.get();
+  }
+
+  /**
+   * Estimated current false positive rate, from the fraction of set bits.
+   */
+  public double getFalsePositiveRate() {
+    long set = 0;
+    for (int i = 0; i < bits.length(); i++) {
+      set += Long.bitCount(bits.get(i));
+    }
+    return Math.pow((double) set / ((long) bits.length() * 64), hashCount);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{" +
+        "size=" + getSize() +
+        ", hashCount=" + hashCount +
+        ", insertCount=" + insertCount.get() +
+        '}';
+  }
+
+  //
+  // Persistence
+  //
+
+  /**
+   * Writes filter to file, replacing it atomically; concurrent inserts may or may not be included.
+   */
+  public void write(final Path file) throws IOException {
+    requireNonNull(file);
+    Path temp = createTemp(file);
+    try {
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(hashCount);
+        out.writeInt(blockCount);
+        out.writeLong(insertCount.get());
+        for (int i = 0; i < bits.length(); i++) {
+          out.writeLong(bits.get(i));
+        }
+      }
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private static Path createTemp(final Path file) throws IOException {
+    Path parent = file.toAbsolutePath().getParent();
+    return Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+  }
+
+  /**
+   * Reads a filter written by {@link #write}; the filter accepts further inserts.
+   */
+  public static MavenPathFilter read(final Path file) throws IOException {
+    requireNonNull(file);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < HEADER_SIZE) {
+        throw new IOException("Not a path filter file");
+      }
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      readFully(channel, header);
+      if (header.getInt(0) != MAGIC) {
+        throw new IOException("Not a path filter file");
+      }
+      if (header.getInt(4) != VERSION) {
+        throw new IOException("Unsupported path filter version: " + header.getInt(4));
+      }
+      int hashCount = header.getInt(8);
+      int blockCount = header.getInt(12);
+      long inserts = header.getLong(16);
+      if (hashCount < 1 || hashCount > MAX_HASH_COUNT || blockCount < 1 || blockCount > MAX_BLOCKS
+          || size != HEADER_SIZE + (long) blockCount * BLOCK_WORDS * 8) {
+        throw new IOException("Corrupt path filter file");
+      }
+
+      // a single mapping is limited to 2 GiB, so larger bit sets are mapped in chunks; words are copied straight into
+      // the filter, as an intermediate array would double the peak heap
+      AtomicLongArray bits = new AtomicLongArray(blockCount * BLOCK_WORDS);
+      for (int offset = 0; offset < bits.length(); offset += MAP_WORDS) {
+        int length = Math.min(MAP_WORDS, bits.length() - offset);
+        LongBuffer words = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + (long) offset * 8,
+            (long) length * 8).asLongBuffer();
+        for (int i = 0; i < length; i++) {
+          bits.set(offset + i, words.get(i));
+        }
+      }
+      return new MavenPathFilter(bits, hashCount, blockCount, inserts);
+    }
+  }
+
+  private static void readFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        throw new IOException("Truncated path filter file");
+      }
+    }
+  }
+}
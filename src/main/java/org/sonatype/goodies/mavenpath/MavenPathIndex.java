@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * In-memory index of {@link ArtifactPath}, {@link SnapshotArtifactPath} and {@link MavenMetadataPath}.
+ *
+ * Paths are kept in a trie keyed on groupId segments, then artifactId, then base version; interior nodes are shared
+ * by all paths below them.  Children are sorted copy-on-write arrays, so lookups cost one binary search per level and
+ * readers never lock.  Writers are serialized; a reader sees each {@link #add}/{@link #remove} either completely or
+ * not at all at the node it visits.
+ *
+ * Metadata is indexed at the level of its guessed coordinates: groupId, artifactId or version node.
+ *
+ * @since ???
+ */
+@ThreadSafe
+public final class MavenPathIndex
+{
+  private static final Node[] NO_NODES = new Node[0];
+
+  private static final MavenPath[] NO_PATHS = new MavenPath[0];
+
+  /**
+   * Trie node; a groupId segment, artifactId or base version.
+   *
+   * Group nodes use {@link #children} for sub-segments and {@link #artifacts} for artifactIds; artifact nodes use
+   * {@link #children} for versions.  Arrays are never modified once published.
+   */
+  private static final class Node
+  {
+    final String name;
+
+    final boolean artifact;
+
+    volatile Node[] children = NO_NODES;
+
+    volatile Node[] artifacts = NO_NODES;
+
+    volatile MavenPath[] paths = NO_PATHS;
+
+    Node(final String name, final boolean artifact) {
+      this.name = name;
+      this.artifact = artifact;
+    }
+
+    boolean isEmpty() {
+      return children.length == 0 && artifacts.length == 0 && paths.length == 0;
+    }
+  }
+
+  private final Node root = new Node("", false);
+
+  private volatile int size;
+
+  /**
+   * Adds path to the index.
+   *
+   * @return {@code false} if the path was already indexed.
+   * @throws IllegalArgumentException if path is not an artifact or metadata path.
+   */
+  public synchronized boolean add(final MavenPath path) {
+    List<Node> chain = locate(path, true);
+    Node node = chain.get(chain.size() - 1);
+    MavenPath[] paths = node.paths;
+    int index = search(paths, path.getPath());
+    if (index >= 0) {
+      return false;
+    }
+    node.paths = insert(paths, -(index + 1), path);
+    size++;
+    return true;
+  }
+
+  /**
+   * Removes path from the index, pruning nodes left empty.
+   *
+   * @return {@code false} if the path was not indexed.
+   * @throws IllegalArgumentException if path is not an artifact or metadata path.
+   */
+  public synchronized boolean remove(final MavenPath path) {
+    List<Node> chain = locate(path, false);
+    if (chain == null) {
+      return false;
+    }
+    Node node = chain.get(chain.size() - 1);
+    MavenPath[] paths = node.paths;
+    int index = search(paths, path.getPath());
+    if (index < 0) {
+      return false;
+    }
+    node.paths = delete(paths, index);
+    size--;
+    prune(chain);
+    return true;
+  }
+
+  /**
+   * Number of indexed paths.
+   */
+  public int size() {
+    return size;
+  }
+
+  public boolean contains(final MavenPath path) {
+    List<Node> chain = locate(path, false);
+    return chain != null && search(chain.get(chain.size() - 1).paths, path.getPath()) >= 0;
+  }
+
+  /**
+   * Returns the groupIds at or below the given groupId prefix that have artifactIds, in segment order.
+   *
+   * The prefix is matched on whole segments; {@code "org.apache"} matches {@code "org.apache.maven"} but not
+   * {@code "org.apachex"}.  An empty prefix returns all groupIds.
+   */
+  public List<String> getGroupIds(final String groupIdPrefix) {
+    Node node = group(groupIdPrefix);
+    if (node == null) {
+      return Collections.emptyList();
+    }
+    List<String> result = new ArrayList<>();
+    collectGroupIds(node, new StringBuilder(groupIdPrefix), result);
+    return result;
+  }
+
+  /**
+   * Returns the artifactIds of the given groupId, in sorted order.
+   */
+  public List<String> getArtifactIds(final String groupId) {
+    Node node = group(groupId);
+    return node == null ? Collections.emptyList() : names(node.artifacts, 0, node.artifacts.length);
+  }
+
+  /**
+   * Returns the base versions of the given artifact, in string order.
+   */
+  public List<String> getVersions(final String groupId, final String artifactId) {
+    Node node = artifact(groupId, artifactId);
+    return node == null ? Collections.emptyList() : names(node.children, 0, node.children.length);
+  }
+
+  /**
+   * Returns the base versions of the given artifact that start with the version prefix, in string order.
+   */
+  public List<String> getVersions(final String groupId, final String artifactId, final String versionPrefix) {
+    requireNonNull(versionPrefix);
+    Node node = artifact(groupId, artifactId);
+    if (node == null) {
+      return Collections.emptyList();
+    }
+    Node[] versions = node.children;
+    int from = search(versions, versionPrefix);
+    if (from < 0) {
+      from = -(from + 1);
+    }
+    int to = from;
+    while (to < versions.length && versions[to].name.startsWith(versionPrefix)) {
+      to++;
+    }
+    return names(versions, from, to);
+  }
+
+  /**
+   * Returns the paths of the given base version, sorted by path.
+   */
+  public List<MavenPath> getPaths(final String groupId, final String artifactId, final String baseVersion) {
+    requireNonNull(baseVersion);
+    Node node = artifact(groupId, artifactId);
+    if (node != null) {
+      node = find(node.children, baseVersion);
+    }
+    return node == null ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(node.paths));
+  }
+
+  /**
+   * Returns all paths at or below the given groupId prefix.
+   *
+   * @see #getGroupIds(String)
+   */
+  public List<MavenPath> getPaths(final String groupIdPrefix) {
+    List<MavenPath> result = new ArrayList<>();
+    forEach(groupIdPrefix, result::add);
+    return result;
+  }
+
+  /**
+   * Visits all paths at or below the given groupId prefix, depth first in segment order.
+   *
+   * @see #getGroupIds(String)
+   */
+  public void forEach(final String groupIdPrefix, final Consumer<? super MavenPath> consumer) {
+    requireNonNull(consumer);
+    Node node = group(groupIdPrefix);
+    if (node != null) {
+      visitGroup(node, consumer);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{" +
+        "size=" + size +
+        '}';
+  }
+
+  //
+  // Navigation
+  //
+
+  /**
+   * Returns the nodes from root to the node holding the path; creating missing nodes if requested, else {@code null}
+   * if any is missing.
+   */
+  @Nullable
+  private List<Node> locate(final MavenPath path, final boolean create) {
+    requireNonNull(path);
+    String groupId;
+    String artifactId;
+    String version;
+    if (path instanceof SnapshotArtifactPath) {
+      SnapshotArtifactPath snapshot = (SnapshotArtifactPath) path;
+      groupId = snapshot.getGroupId();
+      artifactId = snapshot.getArtifactId();
+      version = snapshot.getBaseVersion();
+    }
+    else if (path instanceof ArtifactPath) {
+      ArtifactPath artifact = (ArtifactPath) path;
+      groupId = artifact.getGroupId();
+      artifactId = artifact.getArtifactId();
+      version = artifact.getVersion();
+    }
+    else if (path instanceof MavenMetadataPath) {
+      MavenMetadataPath metadata = (MavenMetadataPath) path;
+      groupId = metadata.getGroupId();
+      artifactId = metadata.getArtifactId();
+      version = metadata.getVersion();
+    }
+    else {
+      throw new IllegalArgumentException("Unsupported path: " + path);
+    }
+
+    List<Node> chain = new ArrayList<>(8);
+    Node node = root;
+    chain.add(node);
+    if (groupId != null && !groupId.isEmpty()) {
+      // same segments as group(); a trailing '.' yields an empty last segment
+      int start = 0;
+      while (start <= groupId.length()) {
+        int end = groupId.indexOf('.', start);
+        if (end == -1) {
+          end = groupId.length();
+        }
+        node = create ? child(node, groupId.substring(start, end)) : find(node.children, groupId, start, end);
+        if (node == null) {
+          return null;
+        }
+        chain.add(node);
+        start = end + 1;
+      }
+    }
+    if (artifactId != null) {
+      node = create ? artifact(node, artifactId) : find(node.artifacts, artifactId);
+      if (node == null) {
+        return null;
+      }
+      chain.add(node);
+    }
+    if (version != null) {
+      node = create ? child(node, version) : find(node.children, version);
+      if (node == null) {
+        return null;
+      }
+      chain.add(node);
+    }
+    return chain;
+  }
+
+  @Nullable
+  private Node group(final String groupId) {
+    requireNonNull(groupId);
+    if (groupId.isEmpty()) {
+      return root;
+    }
+    Node node = root;
+    int start = 0;
+    while (node != null && start <= groupId.length()) {
+      int end = groupId.indexOf('.', start);
+      if (end == -1) {
+        end = groupId.length();
+      }
+      node = find(node.children, groupId, start, end);
+      start = end + 1;
+    }
+    return node;
+  }
+
+  @Nullable
+  private Node artifact(final String groupId, final String artifactId) {
+    requireNonNull(artifactId);
+    Node node = group(groupId);
+    return node == null ? null : find(node.artifacts, artifactId);
+  }
+
+  /**
+   * Unlinks nodes left empty along the chain; deepest first.
+   */
+  private static void prune(final List<Node> chain) {
+    for (int i = chain.size() - 1; i > 0; i--) {
+      Node child = chain.get(i);
+      if (!child.isEmpty()) {
+        return;
+      }
+      Node parent = chain.get(i - 1);
+      if (child.artifact) {
+        parent.artifacts = delete(parent.artifacts, search(parent.artifacts, child.name));
+      }
+      else {
+        parent.children = delete(parent.children, search(parent.children, child.name));
+      }
+    }
+  }
+
+  private static Node child(final Node parent, final String name) {
+    Node[] children = parent.children;
+    int index = search(children, name);
+    if (index >= 0) {
+      return children[index];
+    }
+    Node node = new Node(name, false);
+    parent.children = insert(children, -(index + 1), node);
+    return node;
+  }
+
+  private static Node artifact(final Node parent, final String name) {
+    Node[] artifacts = parent.artifacts;
+    int index = search(artifacts, name);
+    if (index >= 0) {
+      return artifacts[index];
+    }
+    Node node = new Node(name, true);
+    parent.artifacts = insert(artifacts, -(index + 1), node);
+    return node;
+  }
+
+  //
+  // Traversal
+  //
+
+  private static void collectGroupIds(final Node node, final StringBuilder groupId, final List<String> result) {
+    if (node.artifacts.length != 0) {
+      result.add(groupId.toString());
+    }
+    int length = groupId.length();
+    for (Node child : node.children) {
+      if (length != 0) {
+        groupId.append('.');
+      }
+      groupId.append(child.name);
+      collectGroupIds(child, groupId, result);
+      groupId.setLength(length);
+    }
+  }
+
+  private static void visitGroup(final Node node, final Consumer<? super MavenPath> consumer) {
+    visitPaths(node, consumer);
+    for (Node artifact : node.artifacts) {
+      visitPaths(artifact, consumer);
+      for (Node version : artifact.children) {
+        visitPaths(version, consumer);
+      }
+    }
+    for (Node child : node.children) {
+      visitGroup(child, consumer);
+    }
+  }
+
+  private static void visitPaths(final Node node, final Consumer<? super MavenPath> consumer) {
+    for (MavenPath path : node.paths) {
+      consumer.accept(path);
+    }
+  }
+
+  //
+  // Sorted array helpers
+  //
+
+  private static List<String> names(final Node[] nodes, final int from, final int to) {
+    String[] result = new String[to - from];
+    for (int i = from; i < to; i++) {
+      result[i - from] = nodes[i].name;
+    }
+    return Collections.unmodifiableList(Arrays.asList(result));
+  }
+
+  @Nullable
+  private static Node find(final Node[] nodes, final String name) {
+    int index = search(nodes, name);
+    return index >= 0 ? nodes[index] : null;
+  }
+
+  /**
+   * Finds node named by {@code key[start, end)} without allocating a substring.
+   */
+  @Nullable
+  private static Node find(final Node[] nodes, final String key, final int start, final int end) {
+    int low = 0;
+    int high = nodes.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = compare(nodes[mid].name, key, start, end);
+      if (cmp < 0) {
+        low = mid + 1;
+      }
+      else if (cmp > 0) {
+        high = mid - 1;
+      }
+      else {
+        return nodes[mid];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Same ordering as {@link String#compareTo} against {@code key.substring(start, end)}.
+   */
+  private static int compare(final String name, final String key, final int start, final int end) {
+    int length = end - start;
+    int limit = Math.min(name.length(), length);
+    for (int i = 0; i < limit; i++) {
+      int diff = name.charAt(i) - key.charAt(start + i);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return name.length() - length;
+  }
+
+  private static int search(final Node[] nodes, final String name) {
+    int low = 0;
+    int high = nodes.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = nodes[mid].name.compareTo(name);
+      if (cmp < 0) {
+        low = mid + 1;
+      }
+      else if (cmp > 0) {
+        high = mid - 1;
+      }
+      else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  private static int search(final MavenPath[] paths, final String path) {
+    int low = 0;
+    int high = paths.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = paths[mid].getPath().compareTo(path);
+      if (cmp < 0) {
+        low = mid + 1;
+      }
+      else if (cmp > 0) {
+        high = mid - 1;
+      }
+      else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  private static <T> T[] insert(final T[] array, final int index, final T element) {
+    T[] result = Arrays.copyOf(array, array.length + 1);
+    System.arraycopy(array, index, result, index + 1, array.length - index);
+    result[index] = element;
+    return result;
+  }
+
+  private static <T> T[] delete(final T[] array, final int index) {
+    T[] result = Arrays.copyOf(array, array.length - 1);
+    System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+    return result;
+  }
+}
@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Memory-mapped, sorted set of Maven 2 layout paths.
+ *
+ * The file holds a dictionary of strings and fixed-width records of dictionary ids; artifact records reference
+ * groupId, artifactId, version directory, version, classifier and extension, other paths their directory and
+ * file name.  Records are sorted by path, so {@link #indexOf} and prefix scans are binary searches over the mapped
+ * bytes.  Opening a file only maps it; {@link MavenPath} instances are created on demand by {@link #get(int)}.
+ *
+ * Layout, big-endian:
+ *
+ * <pre>
+ * int magic, int version, int stringCount, int recordCount
+ * int[stringCount + 1]     char offset of each string, then total char count
+ * int[recordCount * 6]     records
+ * char[]                   string characters
+ * </pre>
+ *
+ * @since ???
+ */
+@ThreadSafe
+public final class MavenPathIndexFile
+{
+  private static final int MAGIC = 0x4D564E50; // MVNP
+
+  private static final int VERSION = 1;
+
+  private static final int HEADER_SIZE = 16;
+
+  private static final int RECORD_WIDTH = 6;
+
+  /**
+   * Absent string; in the artifactId slot it marks records holding a directory and file name.
+   */
+  private static final int NONE = -1;
+
+  private static final int MAX_PIECES = 13;
+
+  private final ByteBuffer buffer;
+
+  private final int stringCount;
+
+  private final int recordCount;
+
+  private final int recordsOffset;
+
+  private final int charsOffset;
+
+  private MavenPathIndexFile(final ByteBuffer buffer) throws IOException {
+    this.buffer = buffer;
+    if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new IOException("Not a path index file");
+    }
+    if (buffer.getInt(4) != VERSION) {
+      throw new IOException("Unsupported path index version: " + buffer.getInt(4));
+    }
+    stringCount = buffer.getInt(8);
+    recordCount = buffer.getInt(12);
+    // offsets in long so a corrupt header can not wrap them; string table bounds checked before it is read
+    long records = HEADER_SIZE + (stringCount + 1L) * 4;
+    long chars = records + (long) recordCount * RECORD_WIDTH * 4;
+    if (stringCount < 0 || recordCount < 0 || chars > buffer.capacity()
+        || chars + (long) stringStart(stringCount) * 2 != buffer.capacity()) {
+      throw new IOException("Corrupt path index file");
+    }
+    recordsOffset = (int) records;
+    charsOffset = (int) chars;
+  }
+
+  /**
+   * Maps an index file written by {@link #write}.
+   */
+  public static MavenPathIndexFile open(final Path file) throws IOException {
+    requireNonNull(file);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("Path index file too large: " + file);
+      }
+      return new MavenPathIndexFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Writes the distinct paths to file, replacing it atomically.
+   */
+  public static void write(final Path file, final Iterable<? extends MavenPath> paths) throws IOException {
+    requireNonNull(file);
+    requireNonNull(paths);
+
+    List<MavenPath> sorted = new ArrayList<>();
+    paths.forEach(sorted::add);
+    sorted.sort(Comparator.comparing(MavenPath::getPath));
+
+    Map<String, Integer> ids = new HashMap<>();
+    List<String> strings = new ArrayList<>();
+    int[] records = new int[sorted.size() * RECORD_WIDTH];
+    int count = 0;
+    String previous = null;
+    long chars = 0;
+    for (MavenPath path : sorted) {
+      if (path.getPath().equals(previous)) {
+        continue;
+      }
+      previous = path.getPath();
+      String[] fields = encode(path);
+      for (int i = 0; i < RECORD_WIDTH; i++) {
+        int id = NONE;
+        if (fields[i] != null) {
+          Integer existing = ids.get(fields[i]);
+          if (existing == null) {
+            existing = strings.size();
+            ids.put(fields[i], existing);
+            strings.add(fields[i]);
+            chars += fields[i].length();
+          }
+          id = existing;
+        }
+        records[count * RECORD_WIDTH + i] = id;
+      }
+      count++;
+    }
+
+    long size = HEADER_SIZE + (strings.size() + 1) * 4L + count * RECORD_WIDTH * 4L + chars * 2;
+    if (size > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Too many paths for a single index file: " + count);
+    }
+
+    Path temp = createTemp(file);
+    try {
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(strings.size());
+        out.writeInt(count);
+        int offset = 0;
+        for (String string : strings) {
+          out.writeInt(offset);
+          offset += string.length();
+        }
+        out.writeInt(offset);
+        for (int i = 0; i < count * RECORD_WIDTH; i++) {
+          out.writeInt(records[i]);
+        }
+        for (String string : strings) {
+          out.writeChars(string);
+        }
+      }
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private static Path createTemp(final Path file) throws IOException {
+    Path parent = file.toAbsolutePath().getParent();
+    return Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+  }
+
+  /**
+   * Returns record fields; artifacts in layout order, other paths as directory (or {@code null}) and file name in
+   * the first and last slot.
+   */
+  private static String[] encode(final MavenPath path) {
+    if (path instanceof ArtifactPath) {
+      ArtifactPath artifact = (ArtifactPath) path;
+      String[] fields = {
+          artifact.getGroupId().replace('.', '/'),
+          artifact.getArtifactId(),
+          path instanceof SnapshotArtifactPath ? ((SnapshotArtifactPath) path).getBaseVersion() : artifact.getVersion(),
+          artifact.getVersion(),
+          artifact.getClassifier(),
+          artifact.getExtension()
+      };
+      // only paths which round-trip through the layout are stored as artifacts
+      if (path.getPath().equals(layout(fields))) {
+        return fields;
+      }
+    }
+    String value = path.getPath();
+    int slash = value.lastIndexOf('/');
+    return new String[] {
+        slash == -1 ? null : value.substring(0, slash), null, null, null, null, value.substring(slash + 1)
+    };
+  }
+
+  private static String layout(final String[] fields) {
+    StringBuilder buff = new StringBuilder();
+    buff.append(fields[0]).append('/').append(fields[1]).append('/').append(fields[2]).append('/')
+        .append(fields[1]).append('-').append(fields[3]);
+    if (fields[4] != null) {
+      buff.append('-').append(fields[4]);
+    }
+    buff.append('.').append(fields[5]);
+    return buff.toString();
+  }
+
+  /**
+   * Number of paths.
+   */
+  public int size() {
+    return recordCount;
+  }
+
+  /**
+   * Returns the path of the record.
+   */
+  public String getPath(final int index) {
+    int[] pieces = new int[MAX_PIECES];
+    int count = pieces(index, pieces);
+    StringBuilder buff = new StringBuilder(length(pieces, count));
+    for (int i = 0; i < count; i++) {
+      int piece = pieces[i];
+      if (piece >= 0) {
+        for (int pos = stringStart(piece), end = stringStart(piece + 1); pos < end; pos++) {
+          buff.append(charAt(pos));
+        }
+      }
+      else {
+        buff.append((char) ~piece);
+      }
+    }
+    return buff.toString();
+  }
+
+  /**
+   * Returns the path of the record; or {@code null} if it is not a valid Maven 2 path.
+   *
+   * Artifact records are built from their fields without parsing; other records are parsed.
+   */
+  @Nullable
+  public MavenPath get(final int index) {
+    if (field(index, 1) == NONE) {
+      return Maven2PathParser.parse(getPath(index));
+    }
+    String groupId = string(field(index, 0)).replace('/', '.');
+    String artifactId = string(field(index, 1));
+    String baseVersion = string(field(index, 2));
+    String version = string(field(index, 3));
+    int classifierId = field(index, 4);
+    String classifier = classifierId == NONE ? null : string(classifierId);
+    String extension = string(field(index, 5));
+    if (baseVersion.equals(version)) {
+      return Maven2PathFactory.createArtifact(groupId, artifactId, version, classifier, extension);
+    }
+
+    // <vprefix>-<timestamp>-<build>; base version is <vprefix>-SNAPSHOT
+    int prefixLength = baseVersion.length() - SnapshotArtifactPath.DASH_SNAPSHOT_SUFFIX.length();
+    int dash = version.lastIndexOf('-');
+    if (prefixLength < 1 || version.length() <= prefixLength || version.charAt(prefixLength) != '-'
+        || dash <= prefixLength + 1 || dash == version.length() - 1) {
+      return Maven2PathParser.parse(getPath(index));
+    }
+    return Maven2PathFactory.createSnapshotArtifact(groupId, artifactId, baseVersion, version,
+        version.substring(prefixLength + 1, dash), version.substring(dash + 1), classifier, extension);
+  }
+
+  /**
+   * Returns the index of the path; or {@code -(insertion point) - 1} if missing.
+   */
+  public int indexOf(final CharSequence path) {
+    requireNonNull(path);
+    int[] pieces = new int[MAX_PIECES];
+    int low = 0;
+    int high = recordCount - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = compare(mid, pieces, path, false);
+      if (cmp < 0) {
+        low = mid + 1;
+      }
+      else if (cmp > 0) {
+        high = mid - 1;
+      }
+      else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  public boolean contains(final CharSequence path) {
+    return indexOf(path) >= 0;
+  }
+
+  /**
+   * Returns the index of the first path starting with prefix, or where it would be.
+   */
+  public int lowerBound(final CharSequence prefix) {
+    return bound(prefix, false);
+  }
+
+  /**
+   * Returns the index after the last path starting with prefix.
+   */
+  public int upperBound(final CharSequence prefix) {
+    return bound(prefix, true);
+  }
+
+  /**
+   * Parsed paths starting with prefix, in path order.
+   */
+  public Stream<MavenPath> scan(final CharSequence prefix) {
+    return IntStream.range(lowerBound(prefix), upperBound(prefix)).mapToObj(this::get);
+  }
+
+  /**
+   * Visits parsed paths starting with prefix, in path order.
+   */
+  public void forEach(final CharSequence prefix, final Consumer<? super MavenPath> consumer) {
+    requireNonNull(consumer);
+    for (int i = lowerBound(prefix), end = upperBound(prefix); i < end; i++) {
+      consumer.accept(get(i));
+    }
+  }
+
+  /**
+   * Parsed paths of the groupId and groups below it.
+   */
+  public Stream<MavenPath> scanGroup(final String groupId) {
+    return scan(groupId.replace('.', '/') + '/');
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{" +
+        "size=" + recordCount +
+        ", strings=" + stringCount +
+        ", bytes=" + buffer.capacity() +
+        '}';
+  }
+
+  //
+  // Records
+  //
+
+  private int bound(final CharSequence prefix, final boolean upper) {
+    requireNonNull(prefix);
+    int[] pieces = new int[MAX_PIECES];
+    int low = 0;
+    int high = recordCount - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = compare(mid, pieces, prefix, true);
+      if (cmp < 0 || (upper && cmp == 0)) {
+        low = mid + 1;
+      }
+      else {
+        high = mid - 1;
+      }
+    }
+    return low;
+  }
+
+  private int field(final int index, final int field) {
+    return buffer.getInt(recordsOffset + (index * RECORD_WIDTH + field) * 4);
+  }
+
+  private int stringStart(final int id) {
+    return buffer.getInt(HEADER_SIZE + id * 4);
+  }
+
+  private String string(final int id) {
+    int start = stringStart(id);
+    char[] chars = new char[stringStart(id + 1) - start];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = charAt(start + i);
+    }
+    return new String(chars);
+  }
+
+  private char charAt(final int pos) {
+    return buffer.getChar(charsOffset + pos * 2);
+  }
+
+  /**
+   * Fills the path pieces of the record: non-negative string ids or complemented literal characters.
+   */
+  private int pieces(final int index, final int[] pieces) {
+    int count = 0;
+    int directory = field(index, 0);
+    if (field(index, 1) == NONE) {
+      if (directory != NONE) {
+        pieces[count++] = directory;
+        pieces[count++] = ~'/';
+      }
+      pieces[count++] = field(index, 5);
+      return count;
+    }
+    int artifactId = field(index, 1);
+    pieces[count++] = directory;
+    pieces[count++] = ~'/';
+    pieces[count++] = artifactId;
+    pieces[count++] = ~'/';
+    pieces[count++] = field(index, 2);
+    pieces[count++] = ~'/';
+    pieces[count++] = artifactId;
+    pieces[count++] = ~'-';
+    pieces[count++] = field(index, 3);
+    int classifier = field(index, 4);
+    if (classifier != NONE) {
+      pieces[count++] = ~'-';
+      pieces[count++] = classifier;
+    }
+    pieces[count++] = ~'.';
+    pieces[count++] = field(index, 5);
+    return count;
+  }
+
+  private int length(final int[] pieces, final int count) {
+    int length = 0;
+    for (int i = 0; i < count; i++) {
+      length += pieces[i] >= 0 ? stringStart(pieces[i] + 1) - stringStart(pieces[i]) : 1;
+    }
+    return length;
+  }
+
+  /**
+   * Compares the record path to key; with prefix, a record starting with key compares equal.
+   */
+  private int compare(final int index, final int[] pieces, final CharSequence key, final boolean prefix) {
+    int count = pieces(index, pieces);
+    int k = 0;
+    int length = key.length();
+    for (int i = 0; i < count; i++) {
+      int piece = pieces[i];
+      int pos;
+      int end;
+      if (piece >= 0) {
+        pos = stringStart(piece);
+        end = stringStart(piece + 1);
+      }
+      else {
+        pos = 0;
+        end = 1;
+      }
+      for (; pos < end; pos++) {
+        if (k == length) {
+          return prefix ? 0 : 1;
+        }
+        char c = piece >= 0 ? charAt(pos) : (char) ~piece;
+        int diff = c - key.charAt(k++);
+        if (diff != 0) {
+          return diff;
+        }
+      }
+    }
+    return k == length ? 0 : -1;
+  }
+}
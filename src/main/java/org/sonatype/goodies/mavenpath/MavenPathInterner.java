@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import javax.annotation.Nullable;
+
+/**
+ * Canonicalizes {@link MavenPath} components so equal values share one instance.
+ *
+ * Applied to coordinates (groupId, artifactId, version, classifier and extension) by parsers and factories
+ * which accept an interner.
+ *
+ * @since ???
+ * @see BoundedMavenPathInterner
+ */
+@FunctionalInterface
+public interface MavenPathInterner
+{
+  /**
+   * Returns the canonical instance of the given value.
+   */
+  @Nullable
+  String intern(@Nullable String value);
+
+  /**
+   * Interner which returns values as-is.
+   */
+  static MavenPathInterner identity() {
+    return value -> value;
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Repository layout; a cheap structural detector paired with the parser for paths it detects.
+ *
+ * Detectors only look at {@code /} positions and a few characters, never scanning coordinates; they may accept paths
+ * their parser rejects, and cover the common shape of the layout rather than every path its parser accepts.  Paths
+ * outside that shape are parsed only with {@link MultiLayoutMavenPathParser#isFallback fallback}.
+ *
+ * @since ???
+ * @see MultiLayoutMavenPathParser
+ */
+@Immutable
+public final class MavenPathLayout
+{
+  private static final String METADATA_FILE_NAME = "maven-metadata.xml";
+
+  /**
+   * Maven-1 layout: {@code group/types/artifact-version.extension}, where {@code types} ends with {@code s}.  File
+   * names containing {@code /}, which {@link Maven1PathParser} accepts, are not detected.
+   */
+  public static final MavenPathLayout MAVEN1 =
+      new MavenPathLayout("maven1", MavenPathLayout::isMaven1, MavenPathParser.maven1());
+
+  /**
+   * Maven-2 layout: {@code group/artifact/version/file} at least four segments deep, or {@code maven-metadata.xml}
+   * and its subordinates at least two segments deep.
+   */
+  public static final MavenPathLayout MAVEN2 =
+      new MavenPathLayout("maven2", MavenPathLayout::isMaven2, MavenPathParser.maven2());
+
+  private final String name;
+
+  private final Predicate<CharSequence> detector;
+
+  private final MavenPathParser parser;
+
+  public MavenPathLayout(final String name, final Predicate<CharSequence> detector, final MavenPathParser parser) {
+    this.name = requireNonNull(name);
+    this.detector = requireNonNull(detector);
+    this.parser = requireNonNull(parser);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public MavenPathParser getParser() {
+    return parser;
+  }
+
+  /**
+   * Same layout, parsed by the given parser; for example a {@link CachingMavenPathParser} or one with an interner.
+   */
+  public MavenPathLayout withParser(final MavenPathParser parser) {
+    return new MavenPathLayout(name, detector, parser);
+  }
+
+  /**
+   * True if path has the shape of this layout.
+   */
+  public boolean matches(final CharSequence path) {
+    return detector.test(requireNonNull(path));
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{" +
+        "name='" + name + '\'' +
+        '}';
+  }
+
+  //
+  // Detectors
+  //
+
+  /**
+   * True if path has exactly three segments, the middle {@code types} segment ending with {@code s}, and is not
+   * Maven-2 metadata.
+   */
+  public static boolean isMaven1(final CharSequence path) {
+    int length = path.length();
+    if (length == 0 || path.charAt(0) == '/' || path.charAt(length - 1) == '/') {
+      return false;
+    }
+    int first = indexOf(path, 0);
+    if (first < 0) {
+      return false;
+    }
+    int second = indexOf(path, first + 1);
+    if (second < 0 || second == first + 1 || path.charAt(second - 1) != 's' || indexOf(path, second + 1) >= 0) {
+      return false;
+    }
+    return !startsWith(path, second + 1, METADATA_FILE_NAME);
+  }
+
+  /**
+   * True if path has at least four segments, or at least two with the last starting with {@code maven-metadata.xml}.
+   */
+  public static boolean isMaven2(final CharSequence path) {
+    int length = path.length();
+    if (length == 0 || path.charAt(0) == '/' || path.charAt(length - 1) == '/') {
+      return false;
+    }
+    int slashes = 0;
+    int last = -1;
+    for (int i = 0; i < length; i++) {
+      if (path.charAt(i) == '/') {
+        if (++slashes == 3) {
+          return true;
+        }
+        last = i;
+      }
+    }
+    return slashes > 0 && startsWith(path, last + 1, METADATA_FILE_NAME);
+  }
+
+  private static int indexOf(final CharSequence path, final int from) {
+    for (int i = from; i < path.length(); i++) {
+      if (path.charAt(i) == '/') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean startsWith(final CharSequence path, final int offset, final String prefix) {
+    if (path.length() - offset < prefix.length()) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length(); i++) {
+      if (path.charAt(offset + i) != prefix.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Limits for parsing untrusted paths.
+ *
+ * Length and segment count are checked before any scanning.  The work budget bounds the number of characters the
+ * Maven-2 scanner examines across all candidate splits of a path; Maven-1 scanning is linear in the path length and
+ * is bounded by {@link #getMaxLength()} alone.
+ *
+ * @since ???
+ * @see Maven2PathParser#parse(String, MavenPathLimits)
+ * @see Maven1PathParser#parse(String, MavenPathLimits)
+ */
+@Immutable
+public final class MavenPathLimits
+{
+  /**
+   * Generous limits for request paths; a typical path needs well under a tenth of the work budget.
+   */
+  public static final MavenPathLimits DEFAULT = new MavenPathLimits(2048, 64, 64 * 1024);
+
+  private final int maxLength;
+
+  private final int maxSegments;
+
+  private final long maxWork;
+
+  public MavenPathLimits(final int maxLength, final int maxSegments, final long maxWork) {
+    if (maxLength < 1 || maxSegments < 1 || maxWork < 1) {
+      throw new IllegalArgumentException("Limits must be positive");
+    }
+    this.maxLength = maxLength;
+    this.maxSegments = maxSegments;
+    this.maxWork = maxWork;
+  }
+
+  public int getMaxLength() {
+    return maxLength;
+  }
+
+  /**
+   * Maximum number of {@code /} separated segments.
+   */
+  public int getMaxSegments() {
+    return maxSegments;
+  }
+
+  /**
+   * Maximum number of characters examined while scanning.
+   */
+  public long getMaxWork() {
+    return maxWork;
+  }
+
+  /**
+   * Returns why path exceeds the length or segment limits; or {@code null}.
+   */
+  @Nullable
+  public Rejection check(final CharSequence path) {
+    requireNonNull(path);
+    int length = path.length();
+    if (length > maxLength) {
+      return Rejection.TOO_LONG;
+    }
+    int segments = 1;
+    for (int i = 0; i < length; i++) {
+      if (path.charAt(i) == '/' && ++segments > maxSegments) {
+        return Rejection.TOO_MANY_SEGMENTS;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Throws if path exceeds the length or segment limits.
+   */
+  void enforce(final CharSequence path) {
+    Rejection rejection = check(path);
+    if (rejection != null) {
+      throw new MavenPathRejectedException(rejection, this);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{" +
+        "maxLength=" + maxLength +
+        ", maxSegments=" + maxSegments +
+        ", maxWork=" + maxWork +
+        '}';
+  }
+
+  /**
+   * Limit which rejected a path.
+   */
+  public enum Rejection
+  {
+    TOO_LONG,
+
+    TOO_MANY_SEGMENTS,
+
+    WORK_EXCEEDED
+  }
+}
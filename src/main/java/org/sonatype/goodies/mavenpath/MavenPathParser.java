@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import javax.annotation.Nullable;
+
+/**
+ * Parses repository paths of one or more layouts into {@link MavenPath}.
+ *
+ * @since ???
+ * @see MultiLayoutMavenPathParser
+ */
+@FunctionalInterface
+public interface MavenPathParser
+{
+  /**
+   * Returns the parsed path, or {@code null} if the path is not valid for the layout.
+   */
+  @Nullable
+  MavenPath parse(String path);
+
+  /**
+   * {@link Maven1PathParser} parser.
+   */
+  static MavenPathParser maven1() {
+    return Maven1PathParser::parse;
+  }
+
+  /**
+   * {@link Maven2PathParser} parser.
+   */
+  static MavenPathParser maven2() {
+    return Maven2PathParser::parse;
+  }
+}
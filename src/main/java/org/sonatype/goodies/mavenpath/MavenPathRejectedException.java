@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import org.sonatype.goodies.mavenpath.MavenPathLimits.Rejection;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Thrown when a path exceeds {@link MavenPathLimits}.
+ *
+ * No stack trace is captured, so rejecting hostile input stays cheap.
+ *
+ * @since ???
+ */
+public class MavenPathRejectedException
+    extends IllegalArgumentException
+{
+  private static final long serialVersionUID = 1L;
+
+  private final Rejection rejection;
+
+  public MavenPathRejectedException(final Rejection rejection, final MavenPathLimits limits) {
+    super(rejection + ": " + limits);
+    this.rejection = requireNonNull(rejection);
+  }
+
+  public Rejection getRejection() {
+    return rejection;
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Walks a local Maven-2 repository directory tree, emitting parsed {@link MavenPath}s.
+ *
+ * Subtrees are traversed in parallel on a {@link ForkJoinPool}; a directory is split off into its own task only
+ * while the pool has idle capacity.  Relative paths are built in a per-task buffer with {@code /} separators, and
+ * {@link Filter} lets callers reject directories and files before anything is parsed.
+ *
+ * @since ???
+ */
+public class MavenRepositoryWalker
+{
+  /**
+   * Fork subtrees while fewer tasks than this are queued.
+   */
+  private static final int SURPLUS_THRESHOLD = 2;
+
+  private final Path root;
+
+  private final ForkJoinPool pool;
+
+  public MavenRepositoryWalker(final Path root, final ForkJoinPool pool) {
+    this.root = requireNonNull(root);
+    this.pool = requireNonNull(pool);
+  }
+
+  public MavenRepositoryWalker(final Path root) {
+    this(root, ForkJoinPool.commonPool());
+  }
+
+  public Path getRoot() {
+    return root;
+  }
+
+  /**
+   * Walk all paths.
+   *
+   * @see #walk(Filter, Consumer)
+   */
+  public void walk(final Consumer<MavenPath> consumer) throws IOException {
+    walk(Filter.ALL, consumer);
+  }
+
+  /**
+   * Walk paths accepted by filter.
+   *
+   * The consumer is invoked concurrently from pool threads and must be thread-safe.  Files which do not parse
+   * as Maven-2 paths are skipped, as are entries which can not be read; see {@link Filter#failed}.  If the consumer
+   * throws, the walk stops and the exception is rethrown once no subtree invokes the consumer any longer.
+   */
+  public void walk(final Filter filter, final Consumer<MavenPath> consumer) throws IOException {
+    requireNonNull(filter);
+    requireNonNull(consumer);
+
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    pool.invoke(new WalkTask(root, "", filter, consumer, failure));
+
+    Throwable cause = failure.get();
+    if (cause instanceof UncheckedIOException) {
+      throw ((UncheckedIOException) cause).getCause();
+    }
+    if (cause instanceof RuntimeException) {
+      throw (RuntimeException) cause;
+    }
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+  }
+
+  /**
+   * Early filtering.  Directory and file checks run before paths are built or parsed.
+   */
+  public interface Filter
+  {
+    Filter ALL = new Filter() {
+      // accept everything
+    };
+
+    /**
+     * @param directory relative path of the parent directory, ending with {@code /} unless root;
+     *                  only valid for the duration of the call.
+     * @param name      directory name
+     */
+    default boolean acceptDirectory(final CharSequence directory, final String name) {
+      return true;
+    }
+
+    /**
+     * @param directory relative path of the parent directory, ending with {@code /} unless root;
+     *                  only valid for the duration of the call.
+     * @param fileName  file name
+     */
+    default boolean acceptFile(final CharSequence directory, final String fileName) {
+      return true;
+    }
+
+    default boolean accept(final MavenPath path) {
+      return true;
+    }
+
+    /**
+     * Called for entries which can not be read; the walk continues with the next entry.
+     *
+     * @param directory relative path of the parent directory, ending with {@code /} unless root;
+     *                  only valid for the duration of the call.
+     * @param name      file or directory name
+     */
+    default void failed(final CharSequence directory, final String name, final IOException cause) {
+      // ignore
+    }
+
+    /**
+     * Skip checksum and signature files, including subordinates of {@literal maven-metadata.xml}.
+     */
+    static Filter skipSubordinates() {
+      return new Filter()
+      {
+        @Override
+        public boolean acceptFile(final CharSequence directory, final String fileName) {
+          return !ArtifactPath.isSubordinate(fileName);
+        }
+
+        @Override
+        public boolean accept(final MavenPath path) {
+          return !MavenPath.isSubordinate(path);
+        }
+      };
+    }
+
+    /**
+     * Only {@literal SNAPSHOT} artifacts and their metadata; files outside {@literal -SNAPSHOT} directories, matched
+     * ignoring case like {@link Maven2PathParser} does, are never parsed.
+     */
+    static Filter snapshotsOnly() {
+      return new Filter()
+      {
+        @Override
+        public boolean acceptFile(final CharSequence directory, final String fileName) {
+          return endsWithIgnoreCase(directory, SnapshotArtifactPath.DASH_SNAPSHOT_SUFFIX + "/");
+        }
+
+        @Override
+        public boolean accept(final MavenPath path) {
+          return path instanceof SnapshotArtifactPath ||
+              path instanceof ArtifactPath && ArtifactPath.isSnapshotVersion((ArtifactPath) path) ||
+              path instanceof MavenMetadataPath && ((MavenMetadataPath) path).getVersion() != null;
+        }
+      };
+    }
+
+    /**
+     * Combine with another filter; both must accept.
+     */
+    default Filter and(final Filter other) {
+      requireNonNull(other);
+      Filter self = this;
+      return new Filter()
+      {
+        @Override
+        public boolean acceptDirectory(final CharSequence directory, final String name) {
+          return self.acceptDirectory(directory, name) && other.acceptDirectory(directory, name);
+        }
+
+        @Override
+        public boolean acceptFile(final CharSequence directory, final String fileName) {
+          return self.acceptFile(directory, fileName) && other.acceptFile(directory, fileName);
+        }
+
+        @Override
+        public boolean accept(final MavenPath path) {
+          return self.accept(path) && other.accept(path);
+        }
+
+        @Override
+        public void failed(final CharSequence directory, final String name, final IOException cause) {
+          self.failed(directory, name, cause);
+          other.failed(directory, name, cause);
+        }
+      };
+    }
+  }
+
+  private static boolean endsWithIgnoreCase(final CharSequence value, final String suffix) {
+    int offset = value.length() - suffix.length();
+    if (offset < 0) {
+      return false;
+    }
+    for (int i = 0; i < suffix.length(); i++) {
+      char c = value.charAt(offset + i);
+      char d = suffix.charAt(i);
+      if (c != d && Character.toUpperCase(c) != Character.toUpperCase(d)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Walks one subtree; forks sub-directories while the pool is hungry for work.
+   *
+   * Forked subtrees are always joined before completing, so no consumer calls happen after the walk returns or
+   * throws.  The first failure of any task is recorded, rather than thrown, and the others stop at their next entry.
+   */
+  private static class WalkTask
+      extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final Path start;
+
+    private final String prefix;
+
+    private final Filter filter;
+
+    private final Consumer<MavenPath> consumer;
+
+    private final AtomicReference<Throwable> failure;
+
+    private WalkTask(final Path start,
+                     final String prefix,
+                     final Filter filter,
+                     final Consumer<MavenPath> consumer,
+                     final AtomicReference<Throwable> failure)
+    {
+      this.start = start;
+      this.prefix = prefix;
+      this.filter = filter;
+      this.consumer = consumer;
+      this.failure = failure;
+    }
+
+    @Override
+    protected void compute() {
+      List<WalkTask> forked = new ArrayList<>();
+      StringBuilder buff = new StringBuilder(128).append(prefix);
+
+      try {
+        Files.walkFileTree(start, new SimpleFileVisitor<Path>()
+        {
+          /**
+           * Buffer lengths to restore when leaving directories.
+           */
+          private int[] lengths = new int[32];
+
+          private int depth;
+
+          @Override
+          public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+            if (failure.get() != null) {
+              return FileVisitResult.TERMINATE;
+            }
+            if (dir.equals(start)) {
+              return FileVisitResult.CONTINUE;
+            }
+            String name = dir.getFileName().toString();
+            if (!filter.acceptDirectory(buff, name)) {
+              return FileVisitResult.SKIP_SUBTREE;
+            }
+            if (getSurplusQueuedTaskCount() < SURPLUS_THRESHOLD) {
+              WalkTask task = new WalkTask(dir, buff + name + '/', filter, consumer, failure);
+              task.fork();
+              forked.add(task);
+              return FileVisitResult.SKIP_SUBTREE;
+            }
+            if (depth == lengths.length) {
+              lengths = Arrays.copyOf(lengths, depth * 2);
+            }
+            lengths[depth++] = buff.length();
+            buff.append(name).append('/');
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult postVisitDirectory(final Path dir, final IOException e) throws IOException {
+            if (!dir.equals(start)) {
+              buff.setLength(lengths[--depth]);
+            }
+            if (e != null) {
+              // listing failed part way; entries already visited stand
+              failed(dir, e);
+            }
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFileFailed(final Path file, final IOException e) throws IOException {
+            failed(file, e);
+            return FileVisitResult.CONTINUE;
+          }
+
+          private void failed(final Path path, final IOException e) throws IOException {
+            if (!path.equals(start)) {
+              filter.failed(buff, path.getFileName().toString(), e);
+            }
+            else if (prefix.isEmpty()) {
+              // missing or unreadable root
+              throw e;
+            }
+            else {
+              String name = path.getFileName().toString();
+              filter.failed(prefix.substring(0, prefix.length() - name.length() - 1), name, e);
+            }
+          }
+
+          @Override
+          public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+            if (failure.get() != null) {
+              return FileVisitResult.TERMINATE;
+            }
+            if (!attrs.isRegularFile()) {
+              return FileVisitResult.CONTINUE;
+            }
+            String fileName = file.getFileName().toString();
+            if (!filter.acceptFile(buff, fileName)) {
+              return FileVisitResult.CONTINUE;
+            }
+            int length = buff.length();
+            String path = buff.append(fileName).toString();
+            buff.setLength(length);
+
+            MavenPath parsed = Maven2PathParser.parse(path);
+            if (parsed != null && filter.accept(parsed)) {
+              consumer.accept(parsed);
+            }
+            return FileVisitResult.CONTINUE;
+          }
+        });
+      }
+      catch (IOException e) {
+        failure.compareAndSet(null, new UncheckedIOException(e));
+      }
+      catch (RuntimeException | Error e) {
+        failure.compareAndSet(null, e);
+      }
+      finally {
+        // cancelling a running task would not wait for it; once a failure is recorded tasks stop at their next entry,
+        // and those not yet started are taken back, latest first
+        for (int i = forked.size() - 1; i >= 0; i--) {
+          WalkTask task = forked.get(i);
+          if (failure.get() == null || !task.tryUnfork()) {
+            task.quietlyJoin();
+          }
+        }
+      }
+    }
+  }
+}
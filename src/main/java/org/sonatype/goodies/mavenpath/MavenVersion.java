@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Maven version with precomputed comparison key, ordered as {@code ComparableVersion} of Maven 3.9.
+ *
+ * The version is tokenized once into numeric and qualifier items, with nested lists after {@code -}, at
+ * digit/letter transitions and before a trailing qualifier, trailing null items removed.  Qualifiers order
+ * {@code alpha < beta < milestone < rc < snapshot < "" (ga, final, release) < sp} before any unknown qualifier, which
+ * order lexically; {@code a1}, {@code b1} and {@code m1} stand for alpha, beta and milestone, {@code cr} for rc.
+ * Numbers of any length compare by value.
+ *
+ * {@link #parse} caches instances per distinct version string in a bounded, lock-free table, so sorting many
+ * artifacts of one version line tokenizes each version once.
+ *
+ * @since ???
+ */
+@Immutable
+public final class MavenVersion
+    implements Comparable<MavenVersion>
+{
+  /**
+   * Orders version strings with {@link #parse cached} keys.
+   */
+  public static final Comparator<String> STRING_ORDER = (a, b) -> parse(a).compareTo(parse(b));
+
+  private static final int CACHE_SIZE = 1 << 14;
+
+  private static final AtomicReferenceArray<MavenVersion> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+
+  private static final String[] QUALIFIERS = {"alpha", "beta", "milestone", "rc", "snapshot", "", "sp"};
+
+  private static final int RELEASE_RANK = 5;
+
+  private static final int UNKNOWN_RANK = QUALIFIERS.length;
+
+  private final String value;
+
+  private final Item[] items;
+
+  private final int hash;
+
+  /**
+   * Parses without caching; prefer {@link #parse}.
+   */
+  public MavenVersion(final String value) {
+    this.value = requireNonNull(value);
+    this.items = tokenize(value.toLowerCase(Locale.ENGLISH));
+    this.hash = Arrays.hashCode(items);
+  }
+
+  /**
+   * Returns the cached version for the string, parsing it on a miss.
+   */
+  public static MavenVersion parse(final String value) {
+    int hash = value.hashCode();
+    int index = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+    MavenVersion existing = CACHE.get(index);
+    if (existing != null && existing.value.equals(value)) {
+      return existing;
+    }
+    MavenVersion version = new MavenVersion(value);
+    CACHE.lazySet(index, version);
+    return version;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public int compareTo(final MavenVersion other) {
+    if (this == other) {
+      return 0;
+    }
+    return compareLists(items, other.items);
+  }
+
+  /**
+   * Equal when tokenized alike, such as {@code 1.0} and {@code 1-ga}; consistent with {@link #compareTo}.
+   */
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    MavenVersion that = (MavenVersion) o;
+    return hash == that.hash && Arrays.equals(items, that.items);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{" +
+        "value='" + value + '\'' +
+        '}';
+  }
+
+  //
+  // Tokenizer
+  //
+
+  private static Item[] tokenize(final String version) {
+    List<Object> root = new ArrayList<>();
+    List<Object> list = root;
+    boolean digit = false;
+    int start = 0;
+    for (int i = 0; i < version.length(); i++) {
+      char c = version.charAt(i);
+      if (c == '.' || c == '-') {
+        list.add(i == start ? Item.ZERO : item(version, start, i, digit, false));
+        start = i + 1;
+        if (c == '-') {
+          list = nest(list);
+        }
+      }
+      else if (Character.isDigit(c)) {
+        if (!digit && i > start) {
+          if (!list.isEmpty()) {
+            list = nest(list);
+          }
+          list.add(item(version, start, i, false, true));
+          start = i;
+          list = nest(list);
+        }
+        digit = true;
+      }
+      else {
+        if (digit && i > start) {
+          list.add(item(version, start, i, true, false));
+          start = i;
+          list = nest(list);
+        }
+        digit = false;
+      }
+    }
+    if (version.length() > start) {
+      if (!digit && !list.isEmpty()) {
+        list = nest(list);
+      }
+      list.add(item(version, start, version.length(), digit, false));
+    }
+    return freeze(root);
+  }
+
+  private static List<Object> nest(final List<Object> parent) {
+    List<Object> child = new ArrayList<>();
+    parent.add(child);
+    return child;
+  }
+
+  private static Item item(final String version,
+                           final int start,
+                           final int end,
+                           final boolean digit,
+                           final boolean followedByDigit)
+  {
+    if (digit) {
+      int from = start;
+      while (from < end - 1 && version.charAt(from) == '0') {
+        from++;
+      }
+      return Item.number(version.substring(from, end));
+    }
+    String qualifier = version.substring(start, end);
+    if (followedByDigit && qualifier.length() == 1) {
+      switch (qualifier.charAt(0)) {
+        case 'a':
+          qualifier = "alpha";
+          break;
+        case 'b':
+          qualifier = "beta";
+          break;
+        case 'm':
+          qualifier = "milestone";
+          break;
+        default:
+      }
+    }
+    switch (qualifier) {
+      case "ga":
+      case "final":
+      case "release":
+        qualifier = "";
+        break;
+      case "cr":
+        qualifier = "rc";
+        break;
+      default:
+    }
+    return Item.qualifier(qualifier);
+  }
+
+  /**
+   * Converts nested lists to items, innermost first, dropping trailing null items as Maven normalizes them.
+   */
+  @SuppressWarnings("unchecked")
+  private static Item[] freeze(final List<Object> list) {
+    Item[] items = new Item[list.size()];
+    for (int i = 0; i < items.length; i++) {
+      Object element = list.get(i);
+      items[i] = element instanceof Item ? (Item) element : Item.list(freeze((List<Object>) element));
+    }
+    int size = items.length;
+    for (int i = size - 1; i >= 0; i--) {
+      if (items[i].isNull()) {
+        System.arraycopy(items, i + 1, items, i, size - i - 1);
+        size--;
+      }
+      else if (items[i].kind != Item.LIST) {
+        break;
+      }
+    }
+    return size == items.length ? items : Arrays.copyOf(items, size);
+  }
+
+  //
+  // Comparison
+  //
+
+  private static int compareLists(final Item[] left, final Item[] right) {
+    int length = Math.max(left.length, right.length);
+    for (int i = 0; i < length; i++) {
+      Item l = i < left.length ? left[i] : null;
+      Item r = i < right.length ? right[i] : null;
+      int result = l == null ? -compare(r, null) : compare(l, r);
+      if (result != 0) {
+        return result;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Compares items of any kind; a {@code null} right side stands for a missing item.
+   */
+  private static int compare(final Item left, @Nullable final Item right) {
+    switch (left.kind) {
+      case Item.NUMBER:
+        if (right == null) {
+          return left.isNull() ? 0 : 1;
+        }
+        if (right.kind != Item.NUMBER) {
+          return 1;
+        }
+        return compareNumbers(left, right);
+
+      case Item.QUALIFIER:
+        if (right == null) {
+          return Integer.compare(left.rank, RELEASE_RANK);
+        }
+        if (right.kind != Item.QUALIFIER) {
+          return -1;
+        }
+        int rank = Integer.compare(left.rank, right.rank);
+        return rank != 0 || left.rank != UNKNOWN_RANK ? rank : left.text.compareTo(right.text);
+
+      default:
+        if (right == null) {
+          for (Item item : left.items) {
+            int result = compare(item, null);
+            if (result != 0) {
+              return result;
+            }
+          }
+          return 0;
+        }
+        if (right.kind == Item.NUMBER) {
+          return -1;
+        }
+        if (right.kind == Item.QUALIFIER) {
+          return 1;
+        }
+        return compareLists(left.items, right.items);
+    }
+  }
+
+  private static int compareNumbers(final Item left, final Item right) {
+    if (left.number >= 0 && right.number >= 0) {
+      return Long.compare(left.number, right.number);
+    }
+    int result = Integer.compare(left.text.length(), right.text.length());
+    return result != 0 ? result : left.text.compareTo(right.text);
+  }
+
+  //
+  // Item
+  //
+
+  /**
+   * Number with value (or {@code -1} beyond 18 digits) and digits without leading zeros; qualifier with rank and
+   * text; or nested list.
+   */
+  @Immutable
+  private static final class Item
+  {
+    static final int NUMBER = 0;
+
+    static final int QUALIFIER = 1;
+
+    static final int LIST = 2;
+
+    static final Item ZERO = number("0");
+
+    private static final Item[] NO_ITEMS = {};
+
+    final int kind;
+
+    final long number;
+
+    final int rank;
+
+    @Nullable
+    final String text;
+
+    final Item[] items;
+
+    private Item(final int kind, final long number, final int rank, @Nullable final String text, final Item[] items) {
+      this.kind = kind;
+      this.number = number;
+      this.rank = rank;
+      this.text = text;
+      this.items = items;
+    }
+
+    static Item number(final String digits) {
+      return new Item(NUMBER, digits.length() <= 18 ? Long.parseLong(digits) : -1, 0, digits, NO_ITEMS);
+    }
+
+    static Item qualifier(final String qualifier) {
+      int rank = UNKNOWN_RANK;
+      for (int i = 0; i < QUALIFIERS.length; i++) {
+        if (QUALIFIERS[i].equals(qualifier)) {
+          rank = i;
+          break;
+        }
+      }
+      return new Item(QUALIFIER, 0, rank, qualifier, NO_ITEMS);
+    }
+
+    static Item list(final Item[] items) {
+      return new Item(LIST, 0, 0, null, items);
+    }
+
+    boolean isNull() {
+      switch (kind) {
+        case NUMBER:
+          return number == 0;
+        case QUALIFIER:
+          return rank == RELEASE_RANK;
+        default:
+          return items.length == 0;
+      }
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Item)) {
+        return false;
+      }
+      Item that = (Item) o;
+      return kind == that.kind && number == that.number && rank == that.rank &&
+          (kind == LIST ? Arrays.equals(items, that.items) : text.equals(that.text));
+    }
+
+    @Override
+    public int hashCode() {
+      return kind == LIST ? Arrays.hashCode(items) : text.hashCode() * 31 + kind;
+    }
+  }
+}
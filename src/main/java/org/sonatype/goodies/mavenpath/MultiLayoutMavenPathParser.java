@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link MavenPath} parser for repositories hosting several layouts.
+ *
+ * Each path is routed to the parser of the first {@link MavenPathLayout layout} whose detector matches, so only one
+ * parser runs per path instead of trying each in turn.  Optionally, paths the detected layout rejects, or which no
+ * layout detects, fall back to the parsers of the remaining layouts in order.
+ *
+ * Per-layout counts of detected and parsed paths are kept for monitoring.
+ *
+ * @since ???
+ */
+@ThreadSafe
+public class MultiLayoutMavenPathParser
+    implements MavenPathParser
+{
+  private final MavenPathLayout[] layouts;
+
+  private final boolean fallback;
+
+  private final LongAdder[] matches;
+
+  private final LongAdder[] hits;
+
+  private final LongAdder undetected = new LongAdder();
+
+  private final LongAdder fallbacks = new LongAdder();
+
+  public MultiLayoutMavenPathParser(final List<MavenPathLayout> layouts, final boolean fallback) {
+    requireNonNull(layouts);
+    if (layouts.isEmpty()) {
+      throw new IllegalArgumentException("Missing layouts");
+    }
+    this.layouts = layouts.toArray(new MavenPathLayout[0]);
+    for (MavenPathLayout layout : this.layouts) {
+      requireNonNull(layout);
+    }
+    this.fallback = fallback;
+    this.matches = counters(this.layouts.length);
+    this.hits = counters(this.layouts.length);
+  }
+
+  /**
+   * Maven-2 and Maven-1 layouts, with fallback; parses as trying {@link Maven2PathParser} then
+   * {@link Maven1PathParser}, including Maven-1 file names containing {@code /}, which are detected as Maven-2.
+   */
+  public static MultiLayoutMavenPathParser create() {
+    return new MultiLayoutMavenPathParser(Arrays.asList(MavenPathLayout.MAVEN2, MavenPathLayout.MAVEN1), true);
+  }
+
+  private static LongAdder[] counters(final int count) {
+    LongAdder[] result = new LongAdder[count];
+    for (int i = 0; i < count; i++) {
+      result[i] = new LongAdder();
+    }
+    return result;
+  }
+
+  public List<MavenPathLayout> getLayouts() {
+    return Collections.unmodifiableList(Arrays.asList(layouts));
+  }
+
+  public boolean isFallback() {
+    return fallback;
+  }
+
+  /**
+   * Returns the first layout matching path; or {@code null}.
+   */
+  @Nullable
+  public MavenPathLayout detect(final CharSequence path) {
+    requireNonNull(path);
+    int index = indexOfMatch(path);
+    return index < 0 ? null : layouts[index];
+  }
+
+  @Override
+  @Nullable
+  public MavenPath parse(final String path) {
+    requireNonNull(path);
+
+    int detected = indexOfMatch(path);
+    if (detected >= 0) {
+      matches[detected].increment();
+      MavenPath result = layouts[detected].getParser().parse(path);
+      if (result != null) {
+        hits[detected].increment();
+        return result;
+      }
+    }
+    else {
+      undetected.increment();
+    }
+
+    if (fallback) {
+      for (int i = 0; i < layouts.length; i++) {
+        if (i != detected) {
+          MavenPath result = layouts[i].getParser().parse(path);
+          if (result != null) {
+            hits[i].increment();
+            fallbacks.increment();
+            return result;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private int indexOfMatch(final CharSequence path) {
+    for (int i = 0; i < layouts.length; i++) {
+      if (layouts[i].matches(path)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  //
+  // Statistics
+  //
+
+  /**
+   * Number of paths detected as the given layout.
+   */
+  public long getMatchCount(final MavenPathLayout layout) {
+    return matches[indexOf(layout)].sum();
+  }
+
+  /**
+   * Number of paths parsed by the given layout, including fallbacks.
+   */
+  public long getHitCount(final MavenPathLayout layout) {
+    return hits[indexOf(layout)].sum();
+  }
+
+  /**
+   * Number of paths no layout detected.
+   */
+  public long getUndetectedCount() {
+    return undetected.sum();
+  }
+
+  /**
+   * Number of paths parsed by a layout other than the detected one.
+   */
+  public long getFallbackCount() {
+    return fallbacks.sum();
+  }
+
+  private int indexOf(final MavenPathLayout layout) {
+    requireNonNull(layout);
+    for (int i = 0; i < layouts.length; i++) {
+      if (layouts[i] == layout) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("Unknown layout: " + layout.getName());
+  }
+
+  @Override
+  public String toString() {
+    List<String> counts = new ArrayList<>(layouts.length);
+    for (int i = 0; i < layouts.length; i++) {
+      counts.add(layouts[i].getName() + "=" + hits[i].sum() + "/" + matches[i].sum());
+    }
+    return getClass().getSimpleName() + "{" +
+        "layouts=" + counts +
+        ", undetected=" + getUndetectedCount() +
+        ", fallbacks=" + getFallbackCount() +
+        '}';
+  }
+}
@@ -51,7 +51,7 @@ public enum SignatureType
 
   public boolean pathMatches(final String path) {
     requireNonNull(path);
-    return path.endsWith("." + extension);
+    return Subordinates.endsWith(path, path.length(), extension);
   }
 
   public String pathOf(final String path) {
@@ -75,12 +75,7 @@ public enum SignatureType
 
   @Nullable
   public static SignatureType ofPath(final String path) {
-    for (SignatureType value : values()) {
-      if (value.pathMatches(path)) {
-        return value;
-      }
-    }
-    return null;
+    return Subordinates.signatureType(path);
   }
 
   public static class Constants
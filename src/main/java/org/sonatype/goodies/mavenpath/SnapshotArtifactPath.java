@@ -43,6 +43,9 @@ public class SnapshotArtifactPath
   @Nullable
   private final String build;
 
+  @Nullable
+  private transient MavenVersion mavenBaseVersion;
+
   /**
    * Maven-2 constructor.
    */
@@ -80,10 +83,43 @@ public class SnapshotArtifactPath
     this.build = null;
   }
 
+  /**
+   * Lazy view constructor; sub-classes must override all getters as fields are left {@code null}.
+   */
+  SnapshotArtifactPath() {
+    this.baseVersion = null;
+    this.timestamp = null;
+    this.build = null;
+  }
+
+  /**
+   * Compact view constructor; sub-classes must override all getters but {@link #getPath()}.
+   */
+  SnapshotArtifactPath(final String path) {
+    super(path);
+    this.baseVersion = null;
+    this.timestamp = null;
+    this.build = null;
+  }
+
   public String getBaseVersion() {
     return baseVersion;
   }
 
+  /**
+   * {@link #getBaseVersion() Base version} with its comparison key.
+   *
+   * @see #getMavenVersion()
+   */
+  public MavenVersion getMavenBaseVersion() {
+    MavenVersion result = mavenBaseVersion;
+    if (result == null) {
+      result = MavenVersion.parse(getBaseVersion());
+      mavenBaseVersion = result;
+    }
+    return result;
+  }
+
   @Nullable
   public String getTimestamp() {
     return timestamp;
@@ -97,14 +133,14 @@ public class SnapshotArtifactPath
   @Override
   public String toString() {
     return getClass().getSimpleName() + "{" +
-        "groupId='" + groupId + '\'' +
-        ", artifactId='" + artifactId + '\'' +
-        ", version='" + version + '\'' +
-        ", baseVersion='" + baseVersion + '\'' +
-        ", timestamp='" + timestamp + '\'' +
-        ", build='" + build + '\'' +
-        ", classifier='" + classifier + '\'' +
-        ", extension='" + extension + '\'' +
+        "groupId='" + getGroupId() + '\'' +
+        ", artifactId='" + getArtifactId() + '\'' +
+        ", version='" + getVersion() + '\'' +
+        ", baseVersion='" + getBaseVersion() + '\'' +
+        ", timestamp='" + getTimestamp() + '\'' +
+        ", build='" + getBuild() + '\'' +
+        ", classifier='" + getClassifier() + '\'' +
+        ", extension='" + getExtension() + '\'' +
         '}';
   }
 }
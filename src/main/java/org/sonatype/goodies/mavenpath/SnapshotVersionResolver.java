@@ -0,0 +1,415 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Tracks timestamped {@literal SNAPSHOT} builds and resolves the latest of each.
+ *
+ * Builds are grouped into series by groupId, artifactId, base version, classifier and extension; sidecars such as
+ * {@code jar.sha1} form their own series.  Within a series builds are ordered by timestamp, then build number, both
+ * parsed once into primitive longs.  The latest build of a series is kept up to date on every add, so
+ * {@link #getLatest} is a map lookup; series are indexed by {@literal SNAPSHOT} version, so listing those of one
+ * version visits only them, and {@link #getExpired} walks only the expired builds.  Series left empty by
+ * {@link #remove} are dropped.
+ *
+ * @since ???
+ */
+@ThreadSafe
+public class SnapshotVersionResolver
+{
+  private static final Comparator<Build> ORDER = Comparator
+      .comparingLong((Build build) -> build.timestamp)
+      .thenComparingLong(build -> build.number)
+      .thenComparing(build -> build.path.getPath());
+
+  /**
+   * Series by version, then by classifier and extension; series are only created and dropped within {@code compute}
+   * of their version, so removing an empty series never races with adding to it.
+   */
+  private final Map<Version, Map<Variant, Series>> versions = new ConcurrentHashMap<>();
+
+  /**
+   * Adds a deployed build.
+   *
+   * @return {@code false} if already present, or if its timestamp is missing or not {@code yyyyMMdd.HHmmss} or its
+   * build number is missing or does not fit a long.
+   */
+  public boolean add(final SnapshotArtifactPath path) {
+    Build build = build(path);
+    if (build == null) {
+      return false;
+    }
+    boolean[] added = new boolean[1];
+    versions.compute(new Version(path), (key, variants) -> {
+      Map<Variant, Series> result = variants != null ? variants : new ConcurrentHashMap<>();
+      Series target = result.computeIfAbsent(new Variant(path), variant -> new Series());
+      if (target.builds.add(build)) {
+        target.offer(build);
+        added[0] = true;
+      }
+      return result;
+    });
+    return added[0];
+  }
+
+  /**
+   * Removes a build, such as after expiring it.
+   *
+   * @return {@code false} if not present, or if its timestamp or build number is missing or malformed.
+   */
+  public boolean remove(final SnapshotArtifactPath path) {
+    Build build = build(path);
+    if (build == null) {
+      return false;
+    }
+    boolean[] removed = new boolean[1];
+    versions.computeIfPresent(new Version(path), (key, variants) -> {
+      variants.computeIfPresent(new Variant(path), (variant, target) -> {
+        if (target.builds.remove(build)) {
+          target.retract(build);
+          removed[0] = true;
+        }
+        return target.builds.isEmpty() ? null : target;
+      });
+      return variants.isEmpty() ? null : variants;
+    });
+    return removed[0];
+  }
+
+  @Nullable
+  private static Build build(final SnapshotArtifactPath path) {
+    requireNonNull(path);
+    // maven-1 snapshots have no timestamp or build number
+    if (path.getTimestamp() == null || path.getBuild() == null) {
+      return null;
+    }
+    long timestamp = parseTimestamp(path.getTimestamp());
+    long number = parseBuildNumber(path.getBuild());
+    if (timestamp < 0 || number < 0) {
+      return null;
+    }
+    return new Build(timestamp, number, path);
+  }
+
+  @Nullable
+  private Series series(final String groupId,
+                        final String artifactId,
+                        final String baseVersion,
+                        @Nullable final String classifier,
+                        final String extension)
+  {
+    Map<Variant, Series> variants = versions.get(new Version(groupId, artifactId, baseVersion));
+    return variants != null ? variants.get(new Variant(classifier, extension)) : null;
+  }
+
+  /**
+   * Returns the latest build of the series; or {@code null} if none.
+   */
+  @Nullable
+  public SnapshotArtifactPath getLatest(final String groupId,
+                                        final String artifactId,
+                                        final String baseVersion,
+                                        @Nullable final String classifier,
+                                        final String extension)
+  {
+    Series target = series(groupId, artifactId, baseVersion, classifier, extension);
+    Build latest = target != null ? target.latest.get() : null;
+    return latest != null ? latest.path : null;
+  }
+
+  /**
+   * Returns the latest build of every series of the {@literal SNAPSHOT} version; one per classifier and extension
+   * as listed in {@literal snapshotVersions} of {@literal maven-metadata.xml}.
+   */
+  public List<SnapshotArtifactPath> getLatest(final String groupId, final String artifactId, final String baseVersion) {
+    Map<Variant, Series> variants = versions.get(new Version(groupId, artifactId, baseVersion));
+    if (variants == null) {
+      return Collections.emptyList();
+    }
+    List<SnapshotArtifactPath> result = new ArrayList<>(variants.size());
+    for (Series value : variants.values()) {
+      Build latest = value.latest.get();
+      if (latest != null) {
+        result.add(latest.path);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the builds of the series older than the newest {@code keep}, newest first.
+   */
+  public List<SnapshotArtifactPath> getExpired(final String groupId,
+                                               final String artifactId,
+                                               final String baseVersion,
+                                               @Nullable final String classifier,
+                                               final String extension,
+                                               final int keep)
+  {
+    checkKeep(keep);
+    Series target = series(groupId, artifactId, baseVersion, classifier, extension);
+    if (target == null) {
+      return Collections.emptyList();
+    }
+    List<SnapshotArtifactPath> result = new ArrayList<>();
+    target.expired(keep, result);
+    return result;
+  }
+
+  /**
+   * Returns the builds older than the newest {@code keep} of every series.
+   */
+  public List<SnapshotArtifactPath> getExpired(final int keep) {
+    checkKeep(keep);
+    List<SnapshotArtifactPath> result = new ArrayList<>();
+    versions.values().forEach(variants -> variants.values().forEach(value -> value.expired(keep, result)));
+    return result;
+  }
+
+  /**
+   * Number of series; counts every version.
+   */
+  public int size() {
+    int result = 0;
+    for (Map<Variant, Series> variants : versions.values()) {
+      result += variants.size();
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{" +
+        "versions=" + versions.size() +
+        ", series=" + size() +
+        '}';
+  }
+
+  private static void checkKeep(final int keep) {
+    if (keep < 1) {
+      throw new IllegalArgumentException("Must keep at least one build: " + keep);
+    }
+  }
+
+  //
+  // Parsing
+  //
+
+  /**
+   * Parses a {@code yyyyMMdd.HHmmss} timestamp into the order-preserving long {@code yyyyMMddHHmmss}; or -1 if
+   * malformed.
+   */
+  public static long parseTimestamp(final CharSequence timestamp) {
+    requireNonNull(timestamp);
+    if (timestamp.length() != 15 || timestamp.charAt(8) != '.') {
+      return -1;
+    }
+    long result = 0;
+    for (int i = 0; i < 15; i++) {
+      if (i == 8) {
+        continue;
+      }
+      int digit = timestamp.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      result = result * 10 + digit;
+    }
+    return result;
+  }
+
+  /**
+   * Parses a build number; or -1 if malformed or too large.
+   */
+  public static long parseBuildNumber(final CharSequence build) {
+    requireNonNull(build);
+    int length = build.length();
+    if (length == 0 || length > 18) {
+      return -1;
+    }
+    long result = 0;
+    for (int i = 0; i < length; i++) {
+      int digit = build.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      result = result * 10 + digit;
+    }
+    return result;
+  }
+
+  //
+  // Series
+  //
+
+  private static final class Series
+  {
+    final ConcurrentSkipListSet<Build> builds = new ConcurrentSkipListSet<>(ORDER);
+
+    final AtomicReference<Build> latest = new AtomicReference<>();
+
+    /**
+     * Raise latest to build if newer.
+     */
+    void offer(final Build build) {
+      Build current;
+      do {
+        current = latest.get();
+        if (current != null && ORDER.compare(current, build) >= 0) {
+          return;
+        }
+      }
+      while (!latest.compareAndSet(current, build));
+    }
+
+    /**
+     * Recompute latest if build was it; a concurrent {@link #offer} either sees the recomputed value or replaces it.
+     */
+    void retract(final Build build) {
+      latest.updateAndGet(current -> current != null && ORDER.compare(current, build) == 0 ? last() : current);
+    }
+
+    @Nullable
+    private Build last() {
+      Iterator<Build> iterator = builds.descendingIterator();
+      return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    void expired(final int keep, final List<SnapshotArtifactPath> result) {
+      int count = 0;
+      for (Iterator<Build> iterator = builds.descendingIterator(); iterator.hasNext(); ) {
+        Build build = iterator.next();
+        if (++count > keep) {
+          result.add(build.path);
+        }
+      }
+    }
+  }
+
+  @Immutable
+  private static final class Build
+  {
+    final long timestamp;
+
+    final long number;
+
+    final SnapshotArtifactPath path;
+
+    Build(final long timestamp, final long number, final SnapshotArtifactPath path) {
+      this.timestamp = timestamp;
+      this.number = number;
+      this.path = path;
+    }
+  }
+
+  /**
+   * {@literal SNAPSHOT} version of an artifact.
+   */
+  @Immutable
+  private static final class Version
+  {
+    final String groupId;
+
+    final String artifactId;
+
+    final String baseVersion;
+
+    private final int hash;
+
+    Version(final SnapshotArtifactPath path) {
+      this(path.getGroupId(), path.getArtifactId(), path.getBaseVersion());
+    }
+
+    Version(final String groupId, final String artifactId, final String baseVersion) {
+      this.groupId = requireNonNull(groupId);
+      this.artifactId = requireNonNull(artifactId);
+      this.baseVersion = requireNonNull(baseVersion);
+      this.hash = Objects.hash(groupId, artifactId, baseVersion);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Version)) {
+        return false;
+      }
+      Version that = (Version) o;
+      return hash == that.hash &&
+          groupId.equals(that.groupId) &&
+          artifactId.equals(that.artifactId) &&
+          baseVersion.equals(that.baseVersion);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /**
+   * Classifier and extension of a series within its version.
+   */
+  @Immutable
+  private static final class Variant
+  {
+    @Nullable
+    final String classifier;
+
+    final String extension;
+
+    Variant(final SnapshotArtifactPath path) {
+      this(path.getClassifier(), path.getExtension());
+    }
+
+    Variant(@Nullable final String classifier, final String extension) {
+      this.classifier = classifier;
+      this.extension = requireNonNull(extension);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Variant)) {
+        return false;
+      }
+      Variant that = (Variant) o;
+      return Objects.equals(classifier, that.classifier) && extension.equals(that.extension);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Objects.hashCode(classifier) + extension.hashCode();
+    }
+  }
+}
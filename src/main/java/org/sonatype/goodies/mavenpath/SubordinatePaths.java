@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Cursor over a primary path and all of its subordinate paths.
+ *
+ * Yields the primary path, each {@link ChecksumType} sidecar, each {@link SignatureType} signature and the checksums
+ * of each signature; {@code foo.jar}, {@code foo.jar.sha1}, ..., {@code foo.jar.asc}, {@code foo.jar.asc.sha1}, ....
+ * The primary path is copied once into a shared buffer and only suffixes are rewritten on {@link #next()}; the cursor
+ * itself is the {@link CharSequence} of the current path, so paths may be probed without creating strings.
+ * {@link #getFingerprint()} reuses the mixed state of the shared prefix.  {@link #toString()} materializes the
+ * current path.
+ *
+ * Expanding a subordinate path expands its primary path; see {@link Subordinates#primaryLength}.
+ *
+ * @since ???
+ */
+@NotThreadSafe
+public final class SubordinatePaths
+    implements CharSequence
+{
+  /**
+   * Suffixes in iteration order; the primary path has the empty suffix.
+   */
+  private static final String[] SUFFIXES;
+
+  private static final ChecksumType[] CHECKSUM_TYPES;
+
+  private static final SignatureType[] SIGNATURE_TYPES;
+
+  private static final int MAX_SUFFIX_LENGTH;
+
+  static {
+    List<String> suffixes = new ArrayList<>();
+    List<ChecksumType> checksums = new ArrayList<>();
+    List<SignatureType> signatures = new ArrayList<>();
+
+    suffixes.add("");
+    checksums.add(null);
+    signatures.add(null);
+    for (ChecksumType checksum : ChecksumType.values()) {
+      suffixes.add("." + checksum.extension);
+      checksums.add(checksum);
+      signatures.add(null);
+    }
+    for (SignatureType signature : SignatureType.values()) {
+      suffixes.add("." + signature.extension);
+      checksums.add(null);
+      signatures.add(signature);
+      for (ChecksumType checksum : ChecksumType.values()) {
+        suffixes.add("." + signature.extension + "." + checksum.extension);
+        checksums.add(checksum);
+        signatures.add(signature);
+      }
+    }
+
+    SUFFIXES = suffixes.toArray(new String[0]);
+    CHECKSUM_TYPES = checksums.toArray(new ChecksumType[0]);
+    SIGNATURE_TYPES = signatures.toArray(new SignatureType[0]);
+    int max = 0;
+    for (String suffix : SUFFIXES) {
+      max = Math.max(max, suffix.length());
+    }
+    MAX_SUFFIX_LENGTH = max;
+  }
+
+  private final char[] buff;
+
+  private final int primaryLength;
+
+  /**
+   * {@link MavenPath#fingerprintBlocks} state after the complete blocks of the primary path.
+   */
+  private final long primaryState;
+
+  private int index = -1;
+
+  private int length;
+
+  SubordinatePaths(final CharSequence path) {
+    requireNonNull(path);
+    this.primaryLength = Subordinates.primaryLength(path);
+    this.buff = new char[primaryLength + MAX_SUFFIX_LENGTH];
+    if (path instanceof String) {
+      ((String) path).getChars(0, primaryLength, buff, 0);
+    }
+    else {
+      for (int i = 0; i < primaryLength; i++) {
+        buff[i] = path.charAt(i);
+      }
+    }
+    this.primaryState = MavenPath.fingerprintBlocks(MavenPath.FINGERPRINT_SEED, CharBuffer.wrap(buff, 0, primaryLength),
+        0, primaryLength & ~3);
+  }
+
+  /**
+   * Expand given path; or the primary path of given subordinate path.
+   */
+  public static SubordinatePaths of(final CharSequence path) {
+    return new SubordinatePaths(path);
+  }
+
+  /**
+   * Number of paths, including the primary path.
+   */
+  public static int count() {
+    return SUFFIXES.length;
+  }
+
+  /**
+   * Advance to the next path; the first call positions on the primary path.
+   *
+   * @return {@code false} when all paths have been visited.
+   */
+  public boolean next() {
+    if (index + 1 >= SUFFIXES.length) {
+      return false;
+    }
+    String suffix = SUFFIXES[++index];
+    suffix.getChars(0, suffix.length(), buff, primaryLength);
+    length = primaryLength + suffix.length();
+    return true;
+  }
+
+  /**
+   * Rewind before the primary path.
+   */
+  public void reset() {
+    index = -1;
+    length = 0;
+  }
+
+  public boolean isPrimary() {
+    return index == 0;
+  }
+
+  /**
+   * Checksum type of the current path; also set for checksums of signatures.
+   */
+  @Nullable
+  public ChecksumType getChecksumType() {
+    return index >= 0 ? CHECKSUM_TYPES[index] : null;
+  }
+
+  /**
+   * Signature type of the current path, or of the signature it is a checksum of.
+   */
+  @Nullable
+  public SignatureType getSignatureType() {
+    return index >= 0 ? SIGNATURE_TYPES[index] : null;
+  }
+
+  /**
+   * {@link MavenPath#fingerprint(CharSequence) Fingerprint} of the current path; only the chars after the complete
+   * blocks of the primary path are mixed.
+   */
+  public long getFingerprint() {
+    if (index < 0) {
+      throw new IllegalStateException("Not positioned");
+    }
+    int blocks = length & ~3;
+    long h = MavenPath.fingerprintBlocks(primaryState, this, primaryLength & ~3, blocks);
+    return MavenPath.fingerprintTail(h, this, blocks, length);
+  }
+
+  public int getPrimaryLength() {
+    return primaryLength;
+  }
+
+  public String getPrimaryPath() {
+    return new String(buff, 0, primaryLength);
+  }
+
+  /**
+   * Materialize all paths, starting with the primary path; does not move the cursor.
+   */
+  public List<String> toList() {
+    List<String> result = new ArrayList<>(SUFFIXES.length);
+    for (String suffix : SUFFIXES) {
+      char[] path = new char[primaryLength + suffix.length()];
+      System.arraycopy(buff, 0, path, 0, primaryLength);
+      suffix.getChars(0, suffix.length(), path, primaryLength);
+      result.add(new String(path));
+    }
+    return result;
+  }
+
+  //
+  // CharSequence of current path
+  //
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(final int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException(String.valueOf(index));
+    }
+    return buff[index];
+  }
+
+  @Override
+  public CharSequence subSequence(final int start, final int end) {
+    if (start < 0 || end > length || start > end) {
+      throw new IndexOutOfBoundsException(start + ", " + end);
+    }
+    return new String(buff, start, end - start);
+  }
+
+  @Override
+  public String toString() {
+    return new String(buff, 0, length);
+  }
+}
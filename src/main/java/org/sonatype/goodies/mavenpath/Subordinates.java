@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Allocation-free classification of checksum and signature suffixes.
+ *
+ * Suffixes are looked up by the last character of the path in a table built from {@link ChecksumType} and
+ * {@link SignatureType}, then confirmed in place; no strings or enum arrays are created.  Stacked suffixes such as
+ * {@code .jar.asc.sha1} are classified by their outermost suffix, and {@link #primaryLength} strips all of them.
+ *
+ * @since ???
+ */
+public final class Subordinates
+{
+  /**
+   * Suffix candidates by last character; ASCII only as all extensions are ASCII.
+   */
+  private static final Suffix[][] BY_LAST_CHAR = new Suffix[128][];
+
+  private static final class Suffix
+  {
+    final String extension;
+
+    @Nullable
+    final ChecksumType checksum;
+
+    @Nullable
+    final SignatureType signature;
+
+    Suffix(final String extension, @Nullable final ChecksumType checksum, @Nullable final SignatureType signature) {
+      this.extension = extension;
+      this.checksum = checksum;
+      this.signature = signature;
+    }
+  }
+
+  static {
+    for (ChecksumType type : ChecksumType.values()) {
+      register(new Suffix(type.extension, type, null));
+    }
+    for (SignatureType type : SignatureType.values()) {
+      register(new Suffix(type.extension, null, type));
+    }
+  }
+
+  private static void register(final Suffix suffix) {
+    char last = suffix.extension.charAt(suffix.extension.length() - 1);
+    Suffix[] candidates = BY_LAST_CHAR[last];
+    if (candidates == null) {
+      candidates = new Suffix[] { suffix };
+    }
+    else {
+      candidates = Arrays.copyOf(candidates, candidates.length + 1);
+      candidates[candidates.length - 1] = suffix;
+    }
+    BY_LAST_CHAR[last] = candidates;
+  }
+
+  private Subordinates() {
+    // empty
+  }
+
+  /**
+   * Returns the checksum type of the outermost suffix; or {@code null}.
+   */
+  @Nullable
+  public static ChecksumType checksumType(final CharSequence path) {
+    Suffix suffix = suffix(path, path.length());
+    return suffix != null ? suffix.checksum : null;
+  }
+
+  /**
+   * Returns the signature type of the outermost suffix; or {@code null}.
+   */
+  @Nullable
+  public static SignatureType signatureType(final CharSequence path) {
+    Suffix suffix = suffix(path, path.length());
+    return suffix != null ? suffix.signature : null;
+  }
+
+  /**
+   * True if path ends with a checksum or signature suffix.
+   */
+  public static boolean isSubordinate(final CharSequence path) {
+    return suffix(path, path.length()) != null;
+  }
+
+  /**
+   * Returns the length of path without any stacked checksum and signature suffixes; {@code foo.jar.asc.sha1} gives
+   * the length of {@code foo.jar}.
+   */
+  public static int primaryLength(final CharSequence path) {
+    int length = path.length();
+    Suffix suffix;
+    while ((suffix = suffix(path, length)) != null) {
+      length -= suffix.extension.length() + 1;
+    }
+    return length;
+  }
+
+  /**
+   * Returns the primary path of given subordinate path, reusing its parsed components instead of parsing again;
+   * given path if not subordinate.
+   *
+   * @return {@code null} if the primary path would not be valid; as for {@code foo-1.0.sha1}.
+   */
+  @Nullable
+  public static MavenPath primaryOf(final MavenPath path) {
+    requireNonNull(path);
+    String fileName = path.getFileName();
+    int strip = fileName.length() - primaryLength(fileName);
+    if (strip == 0) {
+      return path;
+    }
+    String primaryPath = path.getPath().substring(0, path.getPath().length() - strip);
+    String primaryFileName = fileName.substring(0, fileName.length() - strip);
+
+    if (path instanceof ArtifactPath) {
+      ArtifactPath artifact = (ArtifactPath) path;
+      String extension = artifact.getExtension();
+      if (extension.length() - strip < 1) {
+        return null;
+      }
+      extension = extension.substring(0, extension.length() - strip);
+      if (artifact instanceof SnapshotArtifactPath) {
+        SnapshotArtifactPath snapshot = (SnapshotArtifactPath) artifact;
+        if (snapshot.getTimestamp() == null) {
+          return new SnapshotArtifactPath(primaryPath, primaryFileName, snapshot.getGroupId(),
+              snapshot.getArtifactId(), snapshot.getVersion(), snapshot.getClassifier(), extension);
+        }
+        return new SnapshotArtifactPath(primaryPath, primaryFileName, snapshot.getGroupId(), snapshot.getArtifactId(),
+            snapshot.getBaseVersion(), snapshot.getVersion(), snapshot.getTimestamp(), snapshot.getBuild(),
+            snapshot.getClassifier(), extension);
+      }
+      return new ArtifactPath(primaryPath, primaryFileName, artifact.getGroupId(), artifact.getArtifactId(),
+          artifact.getVersion(), artifact.getClassifier(), extension);
+    }
+    else if (path instanceof MavenMetadataPath) {
+      MavenMetadataPath metadata = (MavenMetadataPath) path;
+      String subordinateType = metadata.getSubordinateType();
+      // unknown inner suffixes remain
+      subordinateType = subordinateType == null || subordinateType.length() - strip < 1
+          ? null
+          : subordinateType.substring(0, subordinateType.length() - strip);
+      return new MavenMetadataPath(primaryPath, primaryFileName, metadata.getPrefix(), metadata.getGroupId(),
+          metadata.getArtifactId(), metadata.getVersion(), subordinateType);
+    }
+    return Maven2PathParser.parse(primaryPath);
+  }
+
+  /**
+   * True if {@code path[0, length)} ends with {@code .extension}.
+   */
+  static boolean endsWith(final CharSequence path, final int length, final String extension) {
+    int start = length - extension.length();
+    if (start < 1 || path.charAt(start - 1) != '.') {
+      return false;
+    }
+    for (int i = 0; i < extension.length(); i++) {
+      if (path.charAt(start + i) != extension.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Nullable
+  private static Suffix suffix(final CharSequence path, final int length) {
+    requireNonNull(path);
+    if (length < 2) {
+      return null;
+    }
+    char last = path.charAt(length - 1);
+    if (last >= BY_LAST_CHAR.length) {
+      return null;
+    }
+    Suffix[] candidates = BY_LAST_CHAR[last];
+    if (candidates != null) {
+      for (Suffix candidate : candidates) {
+        if (endsWith(path, length, candidate.extension)) {
+          return candidate;
+        }
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link CharSequence} over UTF-8 (or ASCII) encoded bytes; without decoding.
+ *
+ * Each byte is exposed as one char, so indexes are byte offsets.  ASCII bytes map to themselves; all other bytes
+ * map to distinct non-ASCII chars so that structural characters are recognized and equal byte sequences compare
+ * equal.  Ranges are only decoded when materialized with {@link #decode(int, int)}.
+ *
+ * The underlying bytes are not copied and must not be modified while in use.
+ *
+ * @since ???
+ */
+final class Utf8Sequence
+    implements CharSequence
+{
+  private final ByteBuffer buffer;
+
+  /**
+   * @param buffer Bytes from position to limit are used; the buffer position and limit are not modified.
+   */
+  Utf8Sequence(final ByteBuffer buffer) {
+    this.buffer = requireNonNull(buffer).slice();
+  }
+
+  Utf8Sequence(final byte[] bytes, final int offset, final int length) {
+    this(ByteBuffer.wrap(bytes, offset, length));
+  }
+
+  @Override
+  public int length() {
+    return buffer.limit();
+  }
+
+  @Override
+  public char charAt(final int index) {
+    byte b = buffer.get(index);
+    return b >= 0 ? (char) b : (char) (0xFF00 | (b & 0xFF));
+  }
+
+  @Override
+  public CharSequence subSequence(final int start, final int end) {
+    ByteBuffer range = buffer.duplicate();
+    range.position(start);
+    range.limit(end);
+    return new Utf8Sequence(range);
+  }
+
+  /**
+   * Decode the given byte-range.
+   */
+  String decode(final int start, final int end) {
+    if (buffer.hasArray()) {
+      return new String(buffer.array(), buffer.arrayOffset() + start, end - start, UTF_8);
+    }
+    byte[] bytes = new byte[end - start];
+    ByteBuffer range = buffer.duplicate();
+    range.position(start);
+    range.get(bytes);
+    return new String(bytes, UTF_8);
+  }
+
+  @Override
+  public String toString() {
+    return decode(0, length());
+  }
+}
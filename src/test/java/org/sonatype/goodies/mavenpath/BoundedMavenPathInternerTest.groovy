@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import org.junit.Test
+
+/**
+ * {@link BoundedMavenPathInterner} tests.
+ */
+class BoundedMavenPathInternerTest
+{
+  @Test
+  void 'equal values share instance'() {
+    def interner = new BoundedMavenPathInterner(16)
+    def first = interner.intern(new String('org.example'))
+    def second = interner.intern(new String('org.example'))
+    assert first == 'org.example'
+    assert first.is(second)
+    assert interner.intern(null) == null
+  }
+
+  @Test
+  void 'well-known extensions are constants'() {
+    def interner = new BoundedMavenPathInterner(1)
+    assert interner.intern(new String('jar')).is('jar')
+    assert interner.intern(new String('pom.sha1')).is('pom.sha1')
+  }
+
+  @Test
+  void 'parsed coordinates are shared'() {
+    def interner = new BoundedMavenPathInterner()
+    ArtifactPath jar = Maven2PathParser.parse('foo/bar/baz/1.0/baz-1.0.jar', interner) as ArtifactPath
+    ArtifactPath sha1 = Maven2PathParser.parse('foo/bar/baz/1.0/baz-1.0.jar.sha1', interner) as ArtifactPath
+    assert jar.groupId.is(sha1.groupId)
+    assert jar.artifactId.is(sha1.artifactId)
+    assert jar.version.is(sha1.version)
+
+    ArtifactPath created = Maven2PathFactory.createArtifact(
+        new String('foo.bar'), new String('baz'), new String('1.0'), null, new String('pom'), interner)
+    assert created.groupId.is(jar.groupId)
+    assert created.extension.is('pom')
+
+    ArtifactPath legacy = Maven1PathParser.parse('org.jruby/jars/jruby-1.0.jar', interner) as ArtifactPath
+    assert legacy.extension.is('jar')
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import org.junit.Test
+
+/**
+ * {@link CachingMavenPathParser} tests.
+ */
+class CachingMavenPathParserTest
+{
+  @Test
+  void 'cached result is shared'() {
+    def parser = CachingMavenPathParser.maven2(100)
+    def first = parser.parse('foo/bar/baz/1.0/baz-1.0.jar')
+    def second = parser.parse('foo/bar/baz/1.0/baz-1.0.jar')
+    println parser
+    assert first instanceof ArtifactPath
+    assert first.is(second)
+    assert parser.hitCount == 1
+    assert parser.missCount == 1
+    assert parser.size() == 1
+  }
+
+  @Test
+  void 'negative results are cached'() {
+    def parser = CachingMavenPathParser.maven2(100)
+    assert parser.parse('some/stupid/path') == null
+    assert parser.parse('some/stupid/path') == null
+    assert parser.hitCount == 1
+    assert parser.missCount == 1
+    assert parser.size() == 1
+  }
+
+  @Test
+  void 'maven1 parser'() {
+    def parser = CachingMavenPathParser.maven1(100)
+    assert parser.parse('org.jruby/jars/jruby-1.0.jar') instanceof ArtifactPath
+    assert parser.parse('foo/bar/baz/1.0/baz-1.0.jar') == null
+  }
+
+  @Test
+  void 'size is bounded'() {
+    def parser = CachingMavenPathParser.maven2(1)
+    parser.parse('foo/bar/baz/1.0/baz-1.0.jar')
+    parser.parse('foo/bar/baz/1.1/baz-1.1.jar')
+    parser.parse('foo/bar/baz/1.0/baz-1.0.jar')
+    println parser
+    assert parser.size() == 1
+    assert parser.missCount == 3
+    assert parser.evictionCount == 2
+  }
+
+  @Test
+  void 'size stays bounded under churn'() {
+    def parser = CachingMavenPathParser.maven2(2)
+    def paths = (0..<64).collect { "foo/bar/baz/1.${it}/baz-1.${it}.jar".toString() }
+    paths.each {
+      parser.parse(it)
+      assert parser.size() <= 2
+    }
+    parser.invalidateAll()
+    assert parser.size() == 0
+  }
+
+  @Test(expected = IllegalArgumentException)
+  void 'maximum-size must be positive'() {
+    CachingMavenPathParser.maven2(0)
+  }
+}
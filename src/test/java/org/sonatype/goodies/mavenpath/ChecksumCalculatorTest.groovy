@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import java.nio.channels.Channels
+import java.nio.file.Files
+import java.nio.file.Path
+
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+
+import static org.sonatype.goodies.mavenpath.ChecksumType.MD5
+import static org.sonatype.goodies.mavenpath.ChecksumType.SHA_1
+
+/**
+ * {@link ChecksumCalculator} tests.
+ */
+class ChecksumCalculatorTest
+{
+  private static final String HELLO_SHA_1 = 'aaf4c61ddcc5e8a2dabede0f3b482cd9aea9434d'
+
+  private static final String HELLO_MD5 = '5d41402abc4b2a76b9719d911017c592'
+
+  private Path dir
+
+  @Before
+  void setUp() {
+    dir = Files.createTempDirectory('checksums')
+  }
+
+  @After
+  void tearDown() {
+    dir.toFile().deleteDir()
+  }
+
+  @Test
+  void 'calculate from stream'() {
+    def result = ChecksumCalculator.calculate(new ByteArrayInputStream('hello'.bytes), EnumSet.of(SHA_1, MD5))
+    assert result == [(SHA_1): HELLO_SHA_1, (MD5): HELLO_MD5]
+  }
+
+  @Test
+  void 'calculate from channel'() {
+    def channel = Channels.newChannel(new ByteArrayInputStream('hello'.bytes))
+    assert ChecksumCalculator.calculate(channel, EnumSet.of(SHA_1)) == [(SHA_1): HELLO_SHA_1]
+  }
+
+  @Test
+  void 'mapped file matches stream'() {
+    def bytes = new byte[(int) ChecksumCalculator.MAP_THRESHOLD * 3 + 17]
+    new Random(42).nextBytes(bytes)
+    def file = dir.resolve('big.jar')
+    Files.write(file, bytes)
+    def types = EnumSet.allOf(ChecksumType)
+    assert ChecksumCalculator.calculate(file, types) == ChecksumCalculator.calculate(new ByteArrayInputStream(bytes), types)
+  }
+
+  @Test
+  void 'verify against sidecars'() {
+    def file = dir.resolve('foo-1.0.jar')
+    Files.write(file, 'hello'.bytes)
+    assert ChecksumCalculator.verify(file).isEmpty()
+
+    Files.write(dir.resolve(SHA_1.pathOf('foo-1.0.jar')), "${HELLO_SHA_1.toUpperCase()}  foo-1.0.jar\n".bytes)
+    Files.write(dir.resolve(MD5.pathOf('foo-1.0.jar')), 'bad'.bytes)
+    assert ChecksumCalculator.verify(file) == [(SHA_1): true, (MD5): false]
+  }
+
+  @Test
+  void 'matches checksum content'() {
+    assert ChecksumCalculator.matches(HELLO_MD5, HELLO_MD5)
+    assert ChecksumCalculator.matches(" $HELLO_MD5\n", HELLO_MD5)
+    assert !ChecksumCalculator.matches("${HELLO_MD5}x", HELLO_MD5)
+    assert !ChecksumCalculator.matches('', HELLO_MD5)
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import java.nio.file.FileSystemException
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.FileTime
+
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+
+import static org.sonatype.goodies.mavenpath.ChecksumType.MD5
+import static org.sonatype.goodies.mavenpath.ChecksumType.SHA_1
+
+/**
+ * {@link ChecksumSidecarGenerator} tests.
+ */
+class ChecksumSidecarGeneratorTest
+{
+  private static final List<String> PATHS = [
+      'foo/bar/maven-metadata.xml',
+      'foo/bar/1.0/bar-1.0.jar',
+      'foo/bar/1.0/bar-1.0.jar.asc',
+      'foo/bar/1.0/bar-1.0.pom',
+      'junk.txt'
+  ]
+
+  private Path root
+
+  @Before
+  void setUp() {
+    root = Files.createTempDirectory('repository')
+    PATHS.each {
+      Path file = root.resolve(it)
+      Files.createDirectories(file.parent)
+      Files.write(file, 'hello'.bytes)
+    }
+  }
+
+  @After
+  void tearDown() {
+    root.toFile().deleteDir()
+  }
+
+  @Test
+  void 'sidecars for primary files'() {
+    def result = new ChecksumSidecarGenerator(root, EnumSet.of(SHA_1, MD5), 2, false).generate()
+    println result
+    assert result.generatedCount == 3
+    assert result.sidecarCount == 6
+    assert result.failures.empty
+    assert new String(Files.readAllBytes(root.resolve('foo/bar/1.0/bar-1.0.jar.sha1'))) ==
+        'aaf4c61ddcc5e8a2dabede0f3b482cd9aea9434d'
+    assert Files.exists(root.resolve('foo/bar/maven-metadata.xml.md5'))
+    assert !Files.exists(root.resolve('foo/bar/1.0/bar-1.0.jar.asc.sha1'))
+    assert !Files.exists(root.resolve('junk.txt.sha1'))
+  }
+
+  @Test
+  void 'incremental skips current sidecars'() {
+    def generator = new ChecksumSidecarGenerator(root, EnumSet.of(SHA_1, MD5), 2, true)
+    assert generator.generate().generatedCount == 3
+
+    def result = generator.generate()
+    assert result.generatedCount == 0
+    assert result.skippedCount == 3
+
+    Files.delete(root.resolve('foo/bar/1.0/bar-1.0.pom.md5'))
+    Files.setLastModifiedTime(root.resolve('foo/bar/1.0/bar-1.0.jar'),
+        FileTime.fromMillis(System.currentTimeMillis() + 60_000))
+    result = generator.generate()
+    assert result.generatedCount == 2
+    assert result.sidecarCount == 3
+    assert result.skippedCount == 1
+  }
+
+  @Test
+  void 'failures keep their cause'() {
+    // sidecar can not replace a directory
+    Files.createDirectories(root.resolve('foo/bar/1.0/bar-1.0.pom.sha1/child'))
+    def result = new ChecksumSidecarGenerator(root, EnumSet.of(SHA_1), 2, false).generate()
+    println result
+    assert result.failures == ['foo/bar/1.0/bar-1.0.pom']
+    assert result.failureCauses['foo/bar/1.0/bar-1.0.pom'] instanceof FileSystemException
+    assert result.generatedCount == 2
+    // no temporary files left behind
+    assert Files.list(root.resolve('foo/bar/1.0')).withCloseable { it.count() } == 5
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import org.junit.Test
+
+/**
+ * {@link CompactArtifactPath} and {@link CompactSnapshotArtifactPath} tests.
+ */
+class CompactArtifactPathTest
+{
+  private static final List<String> PATHS = [
+      'junit/junit/4.13.2/junit-4.13.2.jar',
+      'junit/junit/4.13.2/junit-4.13.2.jar.sha1',
+      'com/google/guava/guava/31.1-jre/guava-31.1-jre-sources.jar',
+      'org/example/foo/1.0/foo-1.0.tar.gz',
+      'org/example/foo/1.0/foo-1.0-dist.tar.gz.asc',
+      'org/example/foo/1.0-SNAPSHOT/foo-1.0-SNAPSHOT.pom',
+      'org/example/foo/1.0-SNAPSHOT/foo-1.0-20191029.053716-17.jar',
+      'org/example/foo/1.0-SNAPSHOT/foo-1.0-20191029.053716-17-tests.jar.md5',
+      'org/example/foo/1.0-snapshot/FOO-1.0-20191029.053716-7.jar',
+      'org/example/foo-bar/1-SNAPSHOT/foo-bar-1-20191029.05-1.zip'
+  ]
+
+  private static Map<String, Object> components(final ArtifactPath path) {
+    def result = [
+        path: path.path, fileName: path.fileName, groupId: path.groupId, artifactId: path.artifactId,
+        version: path.version, classifier: path.classifier, extension: path.extension, subordinate: path.subordinate,
+        snapshot: path instanceof SnapshotArtifactPath
+    ]
+    if (path instanceof SnapshotArtifactPath) {
+      result += [baseVersion: path.baseVersion, timestamp: path.timestamp, build: path.build]
+    }
+    return result
+  }
+
+  @Test
+  void 'compact matches eager'() {
+    PATHS.each {
+      def eager = (ArtifactPath) Maven2PathParser.parse(it)
+      def compact = (ArtifactPath) Maven2PathParser.parseCompact(it)
+      assert compact.class.simpleName.startsWith('Compact')
+      assert components(compact) == components(eager)
+      assert compact == eager
+      assert eager == compact
+      assert compact.hashCode() == eager.hashCode()
+    }
+  }
+
+  @Test
+  void 'serialized as plain path'() {
+    PATHS.each {
+      def compact = (ArtifactPath) Maven2PathParser.parseCompact(it)
+      def bytes = new ByteArrayOutputStream()
+      new ObjectOutputStream(bytes).writeObject(compact)
+      def copy = (ArtifactPath) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject()
+      assert copy.class in [ArtifactPath, SnapshotArtifactPath]
+      assert components(copy) == components(compact)
+    }
+  }
+
+  @Test
+  void 'other paths not compacted'() {
+    assert Maven2PathParser.parseCompact('foo/bar/maven-metadata.xml') instanceof MavenMetadataPath
+    assert Maven2PathParser.parseCompact('foo/bar') == null
+
+    def maven1 = Maven1PathParser.parse('foo/jars/bar-1.0.jar')
+    assert Maven2PathParser.compact(maven1).is(maven1)
+
+    def eager = Maven2PathParser.parse(PATHS[0])
+    def compact = Maven2PathParser.compact(eager)
+    assert compact instanceof CompactArtifactPath
+    assert Maven2PathParser.compact(compact).is(compact)
+  }
+
+  @Test
+  void 'long paths parsed eagerly'() {
+    def group = 'g/' * 40_000
+    def path = Maven2PathParser.parseCompact("${group}foo/1.0/foo-1.0.jar")
+    assert path.class == ArtifactPath
+    assert path.artifactId == 'foo'
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+import org.junit.Test
+import spock.lang.Specification
+
+/**
+ * {@link Maven1PathConverter} tests.
+ */
+class Maven1PathConverterTest
+    extends Specification
+{
+  @Test
+  void 'convert path'() {
+    expect:
+      Maven1PathConverter.convert(path)?.path == result
+    where:
+      // @formatter:off
+      path                                                    || result
+      'org.jruby/jars/jruby-1.0.jar'                          || 'org/jruby/jruby/1.0/jruby-1.0.jar'
+      'org.jruby/jars/jruby-1.0RC1-SNAPSHOT.jar'              || 'org/jruby/jruby/1.0RC1-SNAPSHOT/jruby-1.0RC1-SNAPSHOT.jar'
+      'org.jruby/javadocs/jruby-1.0-javadoc.jar.sha1'         || 'org/jruby/jruby/1.0/jruby-1.0-javadoc.jar.sha1'
+      'maven/java-sources/velocity-1.5-SNAPSHOT-sources.jar'  || 'maven/velocity/1.5-SNAPSHOT/velocity-1.5-SNAPSHOT-sources.jar'
+      'castor/ejbs/castor-ejb-1.0.7-SNAPSHOT-client.jar.md5'  || 'castor/castor-ejb/1.0.7-SNAPSHOT/castor-ejb-1.0.7-SNAPSHOT-client.jar.md5'
+      'xpp3/poms/xpp3_min-1.1.3.4.O.pom'                      || 'xpp3/xpp3_min/1.1.3.4.O/xpp3_min-1.1.3.4.O.pom'
+      'foo/bar/baz/1.0/baz-1.0.jar'                           || null
+      // @formatter:on
+  }
+
+  @Test
+  void 'converted paths parse as maven2'() {
+    expect:
+      def converted = Maven1PathConverter.convert(path)
+      Maven2PathParser.parse(converted.path) == converted
+    where:
+      path << [
+          'org.jruby/javadocs/jruby-1.0-javadoc.jar',
+          'castor/ejbs/castor-ejb-1.0.7-client.jar.sha1',
+          'org.slf4j/poms/slf4j-log4j12-1.4.3.pom'
+      ]
+  }
+
+  @Test
+  void 'convert listing'() {
+    when:
+      def conversions = Maven1PathConverter.convertAll(['org.jruby/jars/jruby-1.0.jar', 'junk'].parallelStream()).collect()
+    then:
+      conversions*.source == ['org.jruby/jars/jruby-1.0.jar', 'junk']
+      conversions*.target*.path == ['org/jruby/jruby/1.0/jruby-1.0.jar', null]
+  }
+
+  @Test
+  void 'convert tree'() {
+    given:
+      Path source = Files.createTempDirectory('maven1')
+      Path target = Files.createTempDirectory('maven2')
+      ['org.jruby/jars/jruby-1.0.jar', 'org.jruby/jars/jruby-1.0.jar.md5', 'castor/ejbs/castor-ejb-1.0.7-client.jar',
+       'castor/README.txt'].each {
+        Path file = source.resolve(it)
+        Files.createDirectories(file.parent)
+        Files.write(file, it.bytes)
+      }
+    when:
+      def result = Maven1PathConverter.convertTree(source, target, true)
+    then:
+      result.convertedCount == 3
+      result.skippedCount == 1
+      result.failures.empty
+      new String(Files.readAllBytes(target.resolve('org/jruby/jruby/1.0/jruby-1.0.jar.md5'))) == 'org.jruby/jars/jruby-1.0.jar.md5'
+      Files.exists(target.resolve('castor/castor-ejb/1.0.7/castor-ejb-1.0.7-client.jar'))
+      !Files.exists(source.resolve('org.jruby/jars/jruby-1.0.jar'))
+    cleanup:
+      source.toFile().deleteDir()
+      target.toFile().deleteDir()
+  }
+
+  @Test
+  void 'convert tree skips unparsable files'() {
+    given:
+      Path source = Files.createTempDirectory('maven1')
+      Path target = Files.createTempDirectory('maven2')
+      // version too short for the implied sources classifier
+      ['org.jruby/jars/jruby-1.0.jar', 'g/java-sources/a-1.0.jar', 'g/jars/b-1.0.jar'].each {
+        Path file = source.resolve(it)
+        Files.createDirectories(file.parent)
+        Files.write(file, it.bytes)
+      }
+    when:
+      def result = Maven1PathConverter.convertTree(source, target, true)
+    then:
+      result.convertedCount == 2
+      result.skippedCount == 1
+      result.failures.empty
+      Files.exists(source.resolve('g/java-sources/a-1.0.jar'))
+      Files.exists(target.resolve('g/b/1.0/b-1.0.jar'))
+      Files.exists(target.resolve('org/jruby/jruby/1.0/jruby-1.0.jar'))
+    cleanup:
+      source.toFile().deleteDir()
+      target.toFile().deleteDir()
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import org.junit.Test
+import spock.lang.Specification
+
+/**
+ * Differential {@link Maven1PathParser} tests against {@link RegexMaven1PathParser}.
+ */
+class Maven1PathParserDifferentialTest
+    extends Specification
+{
+  private static final List<String> TOKENS = [
+      '/', '/', '-', '-', '-', '.', '.', 'a', 'b', 's', '1', '0', '5', 'A', '_', ':', 'jars', 'javadocs', 'ejbs',
+      'x-', '-1', '1.0', '.md5', '.sha1', 'md5', 'jar', 'client.jar', '\n', '\u00e9'
+  ]
+
+  private static String describe(final MavenPath path) {
+    return path == null ? 'null' : "${path.getClass().simpleName}|${path.path}|${path.fileName}|${path}"
+  }
+
+  private static String parse(final Closure<MavenPath> parser, final String path) {
+    return describe(parser(path))
+  }
+
+  /**
+   * Regex parser result; {@code null} where it strips an implied classifier the version does not end with, which
+   * throws on versions shorter than the classifier.
+   */
+  private static MavenPath regex(final String path) {
+    try {
+      MavenPath result = RegexMaven1PathParser.parse(path)
+      if (result instanceof ArtifactPath && result.classifier != null &&
+          !result.fileName.startsWith("${result.artifactId}-${result.version}-${result.classifier}")) {
+        return null
+      }
+      return result
+    }
+    catch (StringIndexOutOfBoundsException e) {
+      return null
+    }
+  }
+
+  @Test
+  void 'same result as regex parser'() {
+    expect:
+      parse(Maven1PathParser.&parse, path) == parse(Maven1PathParserDifferentialTest.&regex, path)
+    where:
+      // @formatter:off
+      path                                                    | _
+      'org.jruby/jars/jruby-1.0.jar'                          | _
+      'org.jruby/javadocs/jruby-1.0RC1-SNAPSHOT-javadoc.jar'  | _
+      'castor/ejbs/castor-ejb-1.0.7-SNAPSHOT-client.jar.sha1' | _
+      'castor/jars/castor-0.9.9-xml.jar'                      | _
+      'xpp3/poms/xpp3_min-1.1.3.4.O.pom'                      | _
+      'g/jars/a-b-1-c-2.jar'                                  | _
+      'g/jars/a-1.jar.md5'                                    | _
+      'g/jars/a-1.md5'                                        | _
+      'g/jars/a-1.jar2'                                       | _
+      'g/jars/A-1-b-2.jar'                                    | _
+      'g/jars/x/y-1.jar'                                      | _
+      'g/jars/a-1.jar\n'                                      | _
+      'g/jars/a-1\n.jar'                                      | _
+      'g/s/a-1.jar'                                           | _
+      'g/jar/a-1.jar'                                         | _
+      'g/jars/a-1.jar/'                                       | _
+      'g/java-sources/a-1.0.jar'                              | _
+      'g/ejbs/a-1client.jar'                                  | _
+      'g/ejbs/a-1.0client.jar'                                | _
+      ''                                                      | _
+      // @formatter:on
+  }
+
+  @Test
+  void 'same result as regex parser for generated paths'() {
+    given:
+      Random random = new Random(seed)
+    expect:
+      (0..<10000).each {
+        String path = generate(random)
+        assert parse(Maven1PathParser.&parse, path) == parse(Maven1PathParserDifferentialTest.&regex, path)
+      }
+    where:
+      seed << [1L, 2L, 3L, 4L]
+  }
+
+  @Test
+  void 'linear on backtracking input'() {
+    given:
+      String path = 'g/jars/' + ('a-1' * 20000) + 'x'
+    expect:
+      Maven1PathParser.rejectionOf(path) == Maven1PathParser.Rejection.INVALID_EXTENSION
+  }
+
+  private static String generate(final Random random) {
+    StringBuilder buff = new StringBuilder()
+    if (random.nextBoolean()) {
+      buff.append(pick(random)).append('/').append(random.nextBoolean() ? 'jars' : 'ejbs').append('/')
+    }
+    int count = 1 + random.nextInt(14)
+    count.times {
+      buff.append(pick(random))
+    }
+    return buff.toString()
+  }
+
+  private static String pick(final Random random) {
+    return TOKENS[random.nextInt(TOKENS.size())]
+  }
+}
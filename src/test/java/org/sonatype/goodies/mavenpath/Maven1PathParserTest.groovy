@@ -89,5 +89,48 @@ class Maven1PathParserTest
       'something/that/like-an-artifact.pom'             | _
       'something/that/maven-metadata.xml'               | _
       'something/that/like-SNAPSHOT/maven-metadata.xml' | _
+      // version too short for, or not ending with, the implied classifier
+      'g/java-sources/a-1.0.jar'                        | _
+      'g/ejbs/a-1client.jar'                            | _
+  }
+
+  @Test
+  void 'rejection reason'() {
+    expect:
+      Maven1PathParser.rejectionOf(path) == rejection
+    where:
+      // @formatter:off
+      path                                    || rejection
+      'org.jruby/jars/jruby-1.0.jar'          || null
+      '/org.jruby/jars/jruby-1.0.jar'         || Maven1PathParser.Rejection.INVALID_SLASH
+      'org.jruby/jars/'                       || Maven1PathParser.Rejection.INVALID_SLASH
+      'jruby-1.0.jar'                         || Maven1PathParser.Rejection.MISSING_DIRECTORIES
+      'org.jruby/jruby-1.0.jar'               || Maven1PathParser.Rejection.MISSING_DIRECTORIES
+      'org.jruby/jar/jruby-1.0.jar'           || Maven1PathParser.Rejection.INVALID_TYPES
+      'org.jruby/s/jruby-1.0.jar'             || Maven1PathParser.Rejection.INVALID_TYPES
+      'org.jruby/jars/jruby.jar'              || Maven1PathParser.Rejection.MISSING_VERSION
+      'org.jruby/jars/jruby-RC1.jar'          || Maven1PathParser.Rejection.MISSING_VERSION
+      'org.jruby/jars/jruby-1.0'              || Maven1PathParser.Rejection.INVALID_EXTENSION
+      'org.jruby/jars/jruby-1.0.jar2'         || Maven1PathParser.Rejection.INVALID_EXTENSION
+      'g/java-sources/a-1.0.jar'              || Maven1PathParser.Rejection.MISSING_CLASSIFIER
+      'g/javadocs/a-1.0javadoc.jar'           || Maven1PathParser.Rejection.MISSING_CLASSIFIER
+      'g/ejbs/a-1client.jar'                  || Maven1PathParser.Rejection.MISSING_CLASSIFIER
+      'g/ejbs/a-1-client.jar'                 || null
+      // @formatter:on
+  }
+
+  @Test
+  void 'rejection agrees with parse'() {
+    expect:
+      (Maven1PathParser.rejectionOf(path) == null) == (Maven1PathParser.parse(path) != null)
+    where:
+      path << [
+          'org.jruby/jars/jruby-1.0.jar',
+          'org.jruby/jars/jruby-1.0.jar2',
+          'g/java-sources/a-1.0.jar',
+          'g/java-sources/a-1-sources.jar',
+          'g/ejbs/a-1client.jar',
+          'g/ejbs/a-1-client.jar.md5'
+      ]
   }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import java.util.concurrent.Executors
+import java.util.concurrent.ForkJoinPool
+import java.util.stream.Collectors
+
+import org.junit.Test
+
+/**
+ * {@link Maven2PathBulkParser} tests.
+ */
+class Maven2PathBulkParserTest
+{
+  private static final List<String> SAMPLES = [
+      'foo/bar/baz/1.0/baz-1.0.jar',
+      'foo/bar/baz/1.0/baz-1.0-qux.jar.sha1',
+      'foo/bar/baz/1.0-SNAPSHOT/baz-1.0-20191029.053716-1-qux.jar',
+      'foo/bar/baz/1.0-SNAPSHOT/maven-metadata.xml',
+      'some/stupid/path'
+  ]
+
+  private static List<String> corpus(final int size) {
+    return (0..<size).collect { SAMPLES[it % SAMPLES.size()].replace('foo/', "foo${it}/") }
+  }
+
+  private static void assertMatches(final List<String> paths, final Maven2PathTable table) {
+    assert table.size() == paths.size()
+    paths.eachWithIndex { String path, int row ->
+      MavenPath expected = Maven2PathParser.parse(path)
+      assert table.getPath(row) == path
+      assert table.isValid(row) == (expected != null)
+      assert table.get(row)?.toString() == expected?.toString()
+      if (expected instanceof ArtifactPath) {
+        assert table.isArtifact(row)
+        assert table.isSnapshotArtifact(row) == (expected instanceof SnapshotArtifactPath)
+        assert table.getGroupId(row) == expected.groupId
+        assert table.getArtifactId(row) == expected.artifactId
+        assert table.getVersion(row) == expected.version
+        assert table.getClassifier(row) == expected.classifier
+        assert table.getExtension(row) == expected.extension
+      }
+      else if (expected instanceof MavenMetadataPath) {
+        assert table.isMavenMetadata(row)
+        assert table.getGroupId(row) == expected.groupId
+        assert table.getArtifactId(row) == expected.artifactId
+        assert table.getVersion(row) == expected.version
+      }
+    }
+  }
+
+  @Test
+  void 'parse small list'() {
+    assertMatches(SAMPLES, Maven2PathBulkParser.parseAll(SAMPLES))
+  }
+
+  @Test
+  void 'parse on fork-join pool'() {
+    def paths = corpus(10000)
+    def pool = new ForkJoinPool(4)
+    try {
+      assertMatches(paths, Maven2PathBulkParser.parseAll(paths, pool))
+    }
+    finally {
+      pool.shutdown()
+    }
+  }
+
+  @Test
+  void 'parse on executor'() {
+    def paths = corpus(10000)
+    def executor = Executors.newFixedThreadPool(3)
+    try {
+      assertMatches(paths, Maven2PathBulkParser.parseAll(paths.stream(), executor))
+    }
+    finally {
+      executor.shutdown()
+    }
+  }
+
+  @Test
+  void 'table stream keeps order'() {
+    def paths = corpus(3000)
+    def table = Maven2PathBulkParser.parseAll(paths)
+    assert table.stream().parallel().map { it?.path }.collect(Collectors.toList()) ==
+        paths.collect { Maven2PathParser.parse(it)?.path }
+  }
+
+  @Test
+  void 'parse stream'() {
+    def paths = corpus(3000)
+    assert Maven2PathBulkParser.parse(paths.stream(), true).map { it?.path }.collect(Collectors.toList()) ==
+        paths.collect { Maven2PathParser.parse(it)?.path }
+    assert Maven2PathBulkParser.parse(paths.stream(), false).filter { it != null }.count() ==
+        paths.count { Maven2PathParser.parse(it) != null }
+  }
+}
@@ -12,8 +12,13 @@
  */
 package org.sonatype.goodies.mavenpath
 
+import java.nio.BufferOverflowException
+import java.nio.ByteBuffer
+
 import org.junit.Test
 
+import static java.nio.charset.StandardCharsets.UTF_8
+
 /**
  * {@link Maven2PathHelper} tests.
  */
@@ -63,4 +68,71 @@ class Maven2PathHelperTest
       assert it == 'foo-1.0-sources.jar'
     }
   }
+
+  @Test
+  void 'gav base-path'() {
+    Maven2PathHelper.artifactBasePath('com.sonatype', 'foo', '1.0').with {
+      println it
+      assert it == 'com/sonatype/foo/1.0'
+    }
+  }
+
+  @Test
+  void 'metadata path'() {
+    assert Maven2PathHelper.metadataPath('com.sonatype', null, null) == 'com/sonatype/maven-metadata.xml'
+    assert Maven2PathHelper.metadataPath('com.sonatype', 'foo', null) == 'com/sonatype/foo/maven-metadata.xml'
+    assert Maven2PathHelper.metadataPath('com.sonatype', 'foo', 'sha1') == 'com/sonatype/foo/maven-metadata.xml.sha1'
+  }
+
+  @Test
+  void 'append to sink'() {
+    def buff = new StringBuilder('>')
+    Maven2PathHelper.appendArtifactPath(buff, 'com.sonatype', 'foo', '1.0', 'bar', 'jar')
+    assert buff.toString() == '>com/sonatype/foo/1.0/foo-1.0-bar.jar'
+
+    buff.setLength(0)
+    Maven2PathHelper.appendMetadataPath(buff, 'com.sonatype', 'foo', 'md5')
+    assert buff.toString() == 'com/sonatype/foo/maven-metadata.xml.md5'
+  }
+
+  @Test
+  void 'put into buffer'() {
+    // 2, 3 and 4 byte encodings and an unpaired surrogate
+    def artifactIds = ['foo', 'f\u00f6\u00f6', 'f\u20ac', 'f\ud83d\ude00', 'f\ud83d', 'f\ud83dx', 'f\u00f6.x']
+    [ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)].each { buffer ->
+      artifactIds.each { artifactId ->
+        def expected = Maven2PathHelper.artifactPath('com.\u00f6.sonatype', artifactId, '1.0', null, 'jar')
+            .getBytes(UTF_8)
+        buffer.clear().put((byte) 'x')
+        Maven2PathHelper.putArtifactPath(buffer, 'com.\u00f6.sonatype', artifactId, '1.0', null, 'jar')
+        assert buffer.position() == 1 + expected.length
+        byte[] actual = new byte[expected.length]
+        buffer.flip().position(1)
+        buffer.get(actual)
+        assert actual == expected
+      }
+    }
+
+    def buffer = ByteBuffer.allocate(64)
+    Maven2PathHelper.putMetadataPath(buffer, 'com.sonatype', 'foo', null)
+    assert new String(buffer.array(), 0, buffer.position(), UTF_8) == 'com/sonatype/foo/maven-metadata.xml'
+  }
+
+  @Test
+  void 'put overflow writes nothing'() {
+    def path = 'com/sonatype/foo/1.0/foo-1.0.jar'
+    def buffer = ByteBuffer.allocate(path.length() - 1)
+    try {
+      Maven2PathHelper.putArtifactPath(buffer, 'com.sonatype', 'foo', '1.0', null, 'jar')
+      assert false
+    }
+    catch (BufferOverflowException expected) {
+      // expected
+    }
+    assert buffer.position() == 0
+
+    buffer = ByteBuffer.allocate(path.length())
+    Maven2PathHelper.putArtifactPath(buffer, 'com.sonatype', 'foo', '1.0', null, 'jar')
+    assert !buffer.hasRemaining()
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import org.junit.Test
+import spock.lang.Specification
+
+/**
+ * Differential {@link Maven2PathParser} tests against {@link RegexMaven2PathParser}.
+ */
+class Maven2PathParserDifferentialTest
+    extends Specification
+{
+  private static final List<String> TOKENS = [
+      '/', '/', '/', '-', '-', '.', 'a', 'b', '1', '0', 'A', 'baz', '1.0', 'jar', 'x/',
+      'SNAPSHOT', 'snapshot', '-SNAPSHOT', '20191029.053716', 'maven-metadata.xml', '\n'
+  ]
+
+  private static String describe(final MavenPath path) {
+    if (path == null) {
+      return 'null'
+    }
+    String result = "${path.getClass().simpleName}|${path.path}|${path.fileName}|${path}"
+    if (path instanceof MavenMetadataPath) {
+      result += "|${path.prefix}"
+    }
+    return result
+  }
+
+  @Test
+  void 'same result as regex parser'() {
+    expect:
+      describe(Maven2PathParser.parse(path)) == describe(RegexMaven2PathParser.parse(path))
+    where:
+      // @formatter:off
+      path                                                             | _
+      'foo/bar/baz/1.0/baz-1.0.jar'                                    | _
+      'foo/bar/baz/1.0/baz-1.0-qux.tar.gz.sha1'                        | _
+      'foo/bar/baz/1.0-SNAPSHOT/baz-1.0-SNAPSHOT.jar'                  | _
+      'foo/bar/baz/1.0-SNAPSHOT/baz-1.0-20191029.053716-1.jar'         | _
+      'foo/bar/baz/1.0-SNAPSHOT/baz-1.0-20191029.053716-1-qux.jar.asc' | _
+      'foo/bar/BAZ/1.0-snapshot/baz-1.0-20191029.053716-12.pom'        | _
+      'foo/bar/baz/1.0-SNAPSHOT/baz-1.0-20191029.053716-.jar'          | _
+      'foo/bar/baz/1.0-SNAPSHOT/baz-1.0-20191029-1.jar'                | _
+      'foo/bar/baz/-SNAPSHOT/baz--20191029.053716-1.jar'               | _
+      'foo/bar/baz/1.0/baz-1.0-c/d.jar'                                | _
+      'foo/bar/baz/1.0/baz-1.0-.jar'                                   | _
+      'foo/bar/baz/1.0/baz-1.0.'                                       | _
+      'foo/bar/baz/1.0/baz-1.0'                                        | _
+      'foo/bar/baz/1.0/baz-1.0.jar\n'                                  | _
+      'foo\nbar/baz/1.0/baz-1.0.jar'                                   | _
+      'foo//baz/1.0/baz-1.0.jar'                                       | _
+      'baz/1.0/baz-1.0.jar'                                            | _
+      '/foo/bar/baz/1.0/baz-1.0.jar'                                   | _
+      'foo/bar/baz/1.0/'                                               | _
+      'foo/bar/baz/maven-metadata.xml'                                 | _
+      'foo/bar/baz-qux/maven-metadata.xml.sha1'                        | _
+      'foo/bar/baz/1.0-SNAPSHOT/maven-metadata.xml'                    | _
+      'foo/bar//maven-metadata.xml'                                    | _
+      'foo//1.0-SNAPSHOT/maven-metadata.xml'                           | _
+      'foo/maven-metadata.xml.x/maven-metadata.xml'                    | _
+      'foo/maven-metadata.xml.x/y'                                     | _
+      'foo/maven-metadata.xml.'                                        | _
+      'maven-metadata.xml'                                             | _
+      ''                                                               | _
+      // @formatter:on
+  }
+
+  @Test
+  void 'same result as regex parser for generated paths'() {
+    given:
+      Random random = new Random(seed)
+    expect:
+      (0..<10000).each {
+        String path = generate(random)
+        assert describe(Maven2PathParser.parse(path)) == describe(RegexMaven2PathParser.parse(path))
+      }
+    where:
+      seed << [1L, 2L, 3L, 4L]
+  }
+
+  private static String generate(final Random random) {
+    if (random.nextInt(4) == 0) {
+      // mostly well-formed artifact path with random components
+      String artifact = random.nextBoolean() ? 'baz' : pick(random)
+      String version = random.nextBoolean() ? '1.0-SNAPSHOT' : '1.0'
+      String fileVersion = random.nextBoolean() ? version : "1.0-20191029.053716-${random.nextInt(3)}"
+      String classifier = random.nextBoolean() ? "-${pick(random)}" : ''
+      String fileArtifact = random.nextBoolean() ? artifact : artifact.toUpperCase()
+      return "g/${pick(random)}/${artifact}/${version}/${fileArtifact}-${fileVersion}${classifier}.${pick(random)}"
+    }
+
+    StringBuilder buff = new StringBuilder()
+    int count = 1 + random.nextInt(12)
+    count.times {
+      buff.append(pick(random))
+    }
+    return buff.toString()
+  }
+
+  private static String pick(final Random random) {
+    return TOKENS[random.nextInt(TOKENS.size())]
+  }
+}
@@ -12,9 +12,13 @@
  */
 package org.sonatype.goodies.mavenpath
 
+import java.nio.ByteBuffer
+
 import org.junit.Test
 import spock.lang.Specification
 
+import static java.nio.charset.StandardCharsets.UTF_8
+
 /**
  * {@link Maven2PathParser} tests.
  */
@@ -171,4 +175,47 @@ class Maven2PathParserTest
       'foo/bar/baz/1.0-SNAPSHOT/baz-1.0-20191029.053716-1-qux.jar.info' | 'baz-1.0-20191029.053716-1-qux.jar.info' | 'foo.bar' | 'baz'      | '1.0-SNAPSHOT' | '1.0-20191029.053716-1' | '20191029.053716' | '1'   | 'qux'      | 'jar.info'    || true
       // @formatter:on
   }
+
+  private static MavenPath roundTrip(final MavenPath path) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+    new ObjectOutputStream(bytes).withCloseable { it.writeObject(path) }
+    return new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).withCloseable {
+      it.readObject() as MavenPath
+    }
+  }
+
+  @Test
+  void 'parse views'() {
+    given:
+      MavenPath expected = Maven2PathParser.parse(path)
+      byte[] encoded = "//${path}//".getBytes(UTF_8)
+      ByteBuffer direct = ByteBuffer.allocateDirect(encoded.length).put(encoded)
+      direct.position(2).limit(encoded.length - 2)
+    expect:
+      [
+          Maven2PathParser.parse(new StringBuilder(path)),
+          Maven2PathParser.parse(encoded, 2, encoded.length - 4),
+          Maven2PathParser.parse(direct)
+      ].each { MavenPath view ->
+        assert view?.toString() == expected?.toString()
+        assert view == expected
+        if (view != null) {
+          assert view.fileName == expected.fileName
+          assert view.hashCode() == expected.hashCode()
+          assert roundTrip(view).getClass() == expected.getClass()
+          assert roundTrip(view).toString() == expected.toString()
+        }
+      }
+      direct.position() == 2
+    where:
+      // @formatter:off
+      path                                                              | _
+      'foo/bar/baz/1.0/baz-1.0-qux.jar.sha1'                            | _
+      'foo/bar/baz/1.0-SNAPSHOT/baz-1.0-20191029.053716-1-qux.jar.asc'  | _
+      'foo/bar/baz/1.0-SNAPSHOT/maven-metadata.xml.sha1'                | _
+      'foo/bar/baz-qux/maven-metadata.xml'                              | _
+      'org/bücher/baz/1.0/baz-1.0-ünï.jar'                              | _
+      'foo/bar/baz/1.0/baz-1.1.jar'                                     | _
+      // @formatter:on
+  }
 }
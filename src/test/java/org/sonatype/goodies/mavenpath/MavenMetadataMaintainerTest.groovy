@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import java.nio.file.Files
+import java.util.concurrent.CopyOnWriteArrayList
+
+import org.junit.After
+import org.junit.Test
+
+/**
+ * {@link MavenMetadataMaintainer} tests.
+ */
+class MavenMetadataMaintainerTest
+{
+  private final List<String> written = new CopyOnWriteArrayList<>()
+
+  private final MavenMetadataMaintainer.Sink sink = { path, metadata ->
+    written << "${path.path} ${metadata.versions}".toString()
+  } as MavenMetadataMaintainer.Sink
+
+  private MavenMetadataMaintainer maintainer
+
+  @After
+  void tearDown() {
+    maintainer?.close()
+  }
+
+  private static ArtifactPath artifact(final String path) {
+    return (ArtifactPath) Maven2PathParser.parse(path)
+  }
+
+  @Test
+  void 'track versions of deployed files'() {
+    maintainer = new MavenMetadataMaintainer(sink, 60_000)
+    assert maintainer.add(artifact('org/foo/bar/1.1/bar-1.1.jar'))
+    assert !maintainer.add(artifact('org/foo/bar/1.1/bar-1.1.pom'))
+    assert !maintainer.add(artifact('org/foo/bar/1.1/bar-1.1.jar.sha1'))
+    assert maintainer.add(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+    assert maintainer.add(artifact('org/foo/bar/2.0-SNAPSHOT/bar-2.0-20200101.120000-1.jar'))
+    assert !maintainer.add(artifact('org/foo/bar/2.0-SNAPSHOT/bar-2.0-20200101.130000-2.jar'))
+
+    def metadata = maintainer.get('org.foo', 'bar')
+    assert metadata.groupId == 'org.foo'
+    assert metadata.artifactId == 'bar'
+    assert metadata.versions == ['1.0', '1.1', '2.0-SNAPSHOT']
+    assert metadata.latest == '2.0-SNAPSHOT'
+    assert metadata.release == '1.1'
+    assert metadata.lastUpdated ==~ /\d{14}/
+    assert maintainer.get('org.foo', 'baz') == null
+  }
+
+  @Test
+  void 'drop version once its files are removed'() {
+    maintainer = new MavenMetadataMaintainer(sink, 60_000)
+    maintainer.add(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+    maintainer.add(artifact('org/foo/bar/1.0/bar-1.0.pom'))
+    maintainer.add(artifact('org/foo/bar/1.1/bar-1.1.jar'))
+
+    assert !maintainer.remove(artifact('org/foo/bar/1.1/bar-1.1.jar.md5'))
+    assert maintainer.remove(artifact('org/foo/bar/1.1/bar-1.1.jar'))
+    assert !maintainer.remove(artifact('org/foo/bar/1.1/bar-1.1.jar'))
+    assert !maintainer.remove(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+    assert maintainer.get('org.foo', 'bar').versions == ['1.0']
+    assert maintainer.get('org.foo', 'bar').release == '1.0'
+    assert maintainer.removeVersion('org.foo', 'bar', '1.0')
+    assert maintainer.get('org.foo', 'bar').versions.empty
+  }
+
+  @Test
+  void 'redeployed file counted once'() {
+    maintainer = new MavenMetadataMaintainer(sink, 60_000)
+    assert maintainer.add(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+    assert !maintainer.add(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+    assert !maintainer.add(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+
+    assert maintainer.remove(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+    assert !maintainer.remove(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+    assert maintainer.get('org.foo', 'bar').versions.empty
+  }
+
+  @Test
+  void 'timestamped builds collapse into the latest of their kind'() {
+    maintainer = new MavenMetadataMaintainer(sink, 60_000)
+    (1..100).each {
+      maintainer.add(artifact("org/foo/bar/1.0-SNAPSHOT/bar-1.0-20200101.120000-${it}.jar"))
+    }
+    maintainer.add(artifact('org/foo/bar/1.0-SNAPSHOT/bar-1.0-20200101.120000-50.jar'))
+
+    assert !maintainer.remove(artifact('org/foo/bar/1.0-SNAPSHOT/bar-1.0-20200101.120000-99.jar'))
+    assert maintainer.get('org.foo', 'bar').versions == ['1.0-SNAPSHOT']
+    assert maintainer.remove(artifact('org/foo/bar/1.0-SNAPSHOT/bar-1.0-20200101.120000-100.jar'))
+    assert maintainer.get('org.foo', 'bar').versions.empty
+  }
+
+  @Test
+  void 'written GA without versions is forgotten'() {
+    maintainer = new MavenMetadataMaintainer(sink, 60_000)
+    maintainer.add(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+    maintainer.flush()
+    maintainer.remove(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+    assert maintainer.get('org.foo', 'bar').versions.empty
+    maintainer.flush()
+    assert maintainer.get('org.foo', 'bar') == null
+    assert written == ['org/foo/bar/maven-metadata.xml [1.0]', 'org/foo/bar/maven-metadata.xml []']
+
+    assert maintainer.add(artifact('org/foo/bar/1.1/bar-1.1.jar'))
+    assert maintainer.get('org.foo', 'bar').versions == ['1.1']
+  }
+
+  @Test
+  void 'equivalent versions kept apart'() {
+    maintainer = new MavenMetadataMaintainer(sink, 60_000)
+    assert maintainer.add(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+    assert maintainer.add(artifact('org/foo/bar/1.0.0/bar-1.0.0.jar'))
+    assert maintainer.add(artifact('org/foo/bar/1/bar-1.jar'))
+    assert maintainer.get('org.foo', 'bar').versions == ['1', '1.0', '1.0.0']
+
+    assert maintainer.removeVersion('org.foo', 'bar', '1.0.0')
+    assert maintainer.get('org.foo', 'bar').versions == ['1', '1.0']
+    assert maintainer.remove(artifact('org/foo/bar/1/bar-1.jar'))
+    assert maintainer.get('org.foo', 'bar').versions == ['1.0']
+  }
+
+  @Test
+  void 'seeded versions kept until removed explicitly'() {
+    maintainer = new MavenMetadataMaintainer(sink, 60_000)
+    def existing = new MavenMetadata(groupId: 'org.foo', artifactId: 'bar', lastUpdated: '20200101120000')
+    existing.versions.addAll(['1.0', '0.9'])
+    maintainer.seed(existing)
+    assert maintainer.get('org.foo', 'bar').versions == ['0.9', '1.0']
+    assert maintainer.get('org.foo', 'bar').lastUpdated == '20200101120000'
+
+    assert !maintainer.remove(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+    assert !maintainer.add(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+    assert maintainer.removeVersion('org.foo', 'bar', '0.9')
+    assert maintainer.get('org.foo', 'bar').versions == ['1.0']
+    assert written.empty
+  }
+
+  @Test
+  void 'coalesce burst into one write per GA'() {
+    maintainer = new MavenMetadataMaintainer(sink, 100)
+    (1..50).each {
+      maintainer.add(artifact("org/foo/bar/1.${it}/bar-1.${it}.jar"))
+      maintainer.add(artifact("org/foo/baz/1.${it}/baz-1.${it}.jar"))
+    }
+    def deadline = System.currentTimeMillis() + 10_000
+    while (maintainer.writeCount < 2 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10)
+    }
+    Thread.sleep(300)
+    assert maintainer.writeCount == 2
+    assert written.size() == 2
+    assert written.every { it.contains('1.50') }
+  }
+
+  @Test
+  void 'flush writes pending changes'() {
+    maintainer = new MavenMetadataMaintainer(sink, 60_000)
+    maintainer.add(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+    maintainer.flush()
+    maintainer.flush()
+    assert written == ['org/foo/bar/maven-metadata.xml [1.0]']
+  }
+
+  @Test
+  void 'failed write retried on flush'() {
+    int attempts = 0
+    maintainer = new MavenMetadataMaintainer({ path, metadata ->
+      if (attempts++ == 0) {
+        throw new IOException('full')
+      }
+    } as MavenMetadataMaintainer.Sink, 60_000)
+    maintainer.add(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+    try {
+      maintainer.flush()
+      assert false
+    }
+    catch (IOException e) {
+      assert e.message == 'full'
+    }
+    maintainer.flush()
+    assert maintainer.failureCount == 1
+    assert maintainer.writeCount == 1
+  }
+
+  @Test
+  void 'file sink'() {
+    def root = Files.createTempDirectory('repo')
+    try {
+      maintainer = new MavenMetadataMaintainer(MavenMetadataMaintainer.fileSink(root), 60_000)
+      maintainer.add(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+      maintainer.flush()
+      def file = root.resolve('org/foo/bar/maven-metadata.xml')
+      assert MavenMetadataReader.read(file).versions == ['1.0']
+
+      maintainer.remove(artifact('org/foo/bar/1.0/bar-1.0.jar'))
+      maintainer.flush()
+      assert !Files.exists(file)
+    }
+    finally {
+      root.toFile().deleteDir()
+    }
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import org.junit.Test
+
+import org.sonatype.goodies.mavenpath.MavenMetadata.Plugin
+import org.sonatype.goodies.mavenpath.MavenMetadata.Snapshot
+import org.sonatype.goodies.mavenpath.MavenMetadata.SnapshotVersion
+
+/**
+ * {@link MavenMetadataReader} tests.
+ */
+class MavenMetadataReaderTest
+{
+  private static MavenMetadata read(final String xml) {
+    return MavenMetadataReader.read(new ByteArrayInputStream(xml.getBytes('UTF-8')))
+  }
+
+  @Test
+  void 'read GA metadata'() {
+    def metadata = read('''<?xml version="1.0" encoding="UTF-8"?>
+<metadata modelVersion="1.1.0">
+  <groupId>foo</groupId>
+  <artifactId>bar</artifactId>
+  <versioning>
+    <latest>1.1</latest>
+    <release>1.1</release>
+    <versions>
+      <version>1.0</version>
+      <!-- comment -->
+      <version> 1.1 </version>
+    </versions>
+    <lastUpdated>20200101120000</lastUpdated>
+    <unknown><nested/></unknown>
+  </versioning>
+</metadata>''')
+    assert metadata.modelVersion == '1.1.0'
+    assert metadata.groupId == 'foo'
+    assert metadata.artifactId == 'bar'
+    assert metadata.version == null
+    assert metadata.latest == '1.1'
+    assert metadata.release == '1.1'
+    assert metadata.versions == ['1.0', '1.1']
+    assert metadata.lastUpdated == '20200101120000'
+  }
+
+  @Test
+  void 'read GAV metadata'() {
+    def metadata = read('''<metadata>
+  <groupId>foo</groupId>
+  <artifactId>bar</artifactId>
+  <version>1.0-SNAPSHOT</version>
+  <versioning>
+    <snapshot><timestamp>20200101.120000</timestamp><buildNumber>3</buildNumber></snapshot>
+    <snapshotVersions>
+      <snapshotVersion><extension>jar</extension><value>1.0-20200101.120000-3</value><updated>20200101120000</updated></snapshotVersion>
+      <snapshotVersion><classifier>sources</classifier><extension>jar</extension><value>1.0-20200101.120000-3</value></snapshotVersion>
+      <snapshotVersion><classifier>broken</classifier></snapshotVersion>
+    </snapshotVersions>
+  </versioning>
+</metadata>''')
+    assert metadata.version == '1.0-SNAPSHOT'
+    assert metadata.snapshot == new Snapshot('20200101.120000', 3)
+    assert metadata.snapshotVersions == [
+        new SnapshotVersion(null, 'jar', '1.0-20200101.120000-3', '20200101120000'),
+        new SnapshotVersion('sources', 'jar', '1.0-20200101.120000-3', null)
+    ]
+  }
+
+  @Test
+  void 'read G metadata'() {
+    def metadata = read('''<metadata>
+  <plugins>
+    <plugin><name>Maven Clean Plugin</name><prefix>clean</prefix><artifactId>maven-clean-plugin</artifactId></plugin>
+    <plugin><prefix>deploy</prefix><artifactId>maven-deploy-plugin</artifactId></plugin>
+  </plugins>
+</metadata>''')
+    assert metadata.groupId == null
+    assert !metadata.hasVersioning()
+    assert metadata.plugins == [
+        new Plugin('Maven Clean Plugin', 'clean', 'maven-clean-plugin'),
+        new Plugin(null, 'deploy', 'maven-deploy-plugin')
+    ]
+  }
+
+  @Test
+  void 'metadata of path'() {
+    def metadata = MavenMetadata.of((MavenMetadataPath) Maven2PathParser.parse('foo/bar/1.0-SNAPSHOT/maven-metadata.xml'))
+    assert metadata.groupId == 'foo'
+    assert metadata.artifactId == 'bar'
+    assert metadata.version == '1.0-SNAPSHOT'
+    assert MavenMetadata.of((MavenMetadataPath) Maven2PathParser.parse('foo/bar/baz/maven-metadata.xml')).groupId == null
+  }
+
+  @Test(expected = IOException)
+  void 'reject external entities'() {
+    read('''<!DOCTYPE metadata [<!ENTITY x SYSTEM "file:///etc/passwd">]>
+<metadata><groupId>&x;</groupId></metadata>''')
+  }
+
+  @Test(expected = IOException)
+  void 'reject other documents'() {
+    read('<project><groupId>foo</groupId></project>')
+  }
+
+  @Test(expected = IOException)
+  void 'reject truncated documents'() {
+    read('<metadata><versioning><versions><version>1.0</version>')
+  }
+}
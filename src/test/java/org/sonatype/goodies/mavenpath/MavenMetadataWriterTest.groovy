@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import java.nio.file.Files
+
+import org.junit.Test
+
+import org.sonatype.goodies.mavenpath.MavenMetadata.Plugin
+import org.sonatype.goodies.mavenpath.MavenMetadata.Snapshot
+import org.sonatype.goodies.mavenpath.MavenMetadata.SnapshotVersion
+
+/**
+ * {@link MavenMetadataWriter} tests.
+ */
+class MavenMetadataWriterTest
+{
+  private static MavenMetadata read(final String xml) {
+    return MavenMetadataReader.read(new ByteArrayInputStream(xml.getBytes('UTF-8')))
+  }
+
+  private static String write(final MavenMetadata metadata) {
+    def output = new ByteArrayOutputStream()
+    MavenMetadataWriter.write(metadata, output)
+    return output.toString('UTF-8')
+  }
+
+  private static String merge(final String xml, final MavenMetadata update) {
+    def output = new ByteArrayOutputStream()
+    MavenMetadataWriter.merge(new ByteArrayInputStream(xml.getBytes('UTF-8')), output, update)
+    return output.toString('UTF-8')
+  }
+
+  private static MavenMetadata gav() {
+    def metadata = new MavenMetadata(groupId: 'foo', artifactId: 'bar', version: '1.0-SNAPSHOT')
+    metadata.snapshot = new Snapshot('20200101.120000', 1)
+    metadata.lastUpdated = '20200101120000'
+    metadata.snapshotVersions << new SnapshotVersion(null, 'jar', '1.0-20200101.120000-1', '20200101120000')
+    metadata.snapshotVersions << new SnapshotVersion(null, 'pom', '1.0-20200101.120000-1', '20200101120000')
+    return metadata
+  }
+
+  @Test
+  void 'write indented'() {
+    def metadata = new MavenMetadata(groupId: 'foo', artifactId: 'b&r', latest: '1.0', release: '1.0')
+    metadata.versions << '1.0'
+    assert write(metadata) == '''<?xml version="1.0" encoding="UTF-8"?>
+<metadata>
+  <groupId>foo</groupId>
+  <artifactId>b&amp;r</artifactId>
+  <versioning>
+    <latest>1.0</latest>
+    <release>1.0</release>
+    <versions>
+      <version>1.0</version>
+    </versions>
+  </versioning>
+</metadata>
+'''
+  }
+
+  @Test
+  void 'write and read back'() {
+    def metadata = gav()
+    def copy = read(write(metadata))
+    assert copy.groupId == 'foo'
+    assert copy.snapshot == metadata.snapshot
+    assert copy.lastUpdated == metadata.lastUpdated
+    assert copy.snapshotVersions == metadata.snapshotVersions
+
+    def plugins = new MavenMetadata()
+    plugins.plugins << new Plugin('Clean', 'clean', 'maven-clean-plugin')
+    assert read(write(plugins)).plugins == plugins.plugins
+  }
+
+  @Test
+  void 'merge versions'() {
+    def existing = new MavenMetadata(groupId: 'foo', artifactId: 'bar', latest: '1.1', release: '1.1')
+    existing.versions.addAll((1..1000).collect { "1.${it}".toString() })
+    def update = new MavenMetadata(latest: '2.0', release: '2.0', lastUpdated: '20200101120000')
+    update.versions.addAll(['1.5', '2.0', '2.0'])
+
+    def merged = read(merge(write(existing), update))
+    assert merged.groupId == 'foo'
+    assert merged.latest == '2.0'
+    assert merged.release == '2.0'
+    assert merged.lastUpdated == '20200101120000'
+    assert merged.versions.size() == 1001
+    assert merged.versions[0] == '1.1'
+    assert merged.versions[-1] == '2.0'
+  }
+
+  @Test
+  void 'merge snapshot versions'() {
+    def update = new MavenMetadata(lastUpdated: '20200102120000')
+    update.snapshot = new Snapshot('20200102.120000', 2)
+    update.snapshotVersions << new SnapshotVersion(null, 'jar', '1.0-20200102.120000-2', '20200102120000')
+    update.snapshotVersions << new SnapshotVersion('sources', 'jar', '1.0-20200102.120000-2', '20200102120000')
+
+    def merged = read(merge(write(gav()), update))
+    assert merged.snapshot == update.snapshot
+    assert merged.lastUpdated == '20200102120000'
+    assert merged.snapshotVersions == [
+        update.snapshotVersions[0],
+        gav().snapshotVersions[1],
+        update.snapshotVersions[1]
+    ]
+  }
+
+  @Test
+  void 'merge plugins by prefix'() {
+    def existing = new MavenMetadata()
+    existing.plugins << new Plugin('Clean', 'clean', 'maven-clean-plugin')
+    def update = new MavenMetadata()
+    update.plugins << new Plugin('Other', 'clean', 'other-clean-plugin')
+    update.plugins << new Plugin('Deploy', 'deploy', 'maven-deploy-plugin')
+
+    assert read(merge(write(existing), update)).plugins == [existing.plugins[0], update.plugins[1]]
+  }
+
+  @Test
+  void 'merge adds missing sections and keeps unknown elements'() {
+    def xml = '''<metadata xmlns="http://maven.apache.org/METADATA/1.1.0" modelVersion="1.1.0">
+  <groupId>foo</groupId>
+  <custom kind="x"><nested>value</nested></custom>
+</metadata>'''
+    def update = new MavenMetadata(latest: '1.0')
+    update.versions << '1.0'
+
+    def merged = merge(xml, update)
+    assert merged.contains('xmlns="http://maven.apache.org/METADATA/1.1.0"')
+    assert merged.contains('<custom kind="x">')
+    assert merged.contains('<nested>value</nested>')
+    assert read(merged).versions == ['1.0']
+    assert read(merged).latest == '1.0'
+  }
+
+  @Test
+  void 'merge keeps prefixed and unknown children of entries not replaced'() {
+    def xml = '''<metadata xmlns="http://maven.apache.org/METADATA/1.1.0">
+  <groupId>foo</groupId>
+  <x:extra xmlns:x="urn:x" x:kind="y">value</x:extra>
+  <versioning xmlns:v="urn:v">
+    <snapshot><timestamp>20200101.120000</timestamp><buildNumber>1</buildNumber><v:note>kept</v:note></snapshot>
+    <snapshotVersions>
+      <snapshotVersion><classifier>docs</classifier><value>1.0-20200101.120000-1</value></snapshotVersion>
+      <snapshotVersion><extension>jar</extension><value>1.0-20200101.120000-1</value></snapshotVersion>
+      <snapshotVersion><extension>pom</extension><value>1.0-20200101.120000-1</value><v:note>pom</v:note></snapshotVersion>
+    </snapshotVersions>
+  </versioning>
+  <plugins><plugin><name>No prefix</name></plugin></plugins>
+</metadata>'''
+    def update = new MavenMetadata()
+    update.versions << '2.0'
+    update.snapshotVersions << new SnapshotVersion(null, 'jar', '1.0-20200102.120000-2', '20200102120000')
+
+    def merged = merge(xml, update)
+    assert merged.contains('<x:extra xmlns:x="urn:x" x:kind="y">value</x:extra>')
+    assert merged.contains('<versioning xmlns:v="urn:v">')
+    assert merged.contains('<v:note>kept</v:note>')
+    assert merged.contains('<classifier>docs</classifier>')
+    assert merged.contains('<v:note>pom</v:note>')
+    assert merged.contains('<name>No prefix</name>')
+    // only the jar entry is replaced
+    assert merged.count('1.0-20200101.120000-1') == 2
+
+    def metadata = read(merged)
+    assert metadata.versions == ['2.0']
+    assert metadata.snapshot == new Snapshot('20200101.120000', 1)
+    assert metadata.snapshotVersions*.value == ['1.0-20200102.120000-2', '1.0-20200101.120000-1']
+    assert metadata.snapshotVersions*.extension == ['jar', 'pom']
+  }
+
+  @Test
+  void 'merge file in place'() {
+    def dir = Files.createTempDirectory('metadata')
+    try {
+      def file = dir.resolve('foo/bar/maven-metadata.xml')
+      def update = new MavenMetadata(groupId: 'foo', artifactId: 'bar')
+      update.versions << '1.0'
+      MavenMetadataWriter.merge(file, update)
+      update.versions[0] = '1.1'
+      MavenMetadataWriter.merge(file, update)
+
+      assert MavenMetadataReader.read(file).versions == ['1.0', '1.1']
+      assert Files.list(file.parent).count() == 1
+    }
+    finally {
+      dir.toFile().deleteDir()
+    }
+  }
+}
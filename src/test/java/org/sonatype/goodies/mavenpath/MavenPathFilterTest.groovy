@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import java.nio.file.Files
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+import org.junit.Test
+
+/**
+ * {@link MavenPathFilter} tests.
+ */
+class MavenPathFilterTest
+{
+  private static String path(final int i) {
+    return "org/example/group${i % 97}/artifact${i}/1.${i % 13}/artifact${i}-1.${i % 13}.jar"
+  }
+
+  @Test
+  void 'added paths are always present'() {
+    def filter = MavenPathFilter.create(10_000, 0.01)
+    for (int i = 0; i < 10_000; i++) {
+      // false when all bits were already set by other paths
+      filter.add(Maven2PathParser.parse(path(i)))
+    }
+    for (int i = 0; i < 10_000; i++) {
+      assert filter.mightContain(Maven2PathParser.parse(path(i)))
+      assert filter.mightContain(path(i))
+      assert filter.mightContain(new StringBuilder(path(i)))
+    }
+    assert !filter.add(path(0))
+    assert filter.insertCount > 9_800 && filter.insertCount <= 10_000
+  }
+
+  @Test
+  void 'false positive rate near target'() {
+    def filter = MavenPathFilter.create(100_000, 0.01)
+    for (int i = 0; i < 100_000; i++) {
+      filter.add(path(i))
+    }
+    int positives = 0
+    for (int i = 100_000; i < 200_000; i++) {
+      if (filter.mightContain(path(i))) {
+        positives++
+      }
+    }
+    println "${filter} positives=${positives} estimate=${filter.falsePositiveRate}"
+    assert positives < 100_000 * 0.015
+    assert filter.falsePositiveRate < 0.015
+  }
+
+  @Test
+  void 'write and read'() {
+    def filter = MavenPathFilter.create(1_000, 0.001)
+    for (int i = 0; i < 1_000; i++) {
+      filter.add(path(i))
+    }
+    def file = Files.createTempFile('paths', '.filter')
+    try {
+      filter.write(file)
+      def copy = MavenPathFilter.read(file)
+      assert copy.toString() == filter.toString()
+      for (int i = 0; i < 2_000; i++) {
+        assert copy.mightContain(path(i)) == filter.mightContain(path(i))
+      }
+      assert copy.add(path(5_000))
+      assert copy.mightContain(path(5_000))
+    }
+    finally {
+      Files.deleteIfExists(file)
+    }
+  }
+
+  @Test
+  void 'failed write leaves no temporary file'() {
+    def filter = MavenPathFilter.create(1_000, 0.01)
+    def dir = Files.createTempDirectory('paths')
+    try {
+      // target is a non-empty directory, so replacing it fails
+      def target = dir.resolve('paths.filter')
+      Files.createDirectories(target.resolve('child'))
+      try {
+        filter.write(target)
+        assert false
+      }
+      catch (IOException expected) {
+        // expected
+      }
+      assert Files.list(dir).withCloseable { it.count() } == 1
+    }
+    finally {
+      dir.toFile().deleteDir()
+    }
+  }
+
+  @Test
+  void 'read rejects other files'() {
+    def file = Files.createTempFile('paths', '.filter')
+    try {
+      Files.write(file, new byte[64])
+      try {
+        MavenPathFilter.read(file)
+        assert false
+      }
+      catch (IOException expected) {
+        // expected
+      }
+    }
+    finally {
+      Files.deleteIfExists(file)
+    }
+  }
+
+  @Test
+  void 'built from index file'() {
+    def file = Files.createTempFile('paths', '.idx')
+    try {
+      def paths = (0..<100).collect { Maven2PathParser.parse(path(it)) }
+      MavenPathIndexFile.write(file, paths)
+      def filter = MavenPathFilter.of(MavenPathIndexFile.open(file), 0.01)
+      paths.each {
+        assert filter.mightContain(it)
+      }
+    }
+    finally {
+      Files.deleteIfExists(file)
+    }
+  }
+
+  @Test
+  void 'concurrent inserts'() {
+    def filter = MavenPathFilter.create(80_000, 0.01)
+    def executor = Executors.newFixedThreadPool(8)
+    try {
+      (0..<8).each { thread ->
+        executor.submit {
+          for (int i = thread; i < 80_000; i += 8) {
+            filter.add(path(i))
+          }
+        }
+      }
+    }
+    finally {
+      executor.shutdown()
+      assert executor.awaitTermination(1, TimeUnit.MINUTES)
+    }
+    for (int i = 0; i < 80_000; i++) {
+      assert filter.mightContain(path(i))
+    }
+  }
+
+  @Test(expected = IllegalArgumentException)
+  void 'too many expected paths'() {
+    MavenPathFilter.create(Long.MAX_VALUE / 2 as long, 0.01)
+  }
+
+  @Test(expected = IllegalArgumentException)
+  void 'invalid false positive rate'() {
+    MavenPathFilter.create(1_000, 1.0)
+  }
+}
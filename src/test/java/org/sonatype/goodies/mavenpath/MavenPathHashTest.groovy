@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
+import org.junit.Test
+
+/**
+ * {@link MavenPath#hashCode()}, {@link MavenPath#equals(Object)} and {@link MavenPath#fingerprint(CharSequence)} tests.
+ */
+class MavenPathHashTest
+{
+  private static final List<String> PATHS = [
+      'junit/junit/4.13.2/junit-4.13.2.jar',
+      'junit/junit/4.13.2/junit-4.13.2.jar.sha1',
+      'org/example/foo/1.0-SNAPSHOT/foo-1.0-20191029.053716-17.jar',
+      'org/example/foo/maven-metadata.xml',
+      'org/example/foo/1.0-SNAPSHOT/maven-metadata.xml.md5'
+  ]
+
+  private static List<MavenPath> forms(final String path) {
+    byte[] bytes = path.getBytes(StandardCharsets.UTF_8)
+    return [
+        Maven2PathParser.parse(path),
+        Maven2PathParser.parseCompact(path),
+        Maven2PathParser.parse(new StringBuilder(path)),
+        Maven2PathParser.parse(bytes, 0, bytes.length),
+        Maven2PathParser.parse(ByteBuffer.wrap(bytes))
+    ]
+  }
+
+  @Test
+  void 'hash and equality consistent across forms'() {
+    PATHS.each { path ->
+      def forms = forms(path)
+      forms.each { a ->
+        assert a.hashCode() == path.hashCode()
+        assert a.fingerprint == MavenPath.fingerprint(path)
+        forms.each { b ->
+          assert a == b
+        }
+      }
+    }
+  }
+
+  @Test
+  void 'different paths not equal'() {
+    def a = Maven2PathParser.parse(PATHS[0])
+    def b = Maven2PathParser.parse(PATHS[1])
+    assert a != b
+    assert a.fingerprint != b.fingerprint
+
+    // same hash, different path
+    assert 'Aa'.hashCode() == 'BB'.hashCode()
+    def c = Maven2PathParser.parse('org/example/foo/1.0/foo-1.0-Aa.jar')
+    def d = Maven2PathParser.parse('org/example/foo/1.0/foo-1.0-BB.jar')
+    assert c.hashCode() == d.hashCode()
+    assert c != d
+    assert c.fingerprint != d.fingerprint
+  }
+
+  @Test
+  void 'hash restored after deserialization'() {
+    PATHS.each {
+      def path = Maven2PathParser.parse(it)
+      def bytes = new ByteArrayOutputStream()
+      new ObjectOutputStream(bytes).writeObject(path)
+      def copy = (MavenPath) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject()
+      assert copy.hashCode() == path.hashCode()
+      assert copy == path
+    }
+  }
+
+  @Test
+  void 'fingerprint is stable'() {
+    // pinned; fingerprints may be persisted
+    assert MavenPath.fingerprint('') == 0x9ca066f1a4ab2eeaL
+    assert MavenPath.fingerprint(PATHS[0]) == 0xbe35d7808543500bL
+    assert MavenPath.fingerprint(PATHS[0]) == MavenPath.fingerprint(new StringBuilder(PATHS[0]))
+    assert MavenPath.fingerprint('a') != MavenPath.fingerprint('a\u0000')
+    assert MavenPath.fingerprint('abcd') != MavenPath.fingerprint('abcd\u0000')
+  }
+
+  @Test
+  void 'fingerprint distribution'() {
+    Set<Long> fingerprints = new HashSet<>()
+    Set<Integer> low = new HashSet<>()
+    int count = 100_000
+    for (int i = 0; i < count; i++) {
+      long fingerprint = MavenPath.fingerprint("org/example/foo/1.${i}/foo-1.${i}.jar")
+      fingerprints.add(fingerprint)
+      low.add((int) (fingerprint & 0xFFFF))
+    }
+    assert fingerprints.size() == count
+    // all 16-bit buckets should be hit by 100k well-mixed values
+    assert low.size() > 0xFFFF * 0.75
+  }
+}
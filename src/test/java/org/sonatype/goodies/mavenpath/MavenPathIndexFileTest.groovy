@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import java.nio.ByteBuffer
+import java.nio.file.Files
+import java.nio.file.Path
+
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+
+/**
+ * {@link MavenPathIndexFile} tests.
+ */
+class MavenPathIndexFileTest
+{
+  private static final List<String> PATHS = [
+      'org/apache/maven/maven-core/maven-metadata.xml',
+      'org/apache/maven/maven-core/maven-metadata.xml.md5',
+      'org/apache/maven/maven-core/3.6.0/maven-core-3.6.0.jar',
+      'org/apache/maven/maven-core/3.6.0/maven-core-3.6.0.jar.sha1',
+      'org/apache/maven/maven-core/3.6.0/maven-core-3.6.0-sources.jar',
+      'org/apache/maven/maven-core/4.0-SNAPSHOT/maven-core-4.0-20191029.053716-1.jar',
+      'org/apache/maven/plugins/maven-jar-plugin/3.0/maven-jar-plugin-3.0.jar',
+      'org/apachex/foo/1/foo-1.jar'
+  ]
+
+  private Path file
+
+  private MavenPathIndexFile index
+
+  @Before
+  void setUp() {
+    file = Files.createTempFile('paths', '.idx')
+    def paths = PATHS.collect { Maven2PathParser.parse(it) }
+    MavenPathIndexFile.write(file, paths + paths)
+    index = MavenPathIndexFile.open(file)
+    println index
+  }
+
+  @After
+  void tearDown() {
+    Files.deleteIfExists(file)
+  }
+
+  @Test
+  void 'paths round-trip in sorted order'() {
+    assert index.size() == PATHS.size()
+    assert (0..<index.size()).collect { index.getPath(it) } == PATHS.toSorted()
+    PATHS.each {
+      def expected = Maven2PathParser.parse(it)
+      def actual = index.get(index.indexOf(it))
+      assert actual == expected
+      assert actual.class == expected.class
+      assert actual.toString() == expected.toString()
+      assert actual.fileName == expected.fileName
+    }
+  }
+
+  @Test
+  void 'failed write leaves no temporary file'() {
+    def dir = Files.createTempDirectory('paths')
+    try {
+      // target is a non-empty directory, so replacing it fails
+      def target = dir.resolve('paths.idx')
+      Files.createDirectories(target.resolve('child'))
+      try {
+        MavenPathIndexFile.write(target, PATHS.collect { Maven2PathParser.parse(it) })
+        assert false
+      }
+      catch (IOException expected) {
+        // expected
+      }
+      assert Files.list(dir).withCloseable { it.count() } == 1
+    }
+    finally {
+      dir.toFile().deleteDir()
+    }
+  }
+
+  @Test
+  void 'lookup missing path'() {
+    assert !index.contains('org/apache/maven/maven-core/3.6.0/maven-core-3.6.0.pom')
+    assert index.indexOf('a') == -1
+    assert index.indexOf('z') == -(PATHS.size() + 1)
+  }
+
+  @Test
+  void 'prefix scan'() {
+    assert index.scan('org/apache/maven/maven-core/3.6.0/').count() == 3
+    assert index.scanGroup('org.apache').count() == PATHS.size() - 1
+    assert index.scan('org/apache/maven/maven-core/3.6.1/').count() == 0
+    assert index.lowerBound('') == 0
+    assert index.upperBound('') == PATHS.size()
+  }
+
+  @Test
+  void 'reject corrupt counts'() {
+    byte[] bytes = Files.readAllBytes(file)
+    int strings = ByteBuffer.wrap(bytes).getInt(8)
+    int records = ByteBuffer.wrap(bytes).getInt(12)
+    // string and record counts; the first wraps the int offsets back to the start of the file
+    [[100663295, 520093696], [0x40000000, records], [Integer.MAX_VALUE, records], [strings, Integer.MAX_VALUE]].each {
+      def copy = bytes.clone()
+      ByteBuffer.wrap(copy).putInt(8, it[0]).putInt(12, it[1])
+      Files.write(file, copy)
+      try {
+        MavenPathIndexFile.open(file)
+        assert false
+      }
+      catch (IOException expected) {
+        // expected
+      }
+    }
+  }
+
+  @Test(expected = IOException)
+  void 'reject foreign file'() {
+    Files.write(file, 'not an index file'.bytes)
+    MavenPathIndexFile.open(file)
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import org.junit.Before
+import org.junit.Test
+
+/**
+ * {@link MavenPathIndex} tests.
+ */
+class MavenPathIndexTest
+{
+  private static final List<String> PATHS = [
+      'org/apache/maven/maven-core/maven-metadata.xml',
+      'org/apache/maven/maven-core/3.6.0/maven-core-3.6.0.jar',
+      'org/apache/maven/maven-core/3.6.0/maven-core-3.6.0.pom',
+      'org/apache/maven/maven-core/3.6.1/maven-core-3.6.1.jar',
+      'org/apache/maven/maven-core/4.0-SNAPSHOT/maven-core-4.0-20191029.053716-1.jar',
+      'org/apache/maven/plugins/maven-jar-plugin/3.0/maven-jar-plugin-3.0.jar',
+      'org/apachex/foo/1/foo-1.jar'
+  ]
+
+  private MavenPathIndex index
+
+  @Before
+  void setUp() {
+    index = new MavenPathIndex()
+    PATHS.each { assert index.add(Maven2PathParser.parse(it)) }
+  }
+
+  @Test
+  void 'duplicates are ignored'() {
+    assert !index.add(Maven2PathParser.parse(PATHS[1]))
+    assert index.size() == PATHS.size()
+    assert index.contains(Maven2PathParser.parse(PATHS[1]))
+  }
+
+  @Test
+  void 'group prefix matches whole segments'() {
+    assert index.getGroupIds('org.apache') == ['org.apache.maven', 'org.apache.maven.plugins']
+    assert index.getGroupIds('') == ['org.apache.maven', 'org.apache.maven.plugins', 'org.apachex']
+    assert index.getGroupIds('org.apach') == []
+    assert index.getPaths('org.apache')*.path.sort() == PATHS.findAll { it.startsWith('org/apache/') }.sort()
+  }
+
+  @Test
+  void 'artifacts and versions'() {
+    assert index.getArtifactIds('org.apache.maven') == ['maven-core']
+    assert index.getArtifactIds('org.apache') == []
+    assert index.getVersions('org.apache.maven', 'maven-core') == ['3.6.0', '3.6.1', '4.0-SNAPSHOT']
+    assert index.getVersions('org.apache.maven', 'maven-core', '3.6') == ['3.6.0', '3.6.1']
+    assert index.getVersions('org.apache.maven', 'missing') == []
+  }
+
+  @Test
+  void 'paths of version'() {
+    assert index.getPaths('org.apache.maven', 'maven-core', '3.6.0')*.path == [PATHS[1], PATHS[2]]
+    def snapshots = index.getPaths('org.apache.maven', 'maven-core', '4.0-SNAPSHOT')
+    assert snapshots.size() == 1
+    assert snapshots[0] instanceof SnapshotArtifactPath
+  }
+
+  @Test
+  void 'remove prunes empty nodes'() {
+    PATHS.each { assert index.remove(Maven2PathParser.parse(it)) }
+    assert !index.remove(Maven2PathParser.parse(PATHS[0]))
+    assert index.size() == 0
+    assert index.getGroupIds('') == []
+  }
+
+  @Test
+  void 'groupId with trailing dot'() {
+    def path = Maven2PathParser.parse('g./a/1/a-1.jar')
+    assert path.groupId == 'g.'
+    assert index.add(path)
+    assert index.add(Maven2PathParser.parse('g/b/1/b-1.jar'))
+    assert index.contains(path)
+    assert index.getArtifactIds('g.') == ['a']
+    assert index.getArtifactIds('g') == ['b']
+    assert index.getVersions('g.', 'a') == ['1']
+    assert index.getPaths('g.', 'a', '1') == [path]
+    assert index.getGroupIds('g') == ['g', 'g.']
+    assert index.getGroupIds('g.') == ['g.']
+    assert index.getPaths('g.') == [path]
+    assert index.remove(path)
+    assert index.getArtifactIds('g.') == []
+    assert index.getGroupIds('g') == ['g']
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import org.junit.Test
+
+import static org.sonatype.goodies.mavenpath.MavenPathLimits.Rejection.TOO_LONG
+import static org.sonatype.goodies.mavenpath.MavenPathLimits.Rejection.TOO_MANY_SEGMENTS
+import static org.sonatype.goodies.mavenpath.MavenPathLimits.Rejection.WORK_EXCEEDED
+
+/**
+ * {@link MavenPathLimits} tests.
+ */
+class MavenPathLimitsTest
+{
+  private static final String PATH = 'org/apache/maven/maven-core/3.6.0/maven-core-3.6.0.jar'
+
+  private static MavenPathLimits.Rejection rejectionOf(final Closure parse) {
+    try {
+      parse()
+      return null
+    }
+    catch (MavenPathRejectedException e) {
+      return e.rejection
+    }
+  }
+
+  @Test
+  void 'default limits accept normal paths'() {
+    assert Maven2PathParser.parse(PATH, MavenPathLimits.DEFAULT) == Maven2PathParser.parse(PATH)
+    assert Maven2PathParser.parse('some/stupid/path', MavenPathLimits.DEFAULT) == null
+    assert Maven1PathParser.parse('org.jruby/jars/jruby-1.0.jar', MavenPathLimits.DEFAULT) instanceof ArtifactPath
+  }
+
+  @Test
+  void 'check length and segments'() {
+    def limits = new MavenPathLimits(PATH.length(), 6, 1000)
+    assert limits.check(PATH) == null
+    assert limits.check(PATH + 'x') == TOO_LONG
+    assert limits.check('a/b/c/d/e/f/g') == TOO_MANY_SEGMENTS
+  }
+
+  @Test
+  void 'reject before scanning'() {
+    assert rejectionOf { Maven2PathParser.parse(PATH, new MavenPathLimits(10, 64, 1000)) } == TOO_LONG
+    assert rejectionOf { Maven2PathParser.parse(PATH, new MavenPathLimits(100, 3, 1000)) } == TOO_MANY_SEGMENTS
+    assert rejectionOf { Maven1PathParser.parse('a/b/c/d', new MavenPathLimits(100, 3, 1000)) } == TOO_MANY_SEGMENTS
+  }
+
+  @Test
+  void 'work budget stops scanning'() {
+    assert rejectionOf { Maven2PathParser.parse(PATH, new MavenPathLimits(2048, 64, PATH.length())) } == WORK_EXCEEDED
+
+    String crafted = ('a-a/' * 60) + ('a-a-' * 400) + 'x'
+    assert rejectionOf { Maven2PathParser.parse(crafted, new MavenPathLimits(4096, 64, 4096)) } == WORK_EXCEEDED
+  }
+
+  @Test(expected = IllegalArgumentException)
+  void 'limits must be positive'() {
+    new MavenPathLimits(0, 1, 1)
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.atomic.AtomicInteger
+
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+
+/**
+ * {@link MavenRepositoryWalker} tests.
+ */
+class MavenRepositoryWalkerTest
+{
+  private static final List<String> PATHS = [
+      'foo/bar/baz/maven-metadata.xml',
+      'foo/bar/baz/maven-metadata.xml.sha1',
+      'foo/bar/baz/1.0/baz-1.0.jar',
+      'foo/bar/baz/1.0/baz-1.0.jar.sha1',
+      'foo/bar/baz/1.0/baz-1.0.pom',
+      'foo/bar/baz/1.0-SNAPSHOT/maven-metadata.xml',
+      'foo/bar/baz/1.0-SNAPSHOT/baz-1.0-20191029.053716-1.jar',
+      'foo/bar/baz/1.0-SNAPSHOT/baz-1.0-20191029.053716-1.jar.md5',
+      'org/example/qux/2.0/qux-2.0-sources.jar',
+      'org/example/qux/2.0/README.txt',
+      'robots.txt'
+  ]
+
+  private Path root
+
+  private ForkJoinPool pool
+
+  @Before
+  void setUp() {
+    root = Files.createTempDirectory('repository')
+    PATHS.each {
+      Path file = root.resolve(it)
+      Files.createDirectories(file.parent)
+      Files.write(file, [1, 2, 3] as byte[])
+    }
+    pool = new ForkJoinPool(4)
+  }
+
+  @After
+  void tearDown() {
+    pool.shutdown()
+    root.toFile().deleteDir()
+  }
+
+  private List<String> walk(final MavenRepositoryWalker.Filter filter) {
+    def results = new ConcurrentLinkedQueue<MavenPath>()
+    new MavenRepositoryWalker(root, pool).walk(filter, { results.add(it) })
+    return results*.path.sort()
+  }
+
+  @Test
+  void 'walk all'() {
+    assert walk(MavenRepositoryWalker.Filter.ALL) == PATHS.findAll { Maven2PathParser.parse(it) != null }.sort()
+  }
+
+  @Test
+  void 'skip subordinates'() {
+    assert walk(MavenRepositoryWalker.Filter.skipSubordinates()) == [
+        'foo/bar/baz/1.0-SNAPSHOT/baz-1.0-20191029.053716-1.jar',
+        'foo/bar/baz/1.0-SNAPSHOT/maven-metadata.xml',
+        'foo/bar/baz/1.0/baz-1.0.jar',
+        'foo/bar/baz/1.0/baz-1.0.pom',
+        'foo/bar/baz/maven-metadata.xml',
+        'org/example/qux/2.0/qux-2.0-sources.jar'
+    ]
+  }
+
+  @Test
+  void 'snapshots only'() {
+    // parsed as a snapshot, as the version directory is matched ignoring case
+    Path lower = root.resolve('foo/bar/qux/2.0-snapshot/qux-2.0-20191029.053716-1.jar')
+    Files.createDirectories(lower.parent)
+    Files.write(lower, [1] as byte[])
+    assert Maven2PathParser.parse('foo/bar/qux/2.0-snapshot/qux-2.0-20191029.053716-1.jar') instanceof SnapshotArtifactPath
+
+    def filter = MavenRepositoryWalker.Filter.snapshotsOnly().and(MavenRepositoryWalker.Filter.skipSubordinates())
+    assert walk(filter) == [
+        'foo/bar/baz/1.0-SNAPSHOT/baz-1.0-20191029.053716-1.jar',
+        'foo/bar/baz/1.0-SNAPSHOT/maven-metadata.xml',
+        'foo/bar/qux/2.0-snapshot/qux-2.0-20191029.053716-1.jar'
+    ]
+  }
+
+  @Test
+  void 'directories can be pruned'() {
+    def filter = new MavenRepositoryWalker.Filter() {
+      @Override
+      boolean acceptDirectory(final CharSequence directory, final String name) {
+        return name != 'foo'
+      }
+    }
+    assert walk(filter) == ['org/example/qux/2.0/qux-2.0-sources.jar']
+  }
+
+  @Test
+  void 'consumer failure stops walk'() {
+    (0..<200).each {
+      Path file = root.resolve("many/group${it}/a/1.0/a-1.0.jar")
+      Files.createDirectories(file.parent)
+      Files.write(file, [1] as byte[])
+    }
+    def calls = new AtomicInteger()
+    try {
+      new MavenRepositoryWalker(root, pool).walk({
+        if (calls.incrementAndGet() == 20) {
+          throw new IllegalStateException('boom')
+        }
+      })
+      assert false
+    }
+    catch (IllegalStateException e) {
+      assert e.message == 'boom'
+    }
+    int seen = calls.get()
+    assert seen < 200
+    Thread.sleep(100)
+    assert calls.get() == seen
+  }
+
+  @Test
+  void 'unreadable entries are skipped'() {
+    def dir = root.resolve('org/vanish/x/1.0')
+    Files.createDirectories(dir)
+    ['x-1.0.jar', 'x-1.0.pom'].each { Files.write(dir.resolve(it), [1] as byte[]) }
+
+    def failures = new ConcurrentLinkedQueue<String>()
+    def filter = new MavenRepositoryWalker.Filter() {
+      @Override
+      boolean acceptFile(final CharSequence directory, final String fileName) {
+        if (directory.toString() == 'org/vanish/x/1.0/') {
+          // delete the sibling after it was listed, before it is visited
+          Files.deleteIfExists(dir.resolve(fileName == 'x-1.0.jar' ? 'x-1.0.pom' : 'x-1.0.jar'))
+        }
+        return true
+      }
+
+      @Override
+      void failed(final CharSequence directory, final String name, final IOException cause) {
+        failures.add("${directory}${name}".toString())
+      }
+    }
+    def results = walk(filter)
+    assert results.containsAll(PATHS.findAll { Maven2PathParser.parse(it) != null })
+    assert results.count { it.startsWith('org/vanish/') } == 1
+    assert failures.size() == 1
+    assert failures.peek().startsWith('org/vanish/x/1.0/x-1.0.')
+  }
+
+  @Test(expected = IOException)
+  void 'missing root fails'() {
+    new MavenRepositoryWalker(root.resolve('missing'), pool).walk({})
+  }
+}
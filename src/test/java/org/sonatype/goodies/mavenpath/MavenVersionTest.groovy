@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import org.junit.Test
+import spock.lang.Specification
+
+/**
+ * {@link MavenVersion} tests.
+ */
+class MavenVersionTest
+    extends Specification
+{
+  @Test
+  void 'compare versions'() {
+    expect:
+      Integer.signum(MavenVersion.parse(left).compareTo(MavenVersion.parse(right))) == result
+      Integer.signum(MavenVersion.parse(right).compareTo(MavenVersion.parse(left))) == -result
+      (MavenVersion.parse(left) == MavenVersion.parse(right)) == (result == 0)
+    where:
+      // @formatter:off
+      left                    | right                   || result
+      '1'                     | '1.0.0'                 || 0
+      '1.0'                   | '1-ga'                  || 0
+      '1.0'                   | '1.0.Final'             || 0
+      '1.0'                   | '1.0.RELEASE'           || 0
+      '1.0-cr1'               | '1.0-rc1'               || 0
+      '1.0-a1'                | '1.0-alpha-1'           || 0
+      '1.0-alpha-1'           | '1.0-beta-1'            || -1
+      '1.0-beta-1'            | '1.0-M1'                || -1
+      '1.0-M1'                | '1.0-rc1'               || -1
+      '1.0-rc1'               | '1.0-SNAPSHOT'          || -1
+      '1.0-SNAPSHOT'          | '1.0'                   || -1
+      '1.0'                   | '1.0-sp1'               || -1
+      '1.0-sp1'               | '1.0-foo'               || -1
+      '1.0-foo'               | '1.0-jre'               || -1
+      '1.0-jre'               | '1.0.1'                 || -1
+      '1.9'                   | '1.10'                  || -1
+      '1.01'                  | '1.1'                   || 0
+      '1.0.0.X1'              | '1.0.0-X2'              || -1
+      '2.0-SNAPSHOT'          | '2.0-20200101.120000-1' || -1
+      '1.123456789012345678'  | '1.1234567890123456789' || -1
+      '1.99999999999999999999' | '1.100000000000000000000' || -1
+      // @formatter:on
+  }
+
+  @Test
+  void 'sort versions'() {
+    given:
+      def ordered = ['1.0-alpha-1', '1.0-alpha-2', '1.0-beta-1', '1.0-rc1', '1.0-SNAPSHOT', '1.0', '1.0-sp-1',
+                     '1.0.1', '1.1-SNAPSHOT', '1.1', '1.9', '1.10', '2.0-M1', '2.0']
+    expect:
+      ordered.reverse().sort(false, MavenVersion.STRING_ORDER) == ordered
+      ordered.collect { MavenVersion.parse(it) }.sort().collect { it.value } == ordered
+  }
+
+  @Test
+  void 'parse is cached'() {
+    expect:
+      MavenVersion.parse('1.2.3').is(MavenVersion.parse('1.2.3'))
+      new MavenVersion('1.2.3') == MavenVersion.parse('1.2.3')
+      !new MavenVersion('1.2.3').is(MavenVersion.parse('1.2.3'))
+  }
+
+  @Test
+  void 'exposed by artifact paths'() {
+    given:
+      def release = (ArtifactPath) Maven2PathParser.parse('foo/bar/1.10/bar-1.10.jar')
+      def snapshot = (SnapshotArtifactPath) Maven2PathParser.parse('foo/bar/1.9-SNAPSHOT/bar-1.9-20200101.120000-1.jar')
+    expect:
+      release.mavenVersion.value == '1.10'
+      release.mavenVersion.is(release.mavenVersion)
+      snapshot.mavenVersion.value == '1.9-20200101.120000-1'
+      snapshot.mavenBaseVersion.value == '1.9-SNAPSHOT'
+      snapshot.mavenBaseVersion < release.mavenVersion
+  }
+}
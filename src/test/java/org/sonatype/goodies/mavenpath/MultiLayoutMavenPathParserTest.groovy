@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import org.junit.Test
+
+/**
+ * {@link MultiLayoutMavenPathParser} and {@link MavenPathLayout} tests.
+ */
+class MultiLayoutMavenPathParserTest
+{
+  private static final List<String> MAVEN2 = [
+      'junit/junit/4.13.2/junit-4.13.2.jar',
+      'org/jars/foo/1.0/foo-1.0.jar',
+      'com/example/app/2.1-SNAPSHOT/app-2.1-20191029.053716-17-tests.jar.sha1',
+      'org/apache/maven/plugins/maven-metadata.xml',
+      'junit/junit/maven-metadata.xml.md5',
+      'org/maven-metadata.xml',
+      'org/tools/maven-metadata.xml'
+  ]
+
+  private static final List<String> MAVEN1 = [
+      'activecluster/poms/activecluster-1.0-SNAPSHOT.pom',
+      'org.jruby/javadocs/jruby-1.0RC1-SNAPSHOT-javadoc.jar',
+      'org.jruby/jars/jruby-1.0RC1-SNAPSHOT.jar.md5',
+      'maven/java-sources/velocity-1.5-SNAPSHOT-sources.jar',
+      'castor/ejbs/castor-ejb-1.0.7-SNAPSHOT-client.jar.sha1'
+  ]
+
+  private static final List<String> INVALID = [
+      '',
+      '/junit/junit/4.13.2/junit-4.13.2.jar',
+      'junit/junit/4.13.2/',
+      'robots.txt',
+      'maven-metadata.xml',
+      'some/stupid/path',
+      'a/b/c-1.0.jar',
+      'some/stupid/path/more/in/it'
+  ]
+
+  @Test
+  void 'detect layout'() {
+    def parser = MultiLayoutMavenPathParser.create()
+    MAVEN2.each {
+      assert MavenPathLayout.isMaven2(it)
+      assert parser.detect(it).is(MavenPathLayout.MAVEN2)
+    }
+    MAVEN1.each {
+      assert MavenPathLayout.isMaven1(it)
+      assert !MavenPathLayout.isMaven2(it)
+      assert parser.detect(new StringBuilder(it)).is(MavenPathLayout.MAVEN1)
+    }
+    ['', 'robots.txt', 'maven-metadata.xml', '/a/jars/a-1.0.jar', 'a/jars/', 'a//a-1.0.jar', 'a/b/c-1.0.jar'].each {
+      assert parser.detect(it) == null
+    }
+  }
+
+  @Test
+  void 'parses as trying each layout in turn'() {
+    def parser = MultiLayoutMavenPathParser.create()
+    (MAVEN2 + MAVEN1 + INVALID).each {
+      def expected = Maven2PathParser.parse(it) ?: Maven1PathParser.parse(it)
+      def actual = parser.parse(it)
+      assert actual == expected
+      assert actual?.class == expected?.class
+    }
+    println parser
+    assert parser.getHitCount(MavenPathLayout.MAVEN2) == MAVEN2.size()
+    assert parser.getHitCount(MavenPathLayout.MAVEN1) == MAVEN1.size()
+    assert parser.getMatchCount(MavenPathLayout.MAVEN1) == MAVEN1.size()
+    assert parser.getMatchCount(MavenPathLayout.MAVEN2) == MAVEN2.size() + 1
+    assert parser.undetectedCount == INVALID.size() - 1
+    assert parser.fallbackCount == 0
+  }
+
+  @Test
+  void 'generated paths parse as trying each layout in turn'() {
+    def parser = MultiLayoutMavenPathParser.create()
+    def segments = ['org', 'jars', 'poms', 'a', 'b-1.0.jar', '1.0', 'a-1.0.jar', 'a-1.0-sources.jar', 'java-sources',
+                    'maven-metadata.xml', '1.0-SNAPSHOT', 'a-1.0-20200101.120000-1.jar', 'x.md5', '']
+    def random = new Random(42)
+    20_000.times {
+      def path = (0..random.nextInt(6)).collect { segments[random.nextInt(segments.size())] }.join('/')
+      assert parser.parse(path) == (Maven2PathParser.parse(path) ?: Maven1PathParser.parse(path))
+    }
+  }
+
+  @Test
+  void 'fallback to other layouts'() {
+    // maven-1 artifact containing a slash; detected as maven-2 by depth
+    def path = 'org/jars/a/b-1.0.jar'
+    assert new MultiLayoutMavenPathParser([MavenPathLayout.MAVEN2, MavenPathLayout.MAVEN1], false).parse(path) == null
+
+    def parser = MultiLayoutMavenPathParser.create()
+    assert parser.fallback
+    assert parser.parse(path) == Maven1PathParser.parse(path)
+    assert parser.parse('robots.txt') == null
+    assert parser.getHitCount(MavenPathLayout.MAVEN1) == 1
+    assert parser.getMatchCount(MavenPathLayout.MAVEN1) == 0
+    assert parser.fallbackCount == 1
+    assert parser.undetectedCount == 1
+  }
+
+  @Test
+  void 'custom layout and parser'() {
+    def caching = CachingMavenPathParser.maven2(100)
+    def maven2 = MavenPathLayout.MAVEN2.withParser(caching)
+    def custom = new MavenPathLayout('custom', { it.length() > 0 && it.charAt(0) == (char) '~' },
+        { it == '~junit' ? Maven2PathParser.parse('junit/junit/4.13.2/junit-4.13.2.jar') : null })
+    def parser = new MultiLayoutMavenPathParser([custom, maven2, MavenPathLayout.MAVEN1], false)
+
+    assert parser.parse('~junit').toString() == Maven2PathParser.parse('junit/junit/4.13.2/junit-4.13.2.jar').toString()
+    assert parser.parse('~other') == null
+    assert parser.parse('junit/junit/4.13.2/junit-4.13.2.jar').is(parser.parse('junit/junit/4.13.2/junit-4.13.2.jar'))
+    assert caching.hitCount == 1
+    assert parser.getHitCount(custom) == 1
+    assert parser.getMatchCount(custom) == 2
+    assert parser.getHitCount(maven2) == 2
+    assert parser.layouts == [custom, maven2, MavenPathLayout.MAVEN1]
+  }
+
+  @Test(expected = IllegalArgumentException)
+  void 'statistics of unknown layout'() {
+    MultiLayoutMavenPathParser.create().getHitCount(MavenPathLayout.MAVEN2.withParser(MavenPathParser.maven2()))
+  }
+
+  @Test(expected = IllegalArgumentException)
+  void 'layouts required'() {
+    new MultiLayoutMavenPathParser([], false)
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import java.util.regex.Matcher
+import java.util.regex.Pattern
+
+import javax.annotation.Nullable
+
+/**
+ * Reference regular-expression based Maven-1 path parser.
+ *
+ * This is the implementation {@link Maven1PathParser} used before switching to {@link Maven1PathScanner};
+ * kept to verify both produce the same results.
+ */
+class RegexMaven1PathParser
+{
+  static final Pattern artifactPattern = Pattern.compile(
+      '^(?<group>[^/]+)/(?<types>[^/]+s)/(?<filename>(?<artifact>\\D+|[a-z0-9-_]+)-(?<version>\\d.+)\\.(?<extension>\\D+(\\.md5|\\.sha1)?))$'
+  )
+
+  @Nullable
+  static MavenPath parse(final String path) {
+    if (path.startsWith('/') || path.endsWith('/')) {
+      return null
+    }
+
+    Matcher matcher = artifactPattern.matcher(path)
+    if (!matcher.matches()) {
+      return null
+    }
+
+    String types = matcher.group('types')
+    String filename = matcher.group('filename')
+    String version = matcher.group('version')
+
+    String classifier = null
+    if (types == 'java-sources') {
+      classifier = 'sources'
+    }
+    else if (types == 'javadocs') {
+      classifier = 'javadoc'
+    }
+    else if (types == 'ejbs' && (filename.endsWith('client.jar') ||
+        filename.endsWith('client.jar.sha1') ||
+        filename.endsWith('client.jar.md5'))) {
+      classifier = 'client'
+    }
+
+    if (classifier != null) {
+      version = version.substring(0, version.length() - (classifier.length() + 1))
+    }
+
+    if (version.endsWith(SnapshotArtifactPath.SNAPSHOT_SUFFIX)) {
+      return new SnapshotArtifactPath(path, filename, matcher.group('group'), matcher.group('artifact'), version,
+          classifier, matcher.group('extension'))
+    }
+    return new ArtifactPath(path, filename, matcher.group('group'), matcher.group('artifact'), version, classifier,
+        matcher.group('extension'))
+  }
+}
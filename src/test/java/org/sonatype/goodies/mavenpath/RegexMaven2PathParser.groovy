@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import java.util.regex.Matcher
+import java.util.regex.Pattern
+
+import javax.annotation.Nullable
+
+import static org.sonatype.goodies.mavenpath.SnapshotArtifactPath.SNAPSHOT_SUFFIX
+
+/**
+ * Reference regular-expression based Maven-2 path parser.
+ *
+ * This is the implementation {@link Maven2PathParser} used before switching to {@link Maven2PathScanner};
+ * kept to verify both produce the same results.
+ */
+class RegexMaven2PathParser
+{
+  private static final Pattern mavenMetadataPattern = Pattern.compile(
+      '^(?<prefix>.+)/(?<filename>maven-metadata\\.xml(\\.(?<subtype>.+))?)$'
+  )
+
+  private static final Pattern artifactPattern = Pattern.compile(
+      '^(?<group>.+)/(?<artifact>[^/]+)/(?<version>[^/]+)/(?<filename>\\k<artifact>-\\k<version>(-(?<classifier>[^.]+))?\\.(?<extension>.+))$'
+  )
+
+  private static final Pattern snapshotArtifactPattern = Pattern.compile(
+      '^(?<group>.+)/(?<artifact>[^/]+)/(?<bversion>(?<vprefix>[^/]+)-SNAPSHOT)/(?<filename>\\k<artifact>-(?<version>\\k<vprefix>-(?<vsuffix>(?<vtimestamp>\\d+\\.\\d+)-(?<vbuild>\\d+)))(-(?<classifier>[^.]+))?\\.(?<extension>.+))$',
+      Pattern.CASE_INSENSITIVE
+  )
+
+  @Nullable
+  static MavenPath parse(final String path) {
+    if (path.startsWith('/') || path.endsWith('/')) {
+      return null
+    }
+
+    Matcher matcher = match(mavenMetadataPattern, path)
+    if (matcher != null) {
+      String prefix = matcher.group('prefix')
+      String version = null
+      String artifactId = null
+      String groupId
+
+      String[] segments = prefix.split('/')
+      String lastSegment = segments[segments.length - 1]
+      if (segments.length > 2 && lastSegment.endsWith(SNAPSHOT_SUFFIX)) {
+        version = lastSegment
+        artifactId = segments[segments.length - 2]
+        groupId = String.join('.', Arrays.copyOfRange(segments, 0, segments.length - 2))
+      }
+      else if (segments.length > 1 && (lastSegment.contains('.') || lastSegment.contains('-'))) {
+        artifactId = lastSegment
+        groupId = String.join('.', Arrays.copyOfRange(segments, 0, segments.length - 1))
+      }
+      else {
+        groupId = prefix.replace('/', '.')
+      }
+
+      return new MavenMetadataPath(path, matcher.group('filename'), prefix, groupId, artifactId, version,
+          matcher.group('subtype'))
+    }
+
+    matcher = match(artifactPattern, path)
+    if (matcher != null) {
+      return new ArtifactPath(
+          path,
+          matcher.group('filename'),
+          matcher.group('group').replace('/', '.'),
+          matcher.group('artifact'),
+          matcher.group('version'),
+          matcher.group('classifier'),
+          matcher.group('extension')
+      )
+    }
+
+    matcher = match(snapshotArtifactPattern, path)
+    if (matcher != null) {
+      return new SnapshotArtifactPath(
+          path,
+          matcher.group('filename'),
+          matcher.group('group').replace('/', '.'),
+          matcher.group('artifact'),
+          matcher.group('bversion'),
+          matcher.group('version'),
+          matcher.group('vtimestamp'),
+          matcher.group('vbuild'),
+          matcher.group('classifier'),
+          matcher.group('extension')
+      )
+    }
+
+    return null
+  }
+
+  @Nullable
+  private static Matcher match(final Pattern pattern, final String value) {
+    Matcher result = pattern.matcher(value)
+    if (result.matches()) {
+      return result
+    }
+    return null
+  }
+}
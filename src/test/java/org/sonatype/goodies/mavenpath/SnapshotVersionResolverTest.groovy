@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+import org.junit.Before
+import org.junit.Test
+
+/**
+ * {@link SnapshotVersionResolver} tests.
+ */
+class SnapshotVersionResolverTest
+{
+  private SnapshotVersionResolver resolver
+
+  private static SnapshotArtifactPath snapshot(final int build, final String suffix = '.jar') {
+    return (SnapshotArtifactPath) Maven2PathParser.parse(
+        "foo/bar/1.0-SNAPSHOT/bar-1.0-20191029.05371${build}-${build}${suffix}")
+  }
+
+  @Before
+  void setUp() {
+    resolver = new SnapshotVersionResolver()
+    (1..5).each {
+      assert resolver.add(snapshot(it))
+      assert resolver.add(snapshot(it, '-sources.jar'))
+    }
+  }
+
+  @Test
+  void 'parse timestamp and build number'() {
+    assert SnapshotVersionResolver.parseTimestamp('20191029.053716') == 20191029053716L
+    assert SnapshotVersionResolver.parseTimestamp('2019102.053716') == -1
+    assert SnapshotVersionResolver.parseTimestamp('20191029-053716') == -1
+    assert SnapshotVersionResolver.parseBuildNumber('17') == 17
+    assert SnapshotVersionResolver.parseBuildNumber('') == -1
+    assert SnapshotVersionResolver.parseBuildNumber('1' * 19) == -1
+  }
+
+  @Test
+  void 'latest per series'() {
+    assert resolver.size() == 2
+    assert !resolver.add(snapshot(3))
+    assert resolver.getLatest('foo', 'bar', '1.0-SNAPSHOT', null, 'jar') == snapshot(5)
+    assert resolver.getLatest('foo', 'bar', '1.0-SNAPSHOT', 'sources', 'jar') == snapshot(5, '-sources.jar')
+    assert resolver.getLatest('foo', 'bar', '1.0-SNAPSHOT', null, 'pom') == null
+    assert resolver.getLatest('foo', 'bar', '1.0-SNAPSHOT') as Set == [snapshot(5), snapshot(5, '-sources.jar')] as Set
+  }
+
+  @Test
+  void 'expired builds'() {
+    assert resolver.getExpired('foo', 'bar', '1.0-SNAPSHOT', null, 'jar', 2) == [snapshot(3), snapshot(2), snapshot(1)]
+    assert resolver.getExpired(4).size() == 2
+    assert resolver.getExpired(5).empty
+  }
+
+  @Test
+  void 'remove latest falls back'() {
+    assert resolver.remove(snapshot(5))
+    assert !resolver.remove(snapshot(5))
+    assert resolver.getLatest('foo', 'bar', '1.0-SNAPSHOT', null, 'jar') == snapshot(4)
+  }
+
+  @Test
+  void 'empty series are dropped'() {
+    (1..5).each { assert resolver.remove(snapshot(it)) }
+    assert resolver.size() == 1
+    assert resolver.getLatest('foo', 'bar', '1.0-SNAPSHOT', null, 'jar') == null
+    assert resolver.getLatest('foo', 'bar', '1.0-SNAPSHOT') == [snapshot(5, '-sources.jar')]
+    (1..5).each { assert resolver.remove(snapshot(it, '-sources.jar')) }
+    assert resolver.size() == 0
+    assert resolver.getLatest('foo', 'bar', '1.0-SNAPSHOT') == []
+    assert resolver.add(snapshot(1))
+    assert resolver.getLatest('foo', 'bar', '1.0-SNAPSHOT', null, 'jar') == snapshot(1)
+  }
+
+  @Test
+  void 'latest of one version among many'() {
+    (1..100).each {
+      assert resolver.add((SnapshotArtifactPath) Maven2PathParser.parse(
+          "foo/bar/${it}-SNAPSHOT/bar-${it}-20191029.053716-1.jar"))
+    }
+    assert resolver.size() == 102
+    assert resolver.getLatest('foo', 'bar', '1.0-SNAPSHOT') as Set == [snapshot(5), snapshot(5, '-sources.jar')] as Set
+    assert resolver.getLatest('foo', 'bar', '7-SNAPSHOT')*.path == ['foo/bar/7-SNAPSHOT/bar-7-20191029.053716-1.jar']
+    assert resolver.getLatest('foo', 'baz', '7-SNAPSHOT') == []
+  }
+
+  @Test
+  void 'maven1 snapshots are not tracked'() {
+    def path = Maven1PathParser.parse('org.jruby/jars/jruby-1.0RC1-SNAPSHOT.jar')
+    assert path instanceof SnapshotArtifactPath
+    assert path.timestamp == null
+    assert !resolver.add(path)
+    assert !resolver.remove(path)
+  }
+
+  @Test
+  void 'concurrent add and remove'() {
+    def resolver = new SnapshotVersionResolver()
+    def executor = Executors.newFixedThreadPool(4)
+    (0..<4).each { thread ->
+      executor.execute {
+        (0..<2000).each {
+          def path = (SnapshotArtifactPath) Maven2PathParser.parse(
+              "g/a/1-SNAPSHOT/a-1-20200101.000000-${it % 3 + 1}.jar")
+          if ((it + thread) % 2 == 0) {
+            resolver.add(path)
+          }
+          else {
+            resolver.remove(path)
+          }
+        }
+      }
+    }
+    executor.shutdown()
+    assert executor.awaitTermination(1, TimeUnit.MINUTES)
+    // every remaining build is reachable through its series
+    def expired = resolver.getExpired(1)
+    def latest = resolver.getLatest('g', 'a', '1-SNAPSHOT')
+    assert resolver.size() == latest.size()
+    assert resolver.size() == 0 || expired.every { it.build.toInteger() < latest[0].build.toInteger() }
+  }
+
+  @Test
+  void 'concurrent deploys'() {
+    def resolver = new SnapshotVersionResolver()
+    def executor = Executors.newFixedThreadPool(4)
+    (0..<4).each { thread ->
+      executor.execute {
+        (0..<1000).each {
+          int build = it * 4 + thread + 1
+          resolver.add((SnapshotArtifactPath) Maven2PathParser.parse(
+              "g/a/1-SNAPSHOT/a-1-20200101.${String.format('%06d', build)}-${build}.jar"))
+        }
+      }
+    }
+    executor.shutdown()
+    assert executor.awaitTermination(1, TimeUnit.MINUTES)
+    assert resolver.getLatest('g', 'a', '1-SNAPSHOT', null, 'jar').build == '4000'
+    assert resolver.getExpired(1).size() == 3999
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import org.junit.Test
+
+/**
+ * {@link SubordinatePaths} and {@link Subordinates#primaryOf(MavenPath)} tests.
+ */
+class SubordinatePathsTest
+{
+  private static final String PRIMARY = 'org/example/foo/1.0/foo-1.0-src.tar.gz'
+
+  private static final List<String> EXPECTED = [
+      PRIMARY,
+      "${PRIMARY}.sha1",
+      "${PRIMARY}.sha256",
+      "${PRIMARY}.sha512",
+      "${PRIMARY}.md5",
+      "${PRIMARY}.asc",
+      "${PRIMARY}.asc.sha1",
+      "${PRIMARY}.asc.sha256",
+      "${PRIMARY}.asc.sha512",
+      "${PRIMARY}.asc.md5"
+  ]*.toString()
+
+  @Test
+  void 'cursor visits primary and all subordinates'() {
+    def paths = ((ArtifactPath) Maven2PathParser.parse(PRIMARY)).subordinatePaths()
+    def visited = []
+    def types = []
+    while (paths.next()) {
+      visited << paths.toString()
+      types << [paths.primary, paths.checksumType, paths.signatureType]
+      assert paths.length() == visited[-1].length()
+      assert MavenPath.fingerprint(paths) == MavenPath.fingerprint(visited[-1])
+      assert paths.fingerprint == MavenPath.fingerprint(visited[-1])
+    }
+    assert visited == EXPECTED
+    assert SubordinatePaths.count() == EXPECTED.size()
+    assert types[0] == [true, null, null]
+    assert types[1] == [false, ChecksumType.SHA_1, null]
+    assert types[5] == [false, null, SignatureType.PGP]
+    assert types[9] == [false, ChecksumType.MD5, SignatureType.PGP]
+    assert !paths.next()
+
+    paths.reset()
+    assert paths.next()
+    assert paths.toString() == PRIMARY
+  }
+
+  @Test
+  void 'subordinate expands its primary'() {
+    def paths = ((ArtifactPath) Maven2PathParser.parse("${PRIMARY}.asc.sha1")).subordinatePaths()
+    assert paths.primaryPath == PRIMARY
+    assert paths.toList() == EXPECTED
+
+    def metadata = (MavenMetadataPath) Maven2PathParser.parse('org/example/foo/maven-metadata.xml.md5')
+    assert metadata.subordinatePaths().toList()[0..1] ==
+        ['org/example/foo/maven-metadata.xml', 'org/example/foo/maven-metadata.xml.sha1']
+  }
+
+  @Test
+  void 'primary of subordinate'() {
+    [
+        'org/example/foo/1.0/foo-1.0-src.tar.gz',
+        'org/example/foo/1.0/foo-1.0-src.tar.gz.sha1',
+        'org/example/foo/1.0/foo-1.0-src.tar.gz.asc.sha512',
+        'org/example/foo/1.0-SNAPSHOT/foo-1.0-20191029.053716-17-tests.jar.md5',
+        'org/example/foo/1.0-SNAPSHOT/foo-1.0-SNAPSHOT.pom.asc',
+        'org/example/foo/maven-metadata.xml.sha256',
+        'org/example/foo/1.0-SNAPSHOT/maven-metadata.xml.asc.sha1'
+    ].each {
+      def path = Maven2PathParser.parse(it)
+      def primary = Subordinates.primaryOf(path)
+      def expected = Maven2PathParser.parse(it.substring(0, Subordinates.primaryLength(it)))
+      assert primary == expected
+      assert primary.class == expected.class
+      assert primary.toString() == expected.toString()
+      assert primary.fileName == expected.fileName
+      assert !MavenPath.isSubordinate(primary)
+    }
+
+    def primary = Maven2PathParser.parse(PRIMARY)
+    assert Subordinates.primaryOf(primary).is(primary)
+    assert Subordinates.primaryOf(Maven2PathParser.parseCompact("${PRIMARY}.md5")) == primary
+  }
+
+  @Test
+  void 'primary of checksum only file'() {
+    assert Subordinates.primaryOf(Maven2PathParser.parse('org/example/foo/1.0/foo-1.0.sha1')) == null
+  }
+}
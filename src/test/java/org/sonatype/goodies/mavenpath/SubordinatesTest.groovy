@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020-present Sonatype, Inc. All rights reserved.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+package org.sonatype.goodies.mavenpath
+
+import org.junit.Test
+import spock.lang.Specification
+
+import static org.sonatype.goodies.mavenpath.ChecksumType.MD5
+import static org.sonatype.goodies.mavenpath.ChecksumType.SHA_1
+import static org.sonatype.goodies.mavenpath.ChecksumType.SHA_256
+import static org.sonatype.goodies.mavenpath.ChecksumType.SHA_512
+import static org.sonatype.goodies.mavenpath.SignatureType.PGP
+
+/**
+ * {@link Subordinates} tests.
+ */
+class SubordinatesTest
+    extends Specification
+{
+  @Test
+  void 'classify suffix'() {
+    expect:
+      Subordinates.checksumType(path) == checksum
+      Subordinates.signatureType(path) == signature
+      Subordinates.isSubordinate(path) == (checksum != null || signature != null)
+      path.substring(0, Subordinates.primaryLength(path)) == primary
+    where:
+      // @formatter:off
+      path                   | checksum | signature || primary
+      'foo-1.0.jar'          | null     | null      || 'foo-1.0.jar'
+      'foo-1.0.jar.sha1'     | SHA_1    | null      || 'foo-1.0.jar'
+      'foo-1.0.jar.sha256'   | SHA_256  | null      || 'foo-1.0.jar'
+      'foo-1.0.jar.sha512'   | SHA_512  | null      || 'foo-1.0.jar'
+      'foo-1.0.jar.md5'      | MD5      | null      || 'foo-1.0.jar'
+      'foo-1.0.jar.asc'      | null     | PGP       || 'foo-1.0.jar'
+      'foo-1.0.jar.asc.sha1' | SHA_1    | null      || 'foo-1.0.jar'
+      'foo-1.0.jar.asc.md5'  | MD5      | null      || 'foo-1.0.jar'
+      'foo-1.0.jarsha1'      | null     | null      || 'foo-1.0.jarsha1'
+      'foo-1.0.jar.SHA1'     | null     | null      || 'foo-1.0.jar.SHA1'
+      'foo-1.0.jar.sha'      | null     | null      || 'foo-1.0.jar.sha'
+      'sha1'                 | null     | null      || 'sha1'
+      '.sha1'                | SHA_1    | null      || ''
+      ''                     | null     | null      || ''
+      'foo-1.0.jar.sha1\u00e9' | null   | null    || 'foo-1.0.jar.sha1\u00e9'
+      // @formatter:on
+  }
+
+  @Test
+  void 'matches previous ofPath behavior'() {
+    expect:
+      ChecksumType.ofPath(path) == ChecksumType.values().find { path.endsWith('.' + it.extension) }
+      SignatureType.ofPath(path) == SignatureType.values().find { path.endsWith('.' + it.extension) }
+      ArtifactPath.isSubordinate(path) == (ChecksumType.ofPath(path) != null || SignatureType.ofPath(path) != null)
+    where:
+      path << ['a.jar', 'a.jar.sha1', 'a.jar.asc', 'a.pom.asc.sha256', 'maven-metadata.xml.md5', '.md5', 'md5', 'x.sha5121']
+  }
+}